@@ -11,6 +11,7 @@ import graphql.schema.GraphQLFieldsContainer;
 import graphql.schema.GraphQLInputFieldsContainer;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeReference;
@@ -23,14 +24,21 @@ import io.leangen.graphql.execution.GlobalEnvironment;
 import io.leangen.graphql.execution.ResolverInterceptor;
 import io.leangen.graphql.execution.ResolverInterceptorFactory;
 import io.leangen.graphql.execution.ResolverInterceptorFactoryParams;
+import io.leangen.graphql.execution.relay.DefaultGlobalIdCodec;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
 import io.leangen.graphql.generator.BuildContext;
 import io.leangen.graphql.generator.DelegatingInputFieldBuilder;
+import io.leangen.graphql.generator.GenerationProfiler;
+import io.leangen.graphql.generator.GenerationResult;
+import io.leangen.graphql.generator.GenerationState;
 import io.leangen.graphql.generator.JavaDeprecationMappingConfig;
+import io.leangen.graphql.generator.MetadataFootprint;
 import io.leangen.graphql.generator.OperationMapper;
 import io.leangen.graphql.generator.OperationRegistry;
 import io.leangen.graphql.generator.OperationSource;
 import io.leangen.graphql.generator.OperationSourceRegistry;
 import io.leangen.graphql.generator.RelayMappingConfig;
+import io.leangen.graphql.generator.SharedTypeCache;
 import io.leangen.graphql.generator.TypeRegistry;
 import io.leangen.graphql.generator.mapping.AbstractTypeAdapter;
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
@@ -102,11 +110,14 @@ import io.leangen.graphql.metadata.strategy.value.ScalarDeserializationStrategy;
 import io.leangen.graphql.metadata.strategy.value.ValueMapper;
 import io.leangen.graphql.metadata.strategy.value.ValueMapperFactory;
 import io.leangen.graphql.module.Module;
+import io.leangen.graphql.util.ClassFinder;
 import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.Defaults;
 import io.leangen.graphql.util.GraphQLUtils;
 import io.leangen.graphql.util.Urls;
 import io.leangen.graphql.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
@@ -117,11 +128,15 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static graphql.schema.GraphQLObjectType.newObject;
 import static java.util.Collections.addAll;
@@ -168,6 +183,9 @@ import static java.util.Collections.addAll;
 @SuppressWarnings({"WeakerAccess", "rawtypes"})
 public class GraphQLSchemaGenerator {
 
+    private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaGenerator.class);
+    private static final int REPORTED_ITEMS = 10;
+
     private InterfaceMappingStrategy interfaceStrategy = new AnnotatedInterfaceStrategy();
     private ScalarDeserializationStrategy scalarStrategy;
     private AbstractInputHandler abstractInputHandler = new NoOpAbstractInputHandler();
@@ -187,6 +205,15 @@ public class GraphQLSchemaGenerator {
     private List<InputFieldBuilder> inputFieldBuilders;
     private ResolverInterceptorFactory interceptorFactory;
     private JavaDeprecationMappingConfig javaDeprecationConfig = new JavaDeprecationMappingConfig(true, "Deprecated");
+    private GlobalIdCodec globalIdCodec = new DefaultGlobalIdCodec();
+    private int parallelism = 1;
+    private GenerationState state;
+    private SharedTypeCache sharedTypeCache;
+    private String sharedTypeCacheKey;
+    private String configurationFingerprint;
+    private ClassFinder.IndexUsage indexUsage = ClassFinder.IndexUsage.IGNORED;
+    private boolean shareClassIndex;
+    private boolean scanMemberInfo;
     private final OperationSourceRegistry operationSourceRegistry = new OperationSourceRegistry();
     private final List<ExtensionProvider<GeneratorConfiguration, TypeMapper>> typeMapperProviders = new ArrayList<>();
     private final List<ExtensionProvider<GeneratorConfiguration, SchemaTransformer>> schemaTransformerProviders = new ArrayList<>();
@@ -421,6 +448,20 @@ public class GraphQLSchemaGenerator {
         return this;
     }
 
+    /**
+     * Unregisters the operation sources of the given types, previously registered using any of the
+     * {@code withOperationsFrom...} methods. Sources registered with an explicit exposed type are matched by it as well.
+     * Intended to be followed by {@link #regenerate()}.
+     *
+     * @param serviceTypes The types of the operation sources to unregister
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withoutOperationsFrom(Type... serviceTypes) {
+        Arrays.stream(serviceTypes).forEach(this.operationSourceRegistry::unregisterOperationSources);
+        return this;
+    }
+
     /**
      * Globally registers {@link ResolverBuilder}s to be used for sources that don't have explicitly assigned builders.
      *
@@ -826,6 +867,108 @@ public class GraphQLSchemaGenerator {
         return this;
     }
 
+    /**
+     * Sets the codec used to encode and decode Relay global IDs (see {@link io.leangen.graphql.annotations.GraphQLId#relayId()}).
+     * Defaults to {@link DefaultGlobalIdCodec}, compatible with {@link Relay#toGlobalId(String, String)}.
+     *
+     * @param globalIdCodec The codec to use for Relay global IDs
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withGlobalIdCodec(GlobalIdCodec globalIdCodec) {
+        this.globalIdCodec = globalIdCodec;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads used to discover the operations (resolvers) of the registered operation sources.
+     * Useful when there are many sources, as the discovery relies heavily on reflection. The discovered operations are
+     * always merged in the order the sources were registered in, so the resulting schema is the same as when the
+     * discovery is sequential (the default). The configured resolver builders, inclusion strategy and type transformer
+     * must be thread-safe when this is used.
+     *
+     * @param parallelism The number of threads to use for the discovery. 1 (the default) disables the parallel discovery.
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     *
+     * @throws IllegalArgumentException If the given parallelism is not positive
+     */
+    public GraphQLSchemaGenerator withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, but was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Enables the use of the implementation index generated at build time by
+     * {@link io.leangen.graphql.processor.ImplementationIndexProcessor} for the automatic discovery of implementation
+     * types and abstract input types. The implementations found in the index are used instead of scanning the classpath.
+     *
+     * @param scanningFallback Whether the classpath should still be scanned for the types missing from the index.
+     *                         If {@code false}, the classpath is never scanned.
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withImplementationIndex(boolean scanningFallback) {
+        this.indexUsage = scanningFallback ? ClassFinder.IndexUsage.PREFERRED : ClassFinder.IndexUsage.EXCLUSIVE;
+        return this;
+    }
+
+    /**
+     * Makes classpath scanning (performed for the automatic discovery of implementation types and abstract input types)
+     * produce a light-weight index of class names and their supertypes only, shared by all the generators in the JVM
+     * that have this enabled. The full scan results are released right away instead of being retained until the
+     * schema is generated, and subsequent generations (by this or other generators) reuse the index instead of
+     * scanning again. Use {@link ClassFinder#clearSharedIndex()} to discard the index.
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withSharedClassIndex() {
+        this.shareClassIndex = true;
+        return this;
+    }
+
+    /**
+     * Makes classpath scanning (performed for the automatic discovery of implementation types and abstract input types)
+     * also collect the fields and methods of the classes, and their annotations. Only needed for the filters registered
+     * via {@link DefaultImplementationDiscoveryStrategy#withFilters(java.util.function.Predicate[])} or
+     * {@link AutoScanAbstractInputHandler#withCandidateFilters(java.util.function.Predicate[])} that inspect the members, as by default
+     * only the class hierarchy and class-level annotations are collected. Filters that inspect the members without
+     * this enabled fail the schema generation.
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withClasspathScanMemberInfo() {
+        this.scanMemberInfo = true;
+        return this;
+    }
+
+    /**
+     * Makes this generator share the mapped types with all the other generators using the same cache and configured
+     * the same way, e.g. when generating a schema per tenant from the same domain classes but different operations.
+     * The types mapped by any of the generators get reused by the others as they are (by instance), sparing them
+     * the time needed to map the types and the memory needed to hold them.
+     * <p>Only the generators given the same configuration key share the types. As the configured components can not
+     * be compared for equivalence, the key is the caller's guarantee that they behave the same (e.g. use the message
+     * bundles for the same language), while the classes of the components and the values of the simple settings
+     * are compared on top of it. The data fetchers of the shared types are created anew by each generator, so they
+     * always execute with the generator's own interceptors, value mappers and environment.
+     * The types getting fields from {@link io.leangen.graphql.annotations.GraphQLContext} operations, and the types
+     * referring to them, are never shared, as those fields depend on the operation sources of each generator.</p>
+     *
+     * @param sharedTypeCache The cache to share the mapped types through
+     * @param configurationKey Identifies the configuration of this generator among the ones using the same cache
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withSharedTypeCache(SharedTypeCache sharedTypeCache, String configurationKey) {
+        this.sharedTypeCache = Objects.requireNonNull(sharedTypeCache);
+        this.sharedTypeCacheKey = Objects.requireNonNull(configurationKey);
+        return this;
+    }
+
     /**
      * Registers custom schema processors that can perform arbitrary transformations on the schema just before it is built.
      *
@@ -938,7 +1081,7 @@ public class GraphQLSchemaGenerator {
         }
         interceptorFactory = new DelegatingResolverInterceptorFactory(interceptorFactories);
 
-        environment = new GlobalEnvironment(messageBundle, new Relay(), new TypeRegistry(additionalTypes.values()),
+        environment = new GlobalEnvironment(messageBundle, new Relay(), globalIdCodec, new TypeRegistry(additionalTypes.values()),
                 new ConverterRegistry(inputConverters, outputConverters), new ArgumentInjectorRegistry(argumentInjectors),
                 typeTransformer, inclusionStrategy, typeInfoGenerator);
         ExtendedGeneratorConfiguration extendedConfig = new ExtendedGeneratorConfiguration(configuration, environment);
@@ -972,6 +1115,27 @@ public class GraphQLSchemaGenerator {
         }
         List<Comparator<AnnotatedType>> finalTypeComparators = typeComparators;
         typeComparator = (t1, t2) -> finalTypeComparators.stream().anyMatch(comparator -> comparator.compare(t1, t2) == 0) ? 0 : -1;
+
+        configurationFingerprint = fingerprint(sharedTypeCacheKey, modules, resolverBuilders, nestedResolverBuilders, typeMappers, transformers,
+                outputConverters, inputConverters, argumentInjectors, interceptorFactories, inputFieldBuilders, typeComparators,
+                interfaceStrategy, scalarStrategy, abstractInputHandler, operationBuilder, directiveBuilder, internalValueMapperFactory,
+                inclusionStrategy, implDiscoveryStrategy, typeInfoGenerator, typeTransformer, globalIdCodec, messageBundle,
+                processors.stream().map(processor -> processor.getClass().getName()).sorted().collect(Collectors.toList()),
+                Arrays.toString(basePackages), additionalDirectiveTypes.toString(),
+                javaDeprecationConfig.enabled + ":" + javaDeprecationConfig.deprecationReason,
+                relayMappingConfig.inferNodeInterface + ":" + relayMappingConfig.strictConnectionSpec + ":" + relayMappingConfig.relayCompliantMutations
+                        + ":" + relayMappingConfig.wrapperFieldName + ":" + relayMappingConfig.wrapperFieldDescription);
+    }
+
+    /**
+     * Identifies the configuration the types are mapped with, on top of the key given by the caller.
+     * The components are identified by their classes, while the simple settings are expected to be given as strings.
+     */
+    private static String fingerprint(Object... configuration) {
+        return Arrays.stream(configuration)
+                .flatMap(item -> item instanceof Collection ? ((Collection<?>) item).stream() : Stream.of(item))
+                .map(item -> item == null ? "null" : item instanceof String ? (String) item : item.getClass().getName())
+                .collect(Collectors.joining(";"));
     }
 
     /**
@@ -982,58 +1146,148 @@ public class GraphQLSchemaGenerator {
      * @return A GraphQL schema
      */
     public GraphQLSchema generate() {
-        init();
+        return generate(null);
+    }
+
+    /**
+     * Regenerates the schema after top-level operation sources have been added (using the {@code withOperationsFrom...}
+     * methods) or removed (using {@link #withoutOperationsFrom(Type...)}) since the last generation, reusing as much
+     * of the previously generated schema as possible:
+     * <ul>
+     *     <li>only the added operation sources are analyzed, while the resolvers of the others are reused</li>
+     *     <li>the types of the previous schema are reused as they are, except for those gaining or losing fields
+     *     contributed by the {@link io.leangen.graphql.annotations.GraphQLContext} resolvers of the added or removed
+     *     sources, and the types referring to those</li>
+     * </ul>
+     * The types of the previous schema that are no longer reachable are left out of the new one.
+     * <p>Only the changes to the operation sources are taken into account. Any other configuration of this generator
+     * is kept the same as it was when the schema was first generated. If no schema was generated yet,
+     * this method is equivalent to {@link #generate()}.</p>
+     *
+     * @return A new GraphQL schema, sharing the unaffected types with the previously generated one
+     */
+    public GraphQLSchema regenerate() {
+        return generate(state);
+    }
+
+    private GraphQLSchema generate(GenerationState previous) {
+        GenerationProfiler profiler = log.isDebugEnabled() ? new GenerationProfiler(REPORTED_ITEMS) : GenerationProfiler.DISABLED;
+        GraphQLSchema schema = generate(profiler, previous);
+        if (profiler.isEnabled()) {
+            log.debug(profiler.report().toString());
+            log.debug(MetadataFootprint.of(schema).toString());
+        }
+        return schema;
+    }
+
+    /**
+     * Generates a GraphQL schema just like {@link #generate()}, while measuring the time (and, where supported by the JVM,
+     * the CPU time and memory) spent in each phase of the generation, and attributing it to the individual operation
+     * sources, types, classpath scans and value mappers. Useful for finding out what slows down the application startup.
+     * The same report is logged at debug level by {@link #generate()}.
+     *
+     * @return The generated GraphQL schema, together with the generation report
+     */
+    public GenerationResult generateWithReport() {
+        GenerationProfiler profiler = new GenerationProfiler(REPORTED_ITEMS);
+        GraphQLSchema schema = generate(profiler, null);
+        return new GenerationResult(schema, profiler.report());
+    }
+
+    private GraphQLSchema generate(GenerationProfiler profiler, GenerationState previous) {
+        GenerationState generationState;
+        if (previous == null || previous.getSchema() == null) {
+            profiler.phase("Initialization", this::init);
+            generationState = new GenerationState();
+        } else {
+            if (operationSourceRegistry.isEmpty()) {
+                throw new IllegalStateException("At least one top-level operation source must be registered");
+            }
+            generationState = previous;
+            generationState.retainOperationSources(operationSourceRegistry.getOperationSources());
+            environment.typeRegistry.clearDiscoveredTypes();
+        }
 
         final String queryRootName = messageBundle.interpolate(queryRoot);
         final String mutationRootName = messageBundle.interpolate(mutationRoot);
         final String subscriptionRootName = messageBundle.interpolate(subscriptionRoot);
 
+        OperationRegistry operationRegistry = profiler.phase("Resolver discovery", () -> new OperationRegistry(operationSourceRegistry,
+                operationBuilder, inclusionStrategy, typeTransformer, basePackages, environment, parallelism, profiler, generationState));
+        //Must be determined after the resolver discovery, as the discovered resolvers decide what types are affected
+        Map<String, GraphQLNamedType> reusableTypes = generationState.getReusableTypes(this::isRealType);
+        Map<String, GraphQLNamedType> knownTypes = new LinkedHashMap<>(reusableTypes);
+        knownTypes.putAll(additionalTypes);
+        Map<String, GraphQLNamedType> sharedTypes = sharedTypeCache != null
+                ? sharedTypeCache.getReusableTypes(configurationFingerprint, operationRegistry::hasEmbeddableQueries, knownTypes)
+                : Collections.emptyMap();
+        knownTypes.putAll(sharedTypes);
+        environment.typeRegistry.registerKnownTypes(sharedTypes.values());
+        //Built anew each time, so that nothing of the previous generation is retained except for what is reused
+        GraphQLCodeRegistry.Builder generationCodeRegistry = GraphQLCodeRegistry.newCodeRegistry(codeRegistry.build());
         BuildContext buildContext = new BuildContext(
-                basePackages, environment, new OperationRegistry(operationSourceRegistry, operationBuilder, inclusionStrategy,
-                typeTransformer, basePackages, environment), new TypeMapperRegistry(typeMappers),
+                basePackages, environment, operationRegistry, new TypeMapperRegistry(typeMappers),
                 new SchemaTransformerRegistry(transformers), valueMapperFactory, typeInfoGenerator, messageBundle, interfaceStrategy,
                 scalarStrategy, typeTransformer, abstractInputHandler, new DelegatingInputFieldBuilder(inputFieldBuilders),
-                interceptorFactory, directiveBuilder, inclusionStrategy, relayMappingConfig, additionalTypes.values(),
-                additionalDirectiveTypes, typeComparator, implDiscoveryStrategy, codeRegistry);
-        OperationMapper operationMapper = new OperationMapper(queryRootName, mutationRootName, subscriptionRootName, buildContext);
+                interceptorFactory, directiveBuilder, inclusionStrategy, relayMappingConfig, knownTypes.values(),
+                additionalDirectiveTypes, typeComparator, implDiscoveryStrategy, generationCodeRegistry,
+                new ClassFinder(indexUsage, shareClassIndex, scanMemberInfo), profiler);
+        OperationMapper operationMapper = profiler.phase("Type mapping",
+                () -> new OperationMapper(queryRootName, mutationRootName, subscriptionRootName, buildContext));
 
         GraphQLSchema.Builder builder = GraphQLSchema.newSchema();
-        builder.query(newObject()
-                .name(queryRootName)
-                .description(messageBundle.interpolate(queryRootDescription))
-                .fields(operationMapper.getQueries())
-                .build());
-
-        List<GraphQLFieldDefinition> mutations = operationMapper.getMutations();
-        if (!mutations.isEmpty()) {
-            builder.mutation(newObject()
-                    .name(mutationRootName)
-                    .description(messageBundle.interpolate(mutationRootDescription))
-                    .fields(mutations)
+        profiler.phase("Schema assembly", () -> {
+            builder.query(newObject()
+                    .name(queryRootName)
+                    .description(messageBundle.interpolate(queryRootDescription))
+                    .fields(operationMapper.getQueries())
                     .build());
-        }
 
-        List<GraphQLFieldDefinition> subscriptions = operationMapper.getSubscriptions();
-        if (!subscriptions.isEmpty()) {
-            builder.subscription(newObject()
-                    .name(subscriptionRootName)
-                    .description(messageBundle.interpolate(subscriptionRootDescription))
-                    .fields(subscriptions)
-                    .build());
-        }
+            List<GraphQLFieldDefinition> mutations = operationMapper.getMutations();
+            if (!mutations.isEmpty()) {
+                builder.mutation(newObject()
+                        .name(mutationRootName)
+                        .description(messageBundle.interpolate(mutationRootDescription))
+                        .fields(mutations)
+                        .build());
+            }
+
+            List<GraphQLFieldDefinition> subscriptions = operationMapper.getSubscriptions();
+            if (!subscriptions.isEmpty()) {
+                builder.subscription(newObject()
+                        .name(subscriptionRootName)
+                        .description(messageBundle.interpolate(subscriptionRootDescription))
+                        .fields(subscriptions)
+                        .build());
+            }
 
-        Set<GraphQLType> additional = new HashSet<>(additionalTypes.values());
-        additional.addAll(buildContext.typeRegistry.getDiscoveredTypes());
-        builder.additionalTypes(additional);
+            Set<GraphQLType> additional = new HashSet<>(additionalTypes.values());
+            if (sharedTypeCache != null) {
+                //Must go first, as it registers the discovered implementations of the reused interfaces
+                additional.addAll(sharedTypeCache.reuse(configurationFingerprint, sharedTypes, operationMapper, buildContext));
+            }
+            //The reused types are only referred to by name from the newly mapped ones
+            additional.addAll(generationState.reuse(reusableTypes, operationMapper, buildContext));
+            additional.addAll(buildContext.typeRegistry.getDiscoveredTypes());
+            builder.additionalTypes(additional);
 
-        builder.additionalDirectives(new HashSet<>(additionalDirectives.values()));
-        builder.additionalDirectives(new HashSet<>(operationMapper.getDirectives()));
+            builder.additionalDirectives(new HashSet<>(additionalDirectives.values()));
+            builder.additionalDirectives(new HashSet<>(operationMapper.getDirectives()));
 
-        builder.codeRegistry(buildContext.codeRegistry.build());
+            builder.codeRegistry(buildContext.codeRegistry.build());
+        });
 
-        applyProcessors(builder, buildContext);
-        buildContext.executePostBuildHooks();
-        return builder.build();
+        profiler.phase("Schema processors", () -> applyProcessors(builder, buildContext));
+        profiler.phase("Post-build hooks", buildContext::executePostBuildHooks);
+        GraphQLSchema schema = profiler.phase("Schema build", () -> builder.build());
+        Set<GraphQLObjectType> discoveredTypes = new HashSet<>(buildContext.typeRegistry.getDiscoveredTypes());
+        environment.typeRegistry.registerSchemaTypes(schema.getAllTypesAsList());
+        if (sharedTypeCache != null) {
+            sharedTypeCache.store(configurationFingerprint, schema, this::isRealType, operationRegistry::hasEmbeddableQueries, buildContext);
+        }
+        generationState.update(schema, discoveredTypes);
+        this.state = generationState;
+        return schema;
     }
 
     private void applyProcessors(GraphQLSchema.Builder builder, BuildContext buildContext) {
@@ -1138,10 +1392,16 @@ public class GraphQLSchemaGenerator {
 
     private static class NoOpCodeRegistryBuilder implements CodeRegistryBuilder {}
 
+    /**
+     * Shares a single value mapper between all the operations and input types with the same abstract input signature,
+     * i.e. the same abstract types resolving to the same concrete subtypes (regardless of their order),
+     * instead of creating (and separately warming up) a new one each time
+     */
     private static class MemoizedValueMapperFactory implements ValueMapperFactory {
 
         private final ValueMapper defaultValueMapper;
         private final ValueMapperFactory delegate;
+        private final Map<Map<Class, Set<Class<?>>>, ValueMapper> valueMappers = new ConcurrentHashMap<>();
 
         public MemoizedValueMapperFactory(GlobalEnvironment environment, ValueMapperFactory delegate) {
             this.defaultValueMapper = delegate.getValueMapper(Collections.emptyMap(), environment);
@@ -1150,10 +1410,18 @@ public class GraphQLSchemaGenerator {
 
         @Override
         public ValueMapper getValueMapper(Map<Class, List<Class<?>>> concreteSubTypes, GlobalEnvironment environment) {
-            if (concreteSubTypes.isEmpty() || concreteSubTypes.values().stream().allMatch(List::isEmpty)) {
+            Map<Class, List<Class<?>>> nonEmpty = new LinkedHashMap<>();
+            concreteSubTypes.forEach((abstractType, subTypes) -> {
+                if (!subTypes.isEmpty()) {
+                    nonEmpty.put(abstractType, subTypes);
+                }
+            });
+            if (nonEmpty.isEmpty()) {
                 return this.defaultValueMapper;
             }
-            return delegate.getValueMapper(concreteSubTypes, environment);
+            Map<Class, Set<Class<?>>> signature = new HashMap<>();
+            nonEmpty.forEach((abstractType, subTypes) -> signature.put(abstractType, new HashSet<>(subTypes)));
+            return valueMappers.computeIfAbsent(signature, sig -> delegate.getValueMapper(nonEmpty, environment));
         }
     }
 
@@ -2,15 +2,20 @@ package io.leangen.graphql.execution;
 
 import io.leangen.graphql.generator.mapping.DelegatingOutputConverter;
 import io.leangen.graphql.metadata.TypedElement;
+import io.leangen.graphql.util.AnnotatedTypeInterner;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * Keeps the types derived from the output types of the resolvers (e.g. the element type of a collection),
+ * keyed by identity. The types are interned (see {@link AnnotatedTypeInterner}), so that equal types share entries.
+ */
 @SuppressWarnings("rawtypes")
 class DerivedTypeRegistry {
 
@@ -22,15 +27,19 @@ class DerivedTypeRegistry {
     }
 
     private void registerDerivatives(AnnotatedElement element, AnnotatedType type, List<AnnotatedType> derivedTypes, List<DelegatingOutputConverter> derivers) {
-        derivedTypes.forEach(derived -> {
-            this.derivedTypes.computeIfAbsent(type, k -> new ArrayList<>());
-            this.derivedTypes.get(type).add(derived);
-            derive(element, derived, derivers);
-        });
+        List<AnnotatedType> derivatives = derivedTypes.stream()
+                .map(AnnotatedTypeInterner::intern)
+                .collect(Collectors.toList());
+        this.derivedTypes.put(type, derivatives);
+        derivatives.forEach(derived -> derive(element, derived, derivers));
     }
 
     @SuppressWarnings("unchecked")
     private void derive(AnnotatedElement element, AnnotatedType type, List<DelegatingOutputConverter> derivers) {
+        //Equal types derive equal types
+        if (this.derivedTypes.containsKey(type)) {
+            return;
+        }
         derivers.stream()
                 .filter(deriver -> deriver.supports(element, type))
                 .findFirst()
@@ -38,6 +47,11 @@ class DerivedTypeRegistry {
     }
 
     List<AnnotatedType> getDerived(AnnotatedType type) {
-        return derivedTypes.getOrDefault(type, Collections.emptyList());
+        List<AnnotatedType> derived = derivedTypes.get(type);
+        if (derived == null) {
+            //The type might be an equal but distinct instance, e.g. created by a custom converter
+            derived = derivedTypes.getOrDefault(AnnotatedTypeInterner.intern(type), Collections.emptyList());
+        }
+        return derived;
     }
 }
@@ -1,6 +1,8 @@
 package io.leangen.graphql.execution;
 
 import graphql.relay.Relay;
+import io.leangen.graphql.execution.relay.DefaultGlobalIdCodec;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
 import io.leangen.graphql.generator.TypeRegistry;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorRegistry;
 import io.leangen.graphql.generator.mapping.ConverterRegistry;
@@ -19,6 +21,7 @@ public class GlobalEnvironment {
 
     public final MessageBundle messageBundle;
     public final Relay relay;
+    public final GlobalIdCodec globalIdCodec;
     public final TypeRegistry typeRegistry;
     public final ConverterRegistry converters;
     public final ArgumentInjectorRegistry injectors;
@@ -40,8 +43,27 @@ public class GlobalEnvironment {
     public GlobalEnvironment(MessageBundle messageBundle, Relay relay, TypeRegistry typeRegistry, ConverterRegistry converters,
                              ArgumentInjectorRegistry injectors, TypeTransformer typeTransformer, InclusionStrategy inclusionStrategy,
                              TypeInfoGenerator typeInfoGenerator) {
+        this(messageBundle, relay, new DefaultGlobalIdCodec(), typeRegistry, converters, injectors, typeTransformer, inclusionStrategy, typeInfoGenerator);
+    }
+
+    /**
+     * @param messageBundle The global translation message bundle
+     * @param relay Relay mapping helper
+     * @param globalIdCodec The codec used to encode and decode Relay global IDs
+     * @param typeRegistry The repository of mapped types
+     * @param converters Repository of all registered {@link InputConverter}s
+     *                   and {@link io.leangen.graphql.generator.mapping.OutputConverter}s
+     * @param injectors The repository of registered argument injectors
+     * @param typeTransformer Transformer used to pre-process the types (can be used to complete the missing generics etc)
+     * @param inclusionStrategy The strategy that decides which input fields are acceptable
+     * @param typeInfoGenerator The generator for type names and descriptions
+     */
+    public GlobalEnvironment(MessageBundle messageBundle, Relay relay, GlobalIdCodec globalIdCodec, TypeRegistry typeRegistry,
+                             ConverterRegistry converters, ArgumentInjectorRegistry injectors, TypeTransformer typeTransformer,
+                             InclusionStrategy inclusionStrategy, TypeInfoGenerator typeInfoGenerator) {
         this.messageBundle = messageBundle;
         this.relay = relay;
+        this.globalIdCodec = globalIdCodec;
         this.typeRegistry = typeRegistry;
         this.converters = converters;
         this.injectors = injectors;
@@ -7,6 +7,7 @@ import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.execution.relay.ConnectionSelection;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
 import io.leangen.graphql.generator.mapping.ConverterRegistry;
 import io.leangen.graphql.generator.mapping.DelegatingOutputConverter;
@@ -71,6 +72,20 @@ public class ResolutionEnvironment {
         return convert(output, element, type);
     }
 
+    /**
+     * Checks whether {@link #convertOutput(Object, AnnotatedElement, AnnotatedType)} could change values of the given type,
+     * i.e. whether any output converter applies. Useful for skipping the traversal (or copying) of containers
+     * whose elements need no conversion.
+     *
+     * @param element The element the values belong to
+     * @param type The type of the values
+     *
+     * @return {@code true} if an output converter applies, {@code false} otherwise
+     */
+    public boolean isOutputConversionRequired(AnnotatedElement element, AnnotatedType type) {
+        return converters.getOutputConverter(element, type) != null;
+    }
+
     Object adaptOutput(Object output, AnnotatedElement element, AnnotatedType type) {
         if (output == null) {
             return null;
@@ -129,6 +144,10 @@ public class ResolutionEnvironment {
         return getDirectives(null);
     }
 
+    public ConnectionSelection getConnectionSelection() {
+        return new ConnectionSelection(dataFetchingEnvironment.getSelectionSet());
+    }
+
     public Object getGlobalContext() {
         return ContextUtils.unwrapContext(rootContext);
     }
@@ -0,0 +1,56 @@
+package io.leangen.graphql.execution.relay;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+
+/**
+ * Describes which parts of a Relay connection the client has selected.
+ * Can be used by resolvers to avoid computing or fetching the parts that will not be used,
+ * e.g. skip the count query if neither {@code pageInfo} nor {@code totalCount} are selected.
+ * <p>Obtained via {@link io.leangen.graphql.execution.ResolutionEnvironment#getConnectionSelection()}.</p>
+ */
+public class ConnectionSelection {
+
+    private final DataFetchingFieldSelectionSet selectionSet;
+
+    public ConnectionSelection(DataFetchingFieldSelectionSet selectionSet) {
+        this.selectionSet = selectionSet;
+    }
+
+    public boolean isEdgesSelected() {
+        return selectionSet.contains("edges");
+    }
+
+    public boolean isNodeSelected() {
+        return selectionSet.contains("edges/node");
+    }
+
+    /**
+     * @return Whether any cursor is selected, either directly on an edge or via {@code pageInfo}
+     */
+    public boolean isCursorSelected() {
+        return selectionSet.containsAnyOf("edges/cursor", "pageInfo/startCursor", "pageInfo/endCursor");
+    }
+
+    public boolean isPageInfoSelected() {
+        return selectionSet.contains("pageInfo");
+    }
+
+    public boolean isHasNextPageSelected() {
+        return selectionSet.contains("pageInfo/hasNextPage");
+    }
+
+    public boolean isHasPreviousPageSelected() {
+        return selectionSet.contains("pageInfo/hasPreviousPage");
+    }
+
+    /**
+     * Checks whether the given (e.g. custom, like {@code totalCount}) field is selected
+     *
+     * @param fieldGlobPattern The field name or glob pattern, as accepted by {@link DataFetchingFieldSelectionSet#contains(String)}
+     *
+     * @return Whether a matching field is selected
+     */
+    public boolean isSelected(String fieldGlobPattern) {
+        return selectionSet.contains(fieldGlobPattern);
+    }
+}
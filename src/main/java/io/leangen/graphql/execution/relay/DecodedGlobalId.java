@@ -0,0 +1,65 @@
+package io.leangen.graphql.execution.relay;
+
+import graphql.relay.Relay;
+
+import java.util.Objects;
+
+/**
+ * The result of attempting to decode a Relay global ID via {@link GlobalIdCodec#tryDecode(String)}.
+ * Either valid, holding the type name and the type-local ID, or invalid, meaning the input was not a global ID at all.
+ */
+public class DecodedGlobalId {
+
+    private static final DecodedGlobalId INVALID = new DecodedGlobalId(null, null);
+
+    private final String typeName;
+    private final String id;
+
+    private DecodedGlobalId(String typeName, String id) {
+        this.typeName = typeName;
+        this.id = id;
+    }
+
+    public static DecodedGlobalId of(String typeName, String id) {
+        return new DecodedGlobalId(Objects.requireNonNull(typeName), Objects.requireNonNull(id));
+    }
+
+    public static DecodedGlobalId invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return typeName != null;
+    }
+
+    /**
+     * @return The name of the GraphQL type the ID belongs to, or {@code null} if the global ID was invalid
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * @return The type-local ID, or {@code null} if the global ID was invalid
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return The equivalent {@link Relay.ResolvedGlobalId}
+     *
+     * @throws IllegalStateException If the global ID was invalid
+     */
+    public Relay.ResolvedGlobalId toResolvedGlobalId() {
+        if (!isValid()) {
+            throw new IllegalStateException("Invalid global ID can not be resolved");
+        }
+        return new Relay.ResolvedGlobalId(typeName, id);
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? typeName + ":" + id : "invalid global ID";
+    }
+}
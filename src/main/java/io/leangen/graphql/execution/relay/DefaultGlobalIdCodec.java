@@ -0,0 +1,187 @@
+package io.leangen.graphql.execution.relay;
+
+import graphql.relay.Relay;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default {@link GlobalIdCodec}, producing IDs in the same format as {@link Relay#toGlobalId(String, String)}
+ * (unpadded URL-safe Base64 encoded {@code TypeName:id}), so the two are freely interchangeable.
+ * <p>The Base64 representation of the type name prefix is computed once per type, and only the type-local part
+ * of the ID is encoded on each invocation. Numeric IDs are encoded without going through an intermediate string.</p>
+ */
+public class DefaultGlobalIdCodec implements GlobalIdCodec {
+
+    private static final byte[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte SEPARATOR = ':';
+    private static final byte[] DECODING = decodingTable();
+
+    private final Map<String, Prefix> prefixes = new ConcurrentHashMap<>();
+
+    @Override
+    public String encode(String typeName, String id) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        return encode(getPrefix(typeName), bytes, 0, bytes.length);
+    }
+
+    @Override
+    public String encode(String typeName, long id) {
+        byte[] digits = new byte[20]; //Long.MIN_VALUE has 19 digits plus the sign
+        int start = writeDigits(id, digits);
+        return encode(getPrefix(typeName), digits, start, digits.length - start);
+    }
+
+    @Override
+    public Relay.ResolvedGlobalId decode(String globalId) {
+        DecodedGlobalId decoded = tryDecode(globalId);
+        if (!decoded.isValid()) {
+            throw new IllegalArgumentException(String.format("expecting a valid global id, got %s", globalId));
+        }
+        return decoded.toResolvedGlobalId();
+    }
+
+    @Override
+    public DecodedGlobalId tryDecode(String globalId) {
+        byte[] decoded = globalId == null ? null : decodeBase64(globalId);
+        int separator = decoded == null ? -1 : indexOf(decoded, SEPARATOR);
+        if (separator < 0) {
+            return DecodedGlobalId.invalid();
+        }
+        String typeName = new String(decoded, 0, separator, StandardCharsets.UTF_8);
+        Prefix known = prefixes.get(typeName);
+        return DecodedGlobalId.of(known != null ? known.typeName : typeName,
+                new String(decoded, separator + 1, decoded.length - separator - 1, StandardCharsets.UTF_8));
+    }
+
+    private Prefix getPrefix(String typeName) {
+        Prefix prefix = prefixes.get(typeName);
+        return prefix != null ? prefix : prefixes.computeIfAbsent(typeName, Prefix::new);
+    }
+
+    private static String encode(Prefix prefix, byte[] id, int offset, int length) {
+        byte[] tail = prefix.tail;
+        int total = tail.length + length;
+        byte[] out = Arrays.copyOf(prefix.head, prefix.head.length + (total / 3) * 4 + (total % 3 == 0 ? 0 : total % 3 + 1));
+        int o = prefix.head.length;
+        int i = 0;
+        for (; i + 3 <= total; i += 3) {
+            int bits = (byteAt(tail, id, offset, i) & 0xff) << 16
+                    | (byteAt(tail, id, offset, i + 1) & 0xff) << 8
+                    | (byteAt(tail, id, offset, i + 2) & 0xff);
+            out[o++] = ALPHABET[(bits >>> 18) & 0x3f];
+            out[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+            out[o++] = ALPHABET[(bits >>> 6) & 0x3f];
+            out[o++] = ALPHABET[bits & 0x3f];
+        }
+        int remaining = total - i;
+        if (remaining > 0) {
+            int bits = (byteAt(tail, id, offset, i) & 0xff) << 16;
+            if (remaining == 2) {
+                bits |= (byteAt(tail, id, offset, i + 1) & 0xff) << 8;
+            }
+            out[o++] = ALPHABET[(bits >>> 18) & 0x3f];
+            out[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+            if (remaining == 2) {
+                out[o] = ALPHABET[(bits >>> 6) & 0x3f];
+            }
+        }
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte byteAt(byte[] tail, byte[] id, int offset, int index) {
+        return index < tail.length ? tail[index] : id[offset + index - tail.length];
+    }
+
+    private static int writeDigits(long value, byte[] buffer) {
+        int position = buffer.length;
+        boolean negative = value < 0;
+        long remainder = negative ? value : -value; //Accumulate in the negative range to cover Long.MIN_VALUE
+        do {
+            buffer[--position] = (byte) ('0' - (remainder % 10));
+            remainder /= 10;
+        } while (remainder != 0);
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        return position;
+    }
+
+    //Decodes URL-safe Base64, padded or not, or returns null if the input is not valid Base64
+    private static byte[] decodeBase64(String input) {
+        int length = input.length();
+        boolean padded = length > 0 && input.charAt(length - 1) == '=';
+        if (padded) {
+            if (length % 4 != 0) {
+                return null;
+            }
+            length -= input.charAt(length - 2) == '=' ? 2 : 1;
+        }
+        if (length % 4 == 1) {
+            return null;
+        }
+        byte[] out = new byte[length / 4 * 3 + Math.max(length % 4 - 1, 0)];
+        int bits = 0;
+        int count = 0;
+        int o = 0;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            int value = c < DECODING.length ? DECODING[c] : -1;
+            if (value < 0) {
+                return null;
+            }
+            bits = bits << 6 | value;
+            if (++count == 4) {
+                out[o++] = (byte) (bits >> 16);
+                out[o++] = (byte) (bits >> 8);
+                out[o++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 2) {
+            out[o] = (byte) (bits >> 4);
+        } else if (count == 3) {
+            out[o++] = (byte) (bits >> 10);
+            out[o] = (byte) (bits >> 2);
+        }
+        return out;
+    }
+
+    private static byte[] decodingTable() {
+        byte[] table = new byte[128];
+        Arrays.fill(table, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            table[ALPHABET[i]] = (byte) i;
+        }
+        return table;
+    }
+
+    private static int indexOf(byte[] bytes, byte target) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static class Prefix {
+
+        final String typeName;
+        final byte[] head; //Base64 representation of the longest part of the prefix that encodes without padding
+        final byte[] tail; //The remaining (at most 2) raw bytes that must be encoded together with the ID
+
+        Prefix(String typeName) {
+            byte[] bytes = (typeName + ":").getBytes(StandardCharsets.UTF_8);
+            int aligned = bytes.length - bytes.length % 3;
+            this.typeName = typeName;
+            this.head = Base64.getUrlEncoder().encode(Arrays.copyOf(bytes, aligned));
+            this.tail = Arrays.copyOfRange(bytes, aligned, bytes.length);
+        }
+    }
+}
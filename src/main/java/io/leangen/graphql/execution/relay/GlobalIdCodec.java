@@ -0,0 +1,67 @@
+package io.leangen.graphql.execution.relay;
+
+import graphql.relay.Relay;
+
+/**
+ * Encodes and decodes Relay global IDs, as used by {@link io.leangen.graphql.annotations.GraphQLId#relayId()}
+ * fields and arguments and the {@code node} query.
+ * <p>Global IDs are opaque to the clients, so any reversible format is acceptable as long as the same codec
+ * is used for both encoding and decoding.</p>
+ */
+public interface GlobalIdCodec {
+
+    /**
+     * Creates a global ID unique across all types
+     *
+     * @param typeName The name of the GraphQL type the ID belongs to
+     * @param id The type-local ID
+     *
+     * @return The global ID
+     */
+    String encode(String typeName, String id);
+
+    /**
+     * Same as {@link #encode(String, String)}, but for numeric type-local IDs.
+     * Implementations are encouraged to override this to avoid the intermediate string representation.
+     *
+     * @param typeName The name of the GraphQL type the ID belongs to
+     * @param id The type-local ID
+     *
+     * @return The global ID
+     */
+    default String encode(String typeName, long id) {
+        return encode(typeName, Long.toString(id));
+    }
+
+    /**
+     * Splits the given global ID into the type name and the type-local ID
+     *
+     * @param globalId The global ID to decode
+     *
+     * @return The decoded type name and type-local ID
+     *
+     * @throws IllegalArgumentException If {@code globalId} is not a valid global ID
+     */
+    Relay.ResolvedGlobalId decode(String globalId);
+
+    /**
+     * Same as {@link #decode(String)}, but reports malformed global IDs via the result instead of an exception,
+     * as it is expected that IDs that are not global (e.g. raw type-local IDs) are routinely encountered.
+     * The default implementation simply catches the exception thrown by {@link #decode(String)}, so implementations
+     * are encouraged to override this with a cheaper validity check.
+     *
+     * @param globalId The global ID to decode
+     *
+     * @return The decoded type name and type-local ID, or {@link DecodedGlobalId#invalid()}
+     */
+    default DecodedGlobalId tryDecode(String globalId) {
+        try {
+            Relay.ResolvedGlobalId resolved = decode(globalId);
+            return resolved.getType() != null && resolved.getId() != null
+                    ? DecodedGlobalId.of(resolved.getType(), resolved.getId())
+                    : DecodedGlobalId.invalid();
+        } catch (RuntimeException e) {
+            return DecodedGlobalId.invalid();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package io.leangen.graphql.execution.relay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The sort key values of a node, used for keyset (seek) pagination, where the next page is fetched by seeking
+ * past the last seen key values (e.g. {@code WHERE (created, id) > (?, ?)}) instead of skipping an offset.
+ * <p>Keysets are encoded into opaque cursors in a compact binary form (Base64 encoded), preserving the types of
+ * the values. Supported value types are: {@code String}, {@code Boolean}, {@code Integer}, {@code Long},
+ * {@code Short}, {@code Byte}, {@code Double}, {@code Float}, {@code BigInteger}, {@code BigDecimal}, {@code UUID},
+ * {@code Instant}, {@code LocalDate}, {@code LocalDateTime} and enums (encoded by name, decoded as {@code String}).
+ * Values can be {@code null}.</p>
+ *
+ * @see KeysetCursorProvider
+ */
+public class Keyset {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte SHORT = 5;
+    private static final byte BYTE = 6;
+    private static final byte DOUBLE = 7;
+    private static final byte FLOAT = 8;
+    private static final byte BIG_INTEGER = 9;
+    private static final byte BIG_DECIMAL = 10;
+    private static final byte UUID_VALUE = 11;
+    private static final byte INSTANT = 12;
+    private static final byte LOCAL_DATE = 13;
+    private static final byte LOCAL_DATE_TIME = 14;
+
+    private final Object[] values;
+
+    public Keyset(Object... values) {
+        this.values = values;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public Object get(int index) {
+        return values[index];
+    }
+
+    public <T> T get(int index, Class<T> type) {
+        return type.cast(values[index]);
+    }
+
+    public List<Object> getValues() {
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    /**
+     * Encodes this keyset into an opaque cursor
+     *
+     * @return The cursor representing this keyset
+     */
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8 * values.length + 1);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (Object value : values) {
+                write(value, out);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e); //Can not happen when writing to memory
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes the keyset from the given cursor
+     *
+     * @param cursor A cursor previously produced by {@link #encode()}
+     *
+     * @return The decoded keyset
+     *
+     * @throws IllegalArgumentException If the cursor is not a valid keyset cursor
+     */
+    public static Keyset decode(String cursor) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            List<Object> values = new ArrayList<>();
+            while (in.available() > 0) {
+                values.add(read(in));
+            }
+            return new Keyset(values.toArray());
+        } catch (IOException | IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException(cursor + " is not a valid keyset cursor", e);
+        }
+    }
+
+    private static void write(Object value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), out);
+        } else if (value instanceof Enum) {
+            out.writeByte(STRING);
+            writeBytes(((Enum<?>) value).name().getBytes(StandardCharsets.UTF_8), out);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray(), out);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray(), out);
+        } else if (value instanceof UUID) {
+            out.writeByte(UUID_VALUE);
+            out.writeLong(((UUID) value).getMostSignificantBits());
+            out.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof Instant) {
+            out.writeByte(INSTANT);
+            out.writeLong(((Instant) value).getEpochSecond());
+            out.writeInt(((Instant) value).getNano());
+        } else if (value instanceof LocalDate) {
+            out.writeByte(LOCAL_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalDateTime) {
+            out.writeByte(LOCAL_DATE_TIME);
+            out.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            out.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else {
+            throw new IllegalArgumentException("Values of type " + value.getClass().getName() + " can not be used as keyset values");
+        }
+    }
+
+    private static Object read(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL: return null;
+            case STRING: return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BOOLEAN: return in.readBoolean();
+            case INTEGER: return in.readInt();
+            case LONG: return in.readLong();
+            case SHORT: return in.readShort();
+            case BYTE: return in.readByte();
+            case DOUBLE: return in.readDouble();
+            case FLOAT: return in.readFloat();
+            case BIG_INTEGER: return new BigInteger(readBytes(in));
+            case BIG_DECIMAL: {
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case UUID_VALUE: return new UUID(in.readLong(), in.readLong());
+            case INSTANT: return Instant.ofEpochSecond(in.readLong(), in.readInt());
+            case LOCAL_DATE: return LocalDate.ofEpochDay(in.readLong());
+            case LOCAL_DATE_TIME: return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+            default: throw new IOException("Unknown keyset value type tag " + tag);
+        }
+    }
+
+    //The length is written as an unsigned varint, taking a single byte for short values, without limiting the length
+    private static void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        int length = bytes.length;
+        while ((length & ~0x7F) != 0) {
+            out.writeByte((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.writeByte(length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift > 28) {
+                throw new IOException("Malformed value length");
+            }
+            int next = in.readUnsignedByte();
+            length |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                break;
+            }
+        }
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Value length " + length + " exceeds the cursor length");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof Keyset && Arrays.equals(values, ((Keyset) other).values));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,117 @@
+package io.leangen.graphql.execution.relay;
+
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnectionCursor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link CursorProvider} for keyset (seek) pagination, encoding the sort key values of each node into its cursor.
+ * <p>The sort keys are given as an ordered list of key extractors, e.g. {@code book -> book.getPublished(), Book::getId},
+ * where the last key should be unique to guarantee a stable order. The resolver then decodes the {@code after} cursor
+ * using {@link #decode(String)} and fetches {@code first + 1} nodes past the decoded key values (to find out if there's
+ * a next page without a separate count query, see
+ * {@link io.leangen.graphql.execution.relay.generic.PageFactory#createKeysetPage(List, int, CursorProvider, boolean)}).</p>
+ *
+ * @param <N> The node type
+ */
+public class KeysetCursorProvider<N> implements CursorProvider<N> {
+
+    private final List<Function<? super N, ?>> keys;
+
+    @SafeVarargs
+    public KeysetCursorProvider(Function<? super N, ?>... keys) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("At least one sort key must be provided");
+        }
+        this.keys = Arrays.asList(keys);
+    }
+
+    @Override
+    public ConnectionCursor createCursor(N node, int index) {
+        return new DefaultConnectionCursor(getKeyset(node).encode());
+    }
+
+    public Keyset getKeyset(N node) {
+        Object[] values = new Object[keys.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = keys.get(i).apply(node);
+        }
+        return new Keyset(values);
+    }
+
+    /**
+     * Decodes the given cursor into the key values of the node it was created for
+     *
+     * @param cursor The cursor to decode, usually the value of the {@code after} argument
+     *
+     * @return The decoded key values, or {@code null} if {@code cursor} is {@code null}
+     *
+     * @throws IllegalArgumentException If the cursor is not a valid keyset cursor for the configured keys
+     */
+    public Keyset decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        Keyset keyset = Keyset.decode(cursor);
+        if (keyset.size() != keys.size()) {
+            throw new IllegalArgumentException(cursor + " is not a valid cursor for " + keys.size() + " sort keys");
+        }
+        return keyset;
+    }
+
+    /**
+     * Creates a predicate matching the nodes whose key values come strictly after the given ones,
+     * in ascending lexicographic order of the keys ({@code null} values come first). Useful when the nodes
+     * are not fetched from a store able to seek natively.
+     *
+     * @param after The key values to seek past. If {@code null}, all nodes are matched.
+     *
+     * @return A predicate matching the nodes after the given key values
+     *
+     * @throws IllegalArgumentException (when testing) If the given key values are not comparable to the ones of the nodes,
+     * e.g. if they were decoded from a tampered cursor
+     */
+    public Predicate<N> after(Keyset after) {
+        if (after == null) {
+            return node -> true;
+        }
+        return node -> compare(getKeyset(node), after) > 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Keyset left, Keyset right) {
+        for (int i = 0; i < left.size(); i++) {
+            Object l = left.get(i);
+            Object r = right.get(i);
+            int result;
+            if (l == null || r == null) {
+                result = l == r ? 0 : (l == null ? -1 : 1);
+            } else if (l instanceof Enum && r instanceof String) {
+                //Enums are encoded by name, but ordered by declaration
+                Enum constant;
+                try {
+                    constant = Enum.valueOf(((Enum) l).getDeclaringClass(), (String) r);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Keyset value " + r + " at position " + i
+                            + " is not comparable to the sort key of type " + l.getClass().getName(), e);
+                }
+                result = ((Enum) l).compareTo(constant);
+            } else {
+                try {
+                    result = ((Comparable) l).compareTo(r);
+                } catch (ClassCastException e) {
+                    throw new IllegalArgumentException("Keyset value " + r + " at position " + i
+                            + " is not comparable to the sort key of type " + l.getClass().getName(), e);
+                }
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,116 @@
+package io.leangen.graphql.execution.relay.generic;
+
+import graphql.relay.ConnectionCursor;
+import graphql.relay.Edge;
+import graphql.relay.PageInfo;
+import io.leangen.graphql.execution.relay.CursorProvider;
+import io.leangen.graphql.execution.relay.Page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A {@link Page} that defers all work until the client actually selects it.
+ * Edges are only created if {@code edges} are selected, cursors are only computed if selected (directly or via
+ * {@code pageInfo}), and {@code hasNextPage}/{@code hasPreviousPage} are only evaluated if selected.
+ * <p>Subclasses can expose additional (e.g. {@code totalCount}) fields, that will equally only be computed on demand.</p>
+ */
+public class LazyPage<N> implements Page<N> {
+
+    private final List<N> nodes;
+    private final CursorProvider<N> cursorProvider;
+    private final BooleanSupplier hasNextPage;
+    private final BooleanSupplier hasPreviousPage;
+
+    private List<Edge<N>> edges;
+    private PageInfo pageInfo;
+
+    @SuppressWarnings("WeakerAccess")
+    public LazyPage(List<N> nodes, CursorProvider<N> cursorProvider, BooleanSupplier hasNextPage, BooleanSupplier hasPreviousPage) {
+        this.nodes = nodes;
+        this.cursorProvider = cursorProvider;
+        this.hasNextPage = hasNextPage;
+        this.hasPreviousPage = hasPreviousPage;
+    }
+
+    @Override
+    public List<Edge<N>> getEdges() {
+        if (edges == null) {
+            List<Edge<N>> edges = new ArrayList<>(nodes.size());
+            int index = 0;
+            for (N node : nodes) {
+                edges.add(new LazyEdge<>(node, index++, cursorProvider));
+            }
+            this.edges = Collections.unmodifiableList(edges);
+        }
+        return edges;
+    }
+
+    @Override
+    public PageInfo getPageInfo() {
+        if (pageInfo == null) {
+            pageInfo = new LazyPageInfo();
+        }
+        return pageInfo;
+    }
+
+    private class LazyPageInfo implements PageInfo {
+
+        @Override
+        public ConnectionCursor getStartCursor() {
+            return nodes.isEmpty() ? null : cursorAt(0);
+        }
+
+        @Override
+        public ConnectionCursor getEndCursor() {
+            return nodes.isEmpty() ? null : cursorAt(nodes.size() - 1);
+        }
+
+        //Reuses the cursor of an already created edge, but never creates the edges just to get a single cursor
+        private ConnectionCursor cursorAt(int index) {
+            if (edges != null) {
+                return edges.get(index).getCursor();
+            }
+            return cursorProvider.createCursor(nodes.get(index), index);
+        }
+
+        @Override
+        public boolean isHasPreviousPage() {
+            return hasPreviousPage.getAsBoolean();
+        }
+
+        @Override
+        public boolean isHasNextPage() {
+            return hasNextPage.getAsBoolean();
+        }
+    }
+
+    private static class LazyEdge<N> implements Edge<N> {
+
+        private final N node;
+        private final int index;
+        private final CursorProvider<N> cursorProvider;
+        private ConnectionCursor cursor;
+
+        LazyEdge(N node, int index, CursorProvider<N> cursorProvider) {
+            this.node = node;
+            this.index = index;
+            this.cursorProvider = cursorProvider;
+        }
+
+        @Override
+        public N getNode() {
+            return node;
+        }
+
+        @Override
+        public ConnectionCursor getCursor() {
+            if (cursor == null) {
+                cursor = cursorProvider.createCursor(node, index);
+            }
+            return cursor;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package io.leangen.graphql.execution.relay.generic;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 
 import graphql.relay.ConnectionCursor;
 import graphql.relay.DefaultConnectionCursor;
@@ -45,6 +47,49 @@ public class PageFactory {
         return new GenericPage<>(edges, createPageInfo(edges, hasNextPage, hasPreviousPage));
     }
 
+    /**
+     * Creates a page that only creates edges, computes cursors and evaluates {@code hasNextPage}/{@code hasPreviousPage}
+     * if and when they are requested by the client. See {@link LazyPage}.
+     */
+    public static <N> Page<N> createLazyPage(List<N> nodes, CursorProvider<N> cursorProvider, BooleanSupplier hasNextPage, BooleanSupplier hasPreviousPage) {
+        return new LazyPage<>(nodes, cursorProvider, hasNextPage, hasPreviousPage);
+    }
+
+    /**
+     * Same as {@link #createOffsetBasedPage(List, long, long)}, except the page is lazy (see {@link LazyPage})
+     * and {@code count} is only invoked (once at most) if {@code pageInfo} is requested and the count is actually needed.
+     */
+    public static <N> Page<N> createLazyOffsetBasedPage(List<N> nodes, LongSupplier count, long offset) {
+        LongSupplier memoizedCount = memoize(count);
+        return createLazyPage(nodes, offsetBasedCursorProvider(offset),
+                () -> hasNextPage(nodes.size(), memoizedCount.getAsLong(), offset),
+                () -> offset > 0 && hasPreviousPage(memoizedCount.getAsLong(), offset));
+    }
+
+    /**
+     * Creates a page for keyset (seek) pagination. Instead of counting all the nodes, the resolver is expected to fetch
+     * (at most) {@code first + 1} nodes, and the presence of the extra node signals that there is a next page.
+     * The extra node itself is not included in the page.
+     *
+     * @param nodes The fetched nodes, up to {@code first + 1} of them
+     * @param first The requested page size
+     * @param cursorProvider Cursor provider, normally a {@link io.leangen.graphql.execution.relay.KeysetCursorProvider}
+     * @param hasPreviousPage Whether there is a previous page, usually true when the {@code after} cursor was provided
+     * @param <N> The node type
+     *
+     * @return The (lazy) page containing at most {@code first} nodes
+     *
+     * @throws IllegalArgumentException If {@code first} is negative
+     */
+    public static <N> Page<N> createKeysetPage(List<N> nodes, int first, CursorProvider<N> cursorProvider, boolean hasPreviousPage) {
+        if (first < 0) {
+            throw new IllegalArgumentException("The number of requested nodes must not be negative, but was " + first);
+        }
+        boolean hasNextPage = nodes.size() > first;
+        List<N> pageNodes = hasNextPage ? nodes.subList(0, first) : nodes;
+        return createLazyPage(pageNodes, cursorProvider, () -> hasNextPage, () -> hasPreviousPage);
+    }
+
     public static <N> List<Edge<N>> createEdges(List<N> nodes, CursorProvider<N> cursorProvider) {
         BiFunction<N, ConnectionCursor, Edge<N>> edgeCreator = DefaultEdge::new;
         return createEdges(nodes, cursorProvider, edgeCreator);
@@ -84,4 +129,16 @@ public class PageFactory {
     public static boolean hasPreviousPage(long count, long offset) {
         return offset > 0 && count > 0;
     }
+
+    private static LongSupplier memoize(LongSupplier supplier) {
+        long[] value = new long[1];
+        boolean[] computed = new boolean[1];
+        return () -> {
+            if (!computed[0]) {
+                value[0] = supplier.getAsLong();
+                computed[0] = true;
+            }
+            return value[0];
+        };
+    }
 }
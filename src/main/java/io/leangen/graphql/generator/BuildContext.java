@@ -66,6 +66,7 @@ public class BuildContext {
     public final DirectiveBuilder directiveBuilder;
     public final RelayMappingConfig relayMappingConfig;
     public final ClassFinder classFinder;
+    public final GenerationProfiler profiler;
     public final List<Consumer<BuildContext>> postBuildHooks;
     public final List<AnnotatedType> additionalDirectives;
     public final GraphQLCodeRegistry.Builder codeRegistry;
@@ -98,7 +99,8 @@ public class BuildContext {
                         InputFieldBuilder inputFieldBuilder, ResolverInterceptorFactory interceptorFactory,
                         DirectiveBuilder directiveBuilder, InclusionStrategy inclusionStrategy, RelayMappingConfig relayMappingConfig,
                         Collection<GraphQLNamedType> knownTypes, List<AnnotatedType> additionalDirectives, Comparator<AnnotatedType> typeComparator,
-                        ImplementationDiscoveryStrategy implementationStrategy, GraphQLCodeRegistry.Builder codeRegistry) {
+                        ImplementationDiscoveryStrategy implementationStrategy, GraphQLCodeRegistry.Builder codeRegistry,
+                        ClassFinder classFinder, GenerationProfiler profiler) {
         this.operationRegistry = operationRegistry;
         this.typeRegistry = environment.typeRegistry;
         this.transformers = transformers;
@@ -126,7 +128,8 @@ public class BuildContext {
         this.abstractInputHandler = abstractInputHandler;
         this.globalEnvironment = environment;
         this.relayMappingConfig = relayMappingConfig;
-        this.classFinder = new ClassFinder();
+        this.classFinder = classFinder;
+        this.profiler = profiler;
         this.validator = new Validator(environment, typeMappers, knownTypes, typeComparator);
         this.codeRegistry = codeRegistry;
         this.postBuildHooks = new ArrayList<>(Collections.singletonList(context -> classFinder.close()));
@@ -138,6 +141,15 @@ public class BuildContext {
 
     @SuppressWarnings("rawtypes")
     ValueMapper createValueMapper(Stream<AnnotatedType> inputTypes) {
+        if (profiler.isEnabled()) {
+            List<AnnotatedType> types = inputTypes.collect(Collectors.toList());
+            String name = types.stream().map(ClassUtils::toString).collect(Collectors.joining(", ", "(", ")"));
+            return profiler.measure(GenerationReport.Category.VALUE_MAPPER, name, () -> doCreateValueMapper(types.stream()));
+        }
+        return doCreateValueMapper(inputTypes);
+    }
+
+    private ValueMapper doCreateValueMapper(Stream<AnnotatedType> inputTypes) {
         List<Class> abstractTypes = inputTypes
                 .flatMap(input -> abstractInputHandler.findConstituentAbstractTypes(input, this).stream().map(ClassUtils::getRawType))
                 .distinct()
@@ -3,7 +3,6 @@ package io.leangen.graphql.generator;
 import graphql.TypeResolutionEnvironment;
 import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLObjectType;
-import graphql.schema.GraphQLType;
 import graphql.schema.TypeResolver;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLTypeResolver;
@@ -16,7 +15,10 @@ import io.leangen.graphql.util.Utils;
 
 import java.lang.reflect.AnnotatedType;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class DelegatingTypeResolver implements TypeResolver {
 
@@ -24,6 +26,9 @@ public class DelegatingTypeResolver implements TypeResolver {
     private final TypeInfoGenerator typeInfoGenerator;
     private final String abstractTypeName;
     private final MessageBundle messageBundle;
+    //Resolution strategies keyed by the abstract type name and the runtime class of the object
+    private final Map<String, Map<Class<?>, Function<TypeResolutionEnvironment, GraphQLObjectType>>> resolutions = new ConcurrentHashMap<>();
+    private final Map<Class<? extends io.leangen.graphql.execution.TypeResolver>, io.leangen.graphql.execution.TypeResolver> resolverInstances = new ConcurrentHashMap<>();
 
     DelegatingTypeResolver(TypeRegistry typeRegistry, TypeInfoGenerator typeInfoGenerator, MessageBundle messageBundle) {
         this(null, typeRegistry, typeInfoGenerator, messageBundle);
@@ -39,39 +44,52 @@ public class DelegatingTypeResolver implements TypeResolver {
     @Override
     public GraphQLObjectType getType(TypeResolutionEnvironment env) {
         Object result = env.getObject();
-        Class<?> resultType = result.getClass();
-        String resultTypeName = typeInfoGenerator.generateTypeName(GenericTypeReflector.annotate(resultType), messageBundle);
         GraphQLNamedType fieldType = (GraphQLNamedType) env.getFieldType();
+        return resolutions.computeIfAbsent(fieldType.getName(), name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(result.getClass(), resultType -> resolve(env, fieldType, resultType))
+                .apply(env);
+    }
+
+    /**
+     * Determines how to resolve the exact type of the objects of the given class appearing under the given abstract type.
+     * Only depends on the class and the abstract type, and not on the object itself, so it is safe to cache.
+     * The resolved types are always looked up by name from the schema being executed, never captured,
+     * so the cached strategies remain correct for any schema the types end up in.
+     */
+    private Function<TypeResolutionEnvironment, GraphQLObjectType> resolve(TypeResolutionEnvironment env, GraphQLNamedType fieldType, Class<?> resultType) {
+        Object result = env.getObject();
         String abstractTypeName = this.abstractTypeName != null ? this.abstractTypeName : fieldType.getName();
 
         //Check if the type is already unambiguous
         List<MappedType> mappedTypes = typeRegistry.getOutputTypes(abstractTypeName, resultType);
         if (mappedTypes.isEmpty()) {
-            return (GraphQLObjectType) env.getSchema().getType(resultTypeName);
+            String resultTypeName = typeInfoGenerator.generateTypeName(GenericTypeReflector.annotate(resultType), messageBundle);
+            return e -> e.getSchema().getObjectType(resultTypeName);
         }
         if (mappedTypes.size() == 1) {
-            return mappedTypes.get(0).getAsObjectType();
+            String mappedTypeName = mappedTypes.get(0).getAsObjectType().getName();
+            return e -> e.getSchema().getObjectType(mappedTypeName);
         }
 
         AnnotatedType returnType = Directives.getMappedType(fieldType);
         //Try to find an explicit resolver
-        Optional<GraphQLObjectType> resolvedType = Utils.or(
+        Optional<GraphQLTypeResolver> explicitResolver = Utils.or(
                 Optional.ofNullable(returnType != null ? returnType.getAnnotation(GraphQLTypeResolver.class) : null),
-                Optional.ofNullable(resultType.getAnnotation(GraphQLTypeResolver.class)))
-                .map(ann -> resolveType(env, ann));
-        if (resolvedType.isPresent()) {
-            return resolvedType.get();
+                Optional.ofNullable(resultType.getAnnotation(GraphQLTypeResolver.class)));
+        if (explicitResolver.isPresent()) {
+            io.leangen.graphql.execution.TypeResolver resolver = getResolverInstance(explicitResolver.get(), result);
+            return e -> resolver.resolveType(new io.leangen.graphql.execution.TypeResolutionEnvironment(e, typeRegistry, typeInfoGenerator));
         }
 
         //Try to deduce the type
         if (returnType != null) {
             AnnotatedType resolvedJavaType = GenericTypeReflector.getExactSubType(returnType, resultType);
             if (resolvedJavaType != null && !ClassUtils.isMissingTypeParameters(resolvedJavaType.getType())) {
-                GraphQLType resolved = env.getSchema().getType(typeInfoGenerator.generateTypeName(resolvedJavaType, messageBundle));
-                if (resolved == null) {
+                String resolvedTypeName = typeInfoGenerator.generateTypeName(resolvedJavaType, messageBundle);
+                if (env.getSchema().getType(resolvedTypeName) == null) {
                     throw new UnresolvableTypeException(fieldType.getName(), result);
                 }
-                return (GraphQLObjectType) resolved;
+                return e -> e.getSchema().getObjectType(resolvedTypeName);
             }
         }
         
@@ -79,12 +97,13 @@ public class DelegatingTypeResolver implements TypeResolver {
         throw new UnresolvableTypeException(fieldType.getName(), result);
     }
 
-    private GraphQLObjectType resolveType(TypeResolutionEnvironment env, GraphQLTypeResolver descriptor) {
-        try {
-            return descriptor.value().newInstance().resolveType(
-                    new io.leangen.graphql.execution.TypeResolutionEnvironment(env, typeRegistry, typeInfoGenerator));
-        } catch (ReflectiveOperationException e) {
-            throw new UnresolvableTypeException(env.<Object>getObject(), e);
-        }
+    private io.leangen.graphql.execution.TypeResolver getResolverInstance(GraphQLTypeResolver descriptor, Object result) {
+        return resolverInstances.computeIfAbsent(descriptor.value(), type -> {
+            try {
+                return type.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new UnresolvableTypeException(result, e);
+            }
+        });
     }
 }
@@ -0,0 +1,199 @@
+package io.leangen.graphql.generator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the phases of schema generation and attributes the time spent within them to individual items
+ * (operation sources, types etc.), producing a {@link GenerationReport}.
+ * <p>Nested measurements are subtracted from the enclosing ones, so that each item is only charged for its own work
+ * (e.g. mapping a type is not charged for mapping the types of its fields). Safe for use from multiple threads.</p>
+ */
+public class GenerationProfiler {
+
+    public static final GenerationProfiler DISABLED = new GenerationProfiler(false, 0);
+
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final boolean enabled;
+    private final int reportedItems;
+    private final boolean cpuTimeSupported;
+    private final boolean allocationSupported;
+    private final List<GenerationReport.Measurement> phases = new ArrayList<>();
+    private final Map<GenerationReport.Category, Map<String, Totals>> items = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * @param reportedItems The maximum number of the heaviest items reported per category
+     */
+    public GenerationProfiler(int reportedItems) {
+        this(true, reportedItems);
+    }
+
+    private GenerationProfiler(boolean enabled, int reportedItems) {
+        this.enabled = enabled;
+        this.reportedItems = reportedItems;
+        this.cpuTimeSupported = enabled && threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+        this.allocationSupported = enabled && isAllocationSupported();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Measures a top-level phase of the generation. Phases are expected to run sequentially, on the generating thread.
+     */
+    public <T> T phase(String name, Supplier<T> work) {
+        if (!enabled) {
+            return work.get();
+        }
+        Frame frame = start();
+        try {
+            return work.get();
+        } finally {
+            frame.stop();
+            synchronized (phases) {
+                phases.add(new GenerationReport.Measurement(name, 1, frame.wall, frame.cpu, frame.allocated));
+            }
+        }
+    }
+
+    public void phase(String name, Runnable work) {
+        phase(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Measures the work on a single item of the given category, charging the item with the time not already
+     * charged to the items measured within it.
+     */
+    public <T> T measure(GenerationReport.Category category, String item, Supplier<T> work) {
+        if (!enabled) {
+            return work.get();
+        }
+        Deque<Frame> stack = frames.get();
+        Frame frame = start();
+        stack.push(frame);
+        try {
+            return work.get();
+        } finally {
+            stack.pop();
+            frame.stop();
+            Frame parent = stack.peek();
+            if (parent != null) {
+                parent.nested(frame);
+            }
+            items.computeIfAbsent(category, c -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(item, Totals::new)
+                    .add(frame);
+        }
+    }
+
+    public GenerationReport report() {
+        Map<GenerationReport.Category, List<GenerationReport.Measurement>> heaviest = new EnumMap<>(GenerationReport.Category.class);
+        Map<GenerationReport.Category, GenerationReport.Measurement> totals = new EnumMap<>(GenerationReport.Category.class);
+        items.forEach((category, measured) -> {
+            List<GenerationReport.Measurement> all = measured.values().stream()
+                    .map(Totals::toMeasurement)
+                    .sorted(Comparator.comparingLong(GenerationReport.Measurement::getWallNanos).reversed())
+                    .collect(Collectors.toList());
+            heaviest.put(category, new ArrayList<>(all.subList(0, Math.min(reportedItems, all.size()))));
+            totals.put(category, new GenerationReport.Measurement(category.toString(),
+                    all.stream().mapToInt(GenerationReport.Measurement::getCount).sum(),
+                    all.stream().mapToLong(GenerationReport.Measurement::getWallNanos).sum(),
+                    cpuTimeSupported ? all.stream().mapToLong(GenerationReport.Measurement::getCpuNanos).sum() : -1,
+                    allocationSupported ? all.stream().mapToLong(GenerationReport.Measurement::getAllocatedBytes).sum() : -1));
+        });
+        synchronized (phases) {
+            return new GenerationReport(new ArrayList<>(phases), heaviest, totals);
+        }
+    }
+
+    private Frame start() {
+        return new Frame(System.nanoTime(), cpuTime(), allocatedBytes());
+    }
+
+    private long cpuTime() {
+        return cpuTimeSupported ? threads.getCurrentThreadCpuTime() : -1;
+    }
+
+    private long allocatedBytes() {
+        return allocationSupported
+                ? ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId())
+                : -1;
+    }
+
+    private static boolean isAllocationSupported() {
+        try {
+            return threads instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()
+                    && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemoryEnabled();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    private class Frame {
+        long wall;
+        long cpu;
+        long allocated;
+        long nestedWall;
+        long nestedCpu;
+        long nestedAllocated;
+
+        Frame(long wall, long cpu, long allocated) {
+            this.wall = wall;
+            this.cpu = cpu;
+            this.allocated = allocated;
+        }
+
+        void stop() {
+            wall = System.nanoTime() - wall;
+            cpu = cpuTimeSupported ? cpuTime() - cpu : -1;
+            allocated = allocationSupported ? allocatedBytes() - allocated : -1;
+        }
+
+        void nested(Frame child) {
+            nestedWall += child.wall;
+            nestedCpu += child.cpu;
+            nestedAllocated += child.allocated;
+        }
+    }
+
+    private class Totals {
+        final String name;
+        int count;
+        long wall;
+        long cpu;
+        long allocated;
+
+        Totals(String name) {
+            this.name = name;
+        }
+
+        synchronized void add(Frame frame) {
+            count++;
+            wall += frame.wall - frame.nestedWall;
+            cpu += frame.cpu - frame.nestedCpu;
+            allocated += frame.allocated - frame.nestedAllocated;
+        }
+
+        synchronized GenerationReport.Measurement toMeasurement() {
+            return new GenerationReport.Measurement(name, count, wall,
+                    cpuTimeSupported ? cpu : -1, allocationSupported ? allocated : -1);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.leangen.graphql.generator;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A report on the time and memory spent on the different phases of schema generation,
+ * and on the heaviest operation sources, types, classpath scans and value mappers.
+ * Produced by {@link io.leangen.graphql.GraphQLSchemaGenerator#generateWithReport()}.
+ * <p>CPU time and allocation are only measured for the generating thread (and the threads discovering operations
+ * in parallel, for {@link Category#OPERATION_SOURCE}), and are reported as {@code -1} if the JVM does not support
+ * measuring them.</p>
+ */
+public class GenerationReport {
+
+    private final List<Measurement> phases;
+    private final Map<Category, List<Measurement>> heaviest;
+    private final Map<Category, Measurement> totals;
+
+    GenerationReport(List<Measurement> phases, Map<Category, List<Measurement>> heaviest, Map<Category, Measurement> totals) {
+        this.phases = Collections.unmodifiableList(phases);
+        this.heaviest = Collections.unmodifiableMap(new EnumMap<>(heaviest));
+        this.totals = Collections.unmodifiableMap(new EnumMap<>(totals));
+    }
+
+    /**
+     * @return The top-level phases of the generation, in the order they were executed
+     */
+    public List<Measurement> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @param category The category of work
+     *
+     * @return The heaviest individual items of the given category, by their own (exclusive) wall time, descending
+     */
+    public List<Measurement> getHeaviest(Category category) {
+        return heaviest.getOrDefault(category, Collections.emptyList());
+    }
+
+    /**
+     * @param category The category of work
+     *
+     * @return The summary of all the work of the given category, or {@code null} if none was done
+     */
+    public Measurement getTotal(Category category) {
+        return totals.get(category);
+    }
+
+    public long getTotalWallNanos() {
+        return phases.stream().mapToLong(Measurement::getWallNanos).sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("Schema generated in ").append(millis(getTotalWallNanos())).append(" ms");
+        phases.forEach(phase -> report.append("\n  ").append(phase));
+        for (Category category : Category.values()) {
+            Measurement total = totals.get(category);
+            if (total != null) {
+                report.append("\n  ").append(total);
+                getHeaviest(category).forEach(item -> report.append("\n    ").append(item));
+            }
+        }
+        return report.toString();
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    /**
+     * The kinds of work attributed to individual items
+     */
+    public enum Category {
+        OPERATION_SOURCE("Operation sources"),
+        TYPE("Types"),
+        CLASSPATH_SCAN("Classpath scans"),
+        VALUE_MAPPER("Value mappers");
+
+        private final String description;
+
+        Category(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    public static class Measurement {
+
+        private final String name;
+        private final int count;
+        private final long wallNanos;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+
+        Measurement(String name, int count, long wallNanos, long cpuNanos, long allocatedBytes) {
+            this.name = name;
+            this.count = count;
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The number of times the measured work was performed
+         */
+        public int getCount() {
+            return count;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": " + millis(wallNanos) + " ms wall"
+                    + (cpuNanos >= 0 ? ", " + millis(cpuNanos) + " ms CPU" : "")
+                    + (allocatedBytes >= 0 ? ", " + allocatedBytes / 1024 + " KB allocated" : "")
+                    + (count > 1 ? " (" + count + " times)" : "");
+        }
+    }
+}
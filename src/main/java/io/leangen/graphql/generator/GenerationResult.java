@@ -0,0 +1,32 @@
+package io.leangen.graphql.generator;
+
+import graphql.schema.GraphQLSchema;
+
+/**
+ * A generated schema, together with the report on its generation
+ */
+public class GenerationResult {
+
+    private final GraphQLSchema schema;
+    private final GenerationReport report;
+
+    public GenerationResult(GraphQLSchema schema, GenerationReport report) {
+        this.schema = schema;
+        this.report = report;
+    }
+
+    public GraphQLSchema getSchema() {
+        return schema;
+    }
+
+    public GenerationReport getReport() {
+        return report;
+    }
+
+    /**
+     * @return The summary of the metadata retained by the schema, computed on every invocation
+     */
+    public MetadataFootprint getMetadataFootprint() {
+        return MetadataFootprint.of(schema);
+    }
+}
@@ -0,0 +1,260 @@
+package io.leangen.graphql.generator;
+
+import graphql.language.OperationDefinition;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLUnionType;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.metadata.TypedElement;
+import io.leangen.graphql.util.Directives;
+import io.leangen.graphql.util.GraphQLUtils;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The state retained from a schema generation, enabling the schema to be regenerated incrementally
+ * after top-level operation sources are added or removed.
+ * <p>The resolvers are remembered per top-level operation source, so only the added sources need to be discovered.
+ * The types of the previous schema are reused as they are, except for those affected by the change: the types
+ * that gained or lost fields contributed by {@link io.leangen.graphql.annotations.GraphQLContext} resolvers
+ * of the added or removed sources, and all the types (transitively) referring to them.</p>
+ */
+public class GenerationState {
+
+    private final Map<OperationDefinition.Operation, Map<OperationSource, List<Resolver>>> resolvers = new EnumMap<>(OperationDefinition.Operation.class);
+    private final Set<Type> changedContextTypes = ConcurrentHashMap.newKeySet();
+    private GraphQLSchema schema;
+    private Set<GraphQLObjectType> discoveredTypes = Collections.emptySet();
+
+    public GenerationState() {
+        for (OperationDefinition.Operation operation : OperationDefinition.Operation.values()) {
+            resolvers.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    List<Resolver> getResolvers(OperationDefinition.Operation operation, OperationSource source, Supplier<List<Resolver>> discovery) {
+        Map<OperationSource, List<Resolver>> known = resolvers.get(operation);
+        List<Resolver> discovered = known.get(source);
+        if (discovered == null) {
+            discovered = discovery.get();
+            known.put(source, discovered);
+            discovered.forEach(resolver -> changedContextTypes.addAll(resolver.getSourceTypes()));
+        }
+        return discovered;
+    }
+
+    /**
+     * Forgets the resolvers of the operation sources that are no longer registered
+     *
+     * @param sources The currently registered top-level operation sources
+     */
+    public void retainOperationSources(Collection<OperationSource> sources) {
+        Set<OperationSource> current = new HashSet<>(sources);
+        for (Map<OperationSource, List<Resolver>> known : resolvers.values()) {
+            known.entrySet().removeIf(entry -> {
+                if (current.contains(entry.getKey())) {
+                    return false;
+                }
+                entry.getValue().forEach(resolver -> changedContextTypes.addAll(resolver.getSourceTypes()));
+                return true;
+            });
+        }
+    }
+
+    /**
+     * @return The last schema generated with this state, or {@code null} if none was generated yet
+     */
+    public GraphQLSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * @return The implementation types discovered (rather than reached from the operations) while generating the last schema
+     */
+    public Set<GraphQLObjectType> getDiscoveredTypes() {
+        return discoveredTypes;
+    }
+
+    /**
+     * Records the outcome of a successful generation, which the next one will build upon
+     *
+     * @param schema The generated schema
+     * @param discoveredTypes The implementation types discovered while generating the schema
+     */
+    public void update(GraphQLSchema schema, Set<GraphQLObjectType> discoveredTypes) {
+        this.schema = schema;
+        this.discoveredTypes = Collections.unmodifiableSet(discoveredTypes);
+        this.changedContextTypes.clear();
+    }
+
+    /**
+     * @param candidates Filters the types of the previous schema eligible for reuse (e.g. rejecting the root types)
+     *
+     * @return The types of the previous schema not affected by the changes since it was generated, by name
+     */
+    public Map<String, GraphQLNamedType> getReusableTypes(Predicate<GraphQLNamedType> candidates) {
+        Map<String, GraphQLNamedType> types = new LinkedHashMap<>();
+        if (schema == null) {
+            return types;
+        }
+        schema.getAllTypesAsList().stream()
+                .filter(candidates)
+                .forEach(type -> types.put(type.getName(), type));
+
+        Map<String, Set<String>> referrers = new HashMap<>();
+        types.values().forEach(type -> referencedTypes(type).forEach(
+                referenced -> referrers.computeIfAbsent(referenced, name -> new HashSet<>()).add(type.getName())));
+
+        Deque<String> affected = new ArrayDeque<>();
+        types.values().stream()
+                .filter(this::isAffected)
+                .forEach(type -> affected.add(type.getName()));
+        Set<String> excluded = new HashSet<>();
+        while (!affected.isEmpty()) {
+            String name = affected.pop();
+            if (excluded.add(name)) {
+                affected.addAll(referrers.getOrDefault(name, Collections.emptySet()));
+            }
+        }
+        types.keySet().removeAll(excluded);
+        return types;
+    }
+
+    /**
+     * Prepares the types of the previous schema referred to by the newly mapped ones (and, transitively, the types they
+     * refer to) to be reused in the schema being generated. As the code registry is built anew for each generation,
+     * the data fetchers of the reused types are carried over, and the reused interfaces and unions get the type
+     * resolvers of the new build context, as the previous ones were bound to the previous context. The implementations
+     * of the reused interfaces discovered previously are reused as well, or re-mapped if affected by the changes.
+     *
+     * @param reusableTypes The types obtained from {@link #getReusableTypes(Predicate)}
+     * @param operationMapper The mapper of the schema being generated, after the operations have been mapped
+     * @param buildContext The context of the schema being generated
+     *
+     * @return The reused types that need to be added to the schema
+     */
+    public Set<GraphQLNamedType> reuse(Map<String, GraphQLNamedType> reusableTypes, OperationMapper operationMapper, BuildContext buildContext) {
+        if (schema == null) {
+            return Collections.emptySet();
+        }
+        Deque<GraphQLNamedType> pending = buildContext.typeCache.getReferencedKnownTypes().stream()
+                .filter(type -> reusableTypes.get(type.getName()) == type)
+                .collect(Collectors.toCollection(ArrayDeque::new));
+        if (reusableTypes.get(buildContext.node.getName()) == buildContext.node) {
+            pending.add(buildContext.node);
+        }
+        Map<String, GraphQLNamedType> used = new LinkedHashMap<>();
+        Map<String, GraphQLObjectType> affectedImplementations = new LinkedHashMap<>();
+        while (!pending.isEmpty()) {
+            GraphQLNamedType type = pending.pop();
+            if (used.putIfAbsent(type.getName(), type) != null) {
+                continue;
+            }
+            referencedTypes(type).stream()
+                    .map(reusableTypes::get)
+                    .filter(Objects::nonNull)
+                    .forEach(pending::add);
+            if (type instanceof GraphQLInterfaceType) {
+                discoveredTypes.stream()
+                        .filter(impl -> impl.getInterfaces().stream().anyMatch(inter -> inter.getName().equals(type.getName())))
+                        .forEach(impl -> {
+                            if (reusableTypes.get(impl.getName()) == impl) {
+                                pending.add(impl);
+                            } else {
+                                affectedImplementations.put(impl.getName(), impl);
+                            }
+                        });
+            }
+        }
+
+        GraphQLCodeRegistry previous = schema.getCodeRegistry();
+        used.values().forEach(type -> {
+            if (type instanceof GraphQLFieldsContainer) {
+                GraphQLFieldsContainer container = (GraphQLFieldsContainer) type;
+                container.getFieldDefinitions().forEach(field -> buildContext.codeRegistry.dataFetcher(
+                        FieldCoordinates.coordinates(container, field), previous.getDataFetcher(container, field)));
+            }
+            if (type instanceof GraphQLInterfaceType || type instanceof GraphQLUnionType) {
+                buildContext.codeRegistry.typeResolver(type.getName(), GraphQLUtils.isRelayNodeInterface(type)
+                        ? new RelayNodeTypeResolver(buildContext.typeRegistry, buildContext.typeInfoGenerator, buildContext.messageBundle)
+                        : buildContext.typeResolver);
+            }
+            if (type instanceof GraphQLObjectType && discoveredTypes.contains(type)) {
+                ((GraphQLObjectType) type).getInterfaces().stream()
+                        .filter(inter -> used.get(inter.getName()) == inter)
+                        .forEach(inter -> buildContext.typeRegistry.registerDiscoveredCovariantType(
+                                inter.getName(), Directives.getMappedType(type), (GraphQLObjectType) type));
+            }
+        });
+
+        affectedImplementations.values().forEach(impl -> {
+            AnnotatedType javaType = Directives.getMappedType(impl);
+            GraphQLOutputType remapped = operationMapper.toGraphQLType(javaType,
+                    new TypeMappingEnvironment(new TypedElement(javaType), operationMapper, buildContext));
+            //A reference means the type got mapped anyway, and is already registered as an implementation
+            if (remapped instanceof GraphQLObjectType) {
+                ((GraphQLObjectType) remapped).getInterfaces().stream()
+                        .filter(inter -> used.containsKey(inter.getName()))
+                        .forEach(inter -> buildContext.typeRegistry.registerDiscoveredCovariantType(
+                                inter.getName(), javaType, (GraphQLObjectType) remapped));
+            }
+        });
+        buildContext.resolveTypeReferences();
+        return new HashSet<>(used.values());
+    }
+
+    private boolean isAffected(GraphQLNamedType type) {
+        if (changedContextTypes.isEmpty() || !Directives.isMappedType(type)) {
+            return false;
+        }
+        Type javaType = Directives.getMappedType(type).getType();
+        return changedContextTypes.stream().anyMatch(context -> GenericTypeReflector.isSuperType(context, javaType));
+    }
+
+    private static Set<String> referencedTypes(GraphQLNamedType type) {
+        Set<String> referenced = new HashSet<>();
+        if (type instanceof GraphQLFieldsContainer) {
+            for (GraphQLFieldDefinition field : ((GraphQLFieldsContainer) type).getFieldDefinitions()) {
+                referenced.add(GraphQLUtils.unwrap(field.getType()).getName());
+                field.getArguments().forEach(arg -> referenced.add(GraphQLUtils.unwrap(arg.getType()).getName()));
+            }
+        }
+        if (type instanceof GraphQLObjectType) {
+            ((GraphQLObjectType) type).getInterfaces().forEach(inter -> referenced.add(inter.getName()));
+        }
+        if (type instanceof GraphQLUnionType) {
+            ((GraphQLUnionType) type).getTypes().forEach(member -> referenced.add(member.getName()));
+        }
+        if (type instanceof GraphQLInputObjectType) {
+            ((GraphQLInputObjectType) type).getFieldDefinitions().forEach(field -> referenced.add(GraphQLUtils.unwrap(field.getType()).getName()));
+        }
+        return referenced;
+    }
+}
@@ -0,0 +1,153 @@
+package io.leangen.graphql.generator;
+
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.metadata.InputField;
+import io.leangen.graphql.metadata.Operation;
+import io.leangen.graphql.metadata.OperationArgument;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.util.Directives;
+import io.leangen.graphql.util.TypeKey;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * A summary of the metadata retained by a generated schema: the operations, resolvers, arguments and input fields
+ * attached to its elements, and the Java types they refer to. The number of distinct type instances exceeding
+ * the number of structurally distinct types indicates memory wasted on redundant copies of the same types.
+ */
+public class MetadataFootprint {
+
+    private final Set<Object> operations = identitySet();
+    private final Set<Object> resolvers = identitySet();
+    private final Set<Object> arguments = identitySet();
+    private final Set<Object> inputFields = identitySet();
+    private final Set<AnnotatedType> typeInstances = identitySet();
+    private final Set<TypeKey> distinctTypes = new HashSet<>();
+    private int typeReferences;
+
+    private MetadataFootprint() {
+    }
+
+    /**
+     * @param schema A schema generated by {@link io.leangen.graphql.GraphQLSchemaGenerator}
+     *
+     * @return The summary of the metadata retained by the given schema
+     */
+    public static MetadataFootprint of(GraphQLSchema schema) {
+        MetadataFootprint footprint = new MetadataFootprint();
+        for (GraphQLNamedType type : schema.getAllTypesAsList()) {
+            if (Directives.isMappedType(type)) {
+                footprint.visit(Directives.getMappedType(type));
+            }
+            if (type instanceof GraphQLFieldsContainer) {
+                for (GraphQLFieldDefinition field : ((GraphQLFieldsContainer) type).getFieldDefinitions()) {
+                    Directives.getMappedOperation(field).ifPresent(footprint::visit);
+                }
+            }
+            if (type instanceof GraphQLInputObjectType) {
+                for (GraphQLInputObjectField field : ((GraphQLInputObjectType) type).getFieldDefinitions()) {
+                    Directives.getMappedInputField(field).ifPresent(footprint::visit);
+                }
+            }
+        }
+        return footprint;
+    }
+
+    private void visit(Operation operation) {
+        if (operations.add(operation)) {
+            visit(operation.getJavaType());
+            operation.getArguments().forEach(this::visit);
+            for (Resolver resolver : operation.getResolvers()) {
+                if (resolvers.add(resolver)) {
+                    visit(resolver.getReturnType());
+                    resolver.getArguments().forEach(this::visit);
+                }
+            }
+        }
+    }
+
+    private void visit(OperationArgument argument) {
+        if (arguments.add(argument)) {
+            visit(argument.getJavaType());
+            visit(argument.getBaseType());
+        }
+    }
+
+    private void visit(InputField inputField) {
+        if (inputFields.add(inputField)) {
+            visit(inputField.getJavaType());
+            visit(inputField.getDeserializableType());
+        }
+    }
+
+    private void visit(AnnotatedType type) {
+        typeReferences++;
+        typeInstances.add(type);
+        distinctTypes.add(new TypeKey(type));
+    }
+
+    public int getOperationCount() {
+        return operations.size();
+    }
+
+    public int getResolverCount() {
+        return resolvers.size();
+    }
+
+    public int getArgumentCount() {
+        return arguments.size();
+    }
+
+    public int getInputFieldCount() {
+        return inputFields.size();
+    }
+
+    /**
+     * @return The number of references to Java types held by the metadata
+     */
+    public int getTypeReferenceCount() {
+        return typeReferences;
+    }
+
+    /**
+     * @return The number of distinct {@link AnnotatedType} instances referenced by the metadata
+     */
+    public int getTypeInstanceCount() {
+        return typeInstances.size();
+    }
+
+    /**
+     * @return The number of structurally distinct types (including the annotations) referenced by the metadata
+     */
+    public int getDistinctTypeCount() {
+        return distinctTypes.size();
+    }
+
+    /**
+     * @return The number of type instances that are redundant copies of structurally equal ones
+     */
+    public int getRedundantTypeInstanceCount() {
+        return getTypeInstanceCount() - getDistinctTypeCount();
+    }
+
+    @Override
+    public String toString() {
+        return "Schema metadata: " + getOperationCount() + " operations, " + getResolverCount() + " resolvers, "
+                + getArgumentCount() + " arguments, " + getInputFieldCount() + " input fields, referring to "
+                + getDistinctTypeCount() + " distinct Java types through " + getTypeReferenceCount() + " references and "
+                + getTypeInstanceCount() + " instances (" + getRedundantTypeInstanceCount() + " redundant)";
+    }
+
+    private static <T> Set<T> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
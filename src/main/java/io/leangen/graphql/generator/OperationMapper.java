@@ -11,6 +11,7 @@ import graphql.schema.GraphQLInputObjectField;
 import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLNamedOutputType;
 import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLNonNull;
@@ -22,6 +23,7 @@ import graphql.schema.PropertyDataFetcher;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLId;
 import io.leangen.graphql.execution.OperationExecutor;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
 import io.leangen.graphql.generator.mapping.TypeMapper;
 import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
 import io.leangen.graphql.metadata.Directive;
@@ -51,9 +53,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static graphql.Scalars.GraphQLID;
 import static graphql.Scalars.GraphQLString;
 import static graphql.schema.FieldCoordinates.coordinates;
 import static graphql.schema.GraphQLArgument.newArgument;
@@ -111,7 +115,13 @@ public class OperationMapper {
         if (rootQueries.stream().noneMatch(query -> query.getName().equals(GraphQLUtils.NODE))) {
             Map<String, String> nodeQueriesByType = getNodeQueriesByType(rootQueries, queries, buildContext.typeRegistry, buildContext.node, buildContext);
             if (!nodeQueriesByType.isEmpty()) {
-                queries.add(buildContext.relay.nodeField(buildContext.node, createNodeResolver(nodeQueriesByType, buildContext.relay)));
+                queries.add(buildContext.relay.nodeField(buildContext.node, createNodeResolver(nodeQueriesByType, buildContext.globalEnvironment.globalIdCodec)));
+                //Same for the plural Node query
+                if (rootQueries.stream().noneMatch(query -> query.getName().equals(GraphQLUtils.NODES))) {
+                    Map<String, String> batchNodeQueriesByType = getBatchNodeQueriesByType(rootQueries, queries, buildContext.node, buildContext);
+                    queries.add(toNodesField(queryRoot, new RelayNodesResolver(nodeQueriesByType, batchNodeQueriesByType,
+                            buildContext.globalEnvironment.globalIdCodec), buildContext));
+                }
             }
         }
         return queries;
@@ -207,7 +217,8 @@ public class OperationMapper {
      */
     public GraphQLOutputType toGraphQLType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
         env.addType(javaType);
-        GraphQLOutputType type = env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip).toGraphQLType(javaType, mappersToSkip, env);
+        GraphQLOutputType type = profiled(javaType, env, () ->
+                env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip).toGraphQLType(javaType, mappersToSkip, env));
         log(env.buildContext.validator.checkUniqueness(type, env.rootElement, javaType));
         env.buildContext.typeCache.completeType(type);
         return type;
@@ -253,11 +264,19 @@ public class OperationMapper {
      */
     public GraphQLInputType toGraphQLInputType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
         env.addType(javaType);
-        GraphQLInputType type = env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip).toGraphQLInputType(javaType, mappersToSkip, env);
+        GraphQLInputType type = profiled(javaType, env, () ->
+                env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip).toGraphQLInputType(javaType, mappersToSkip, env));
         log(env.buildContext.validator.checkUniqueness(type, env.rootElement, javaType));
         return type;
     }
 
+    private <T> T profiled(AnnotatedType javaType, TypeMappingEnvironment env, Supplier<T> mapping) {
+        GenerationProfiler profiler = env.buildContext.profiler;
+        return profiler.isEnabled()
+                ? profiler.measure(GenerationReport.Category.TYPE, ClassUtils.toString(javaType), mapping)
+                : mapping.get();
+    }
+
     private GraphQLArgument toGraphQLArgument(OperationArgument operationArgument, BuildContext buildContext) {
         GraphQLArgument.Builder builder = newArgument()
                 .name(operationArgument.getName())
@@ -379,6 +398,7 @@ public class OperationMapper {
 
     /**
      * Creates a generic resolver for the given operation.
+     * Also used to bind the operations of the types mapped by other generators to the given context.
      * @implSpec This resolver simply invokes {@link OperationExecutor#execute(DataFetchingEnvironment)}
      *
      * @param operation The operation for which the resolver is being created
@@ -387,7 +407,7 @@ public class OperationMapper {
      * @return The resolver for the given operation
      */
     @SuppressWarnings("deprecation")
-    private DataFetcher<?> createResolver(Operation operation, BuildContext buildContext) {
+    public DataFetcher<?> createResolver(Operation operation, BuildContext buildContext) {
         Stream<AnnotatedType> inputTypes = operation.getArguments().stream()
                 .filter(OperationArgument::isMappable)
                 .map(OperationArgument::getJavaType);
@@ -406,21 +426,13 @@ public class OperationMapper {
      *
      * @param nodeQueriesByType A map of all queries whose return types implement the <em>Node</em> interface, keyed
      *                          by their corresponding GraphQL type name
-     * @param relay Relay helper
+     * @param globalIdCodec The codec used to decode Relay global IDs
      *
      * @return The node query resolver
      */
-    private DataFetcher<?> createNodeResolver(Map<String, String> nodeQueriesByType, Relay relay) {
+    private DataFetcher<?> createNodeResolver(Map<String, String> nodeQueriesByType, GlobalIdCodec globalIdCodec) {
         return env -> {
-            String typeName;
-            try {
-                typeName = relay.fromGlobalId(env.getArgument(GraphQLId.RELAY_ID_FIELD_NAME)).getType();
-            } catch (Exception e) {
-                throw new IllegalArgumentException(env.getArgument(GraphQLId.RELAY_ID_FIELD_NAME) + " is not a valid Relay node ID");
-            }
-            if (!nodeQueriesByType.containsKey(typeName)) {
-                throw new IllegalArgumentException(typeName + " is not a Relay node type or no registered query can fetch it by ID");
-            }
+            String typeName = RelayNodesResolver.getNodeType(env.getArgument(GraphQLId.RELAY_ID_FIELD_NAME), nodeQueriesByType, globalIdCodec);
             final GraphQLObjectType queryRoot = env.getGraphQLSchema().getQueryType();
             final GraphQLFieldDefinition nodeQueryForType = queryRoot.getFieldDefinition(nodeQueriesByType.get(typeName));
 
@@ -428,6 +440,63 @@ public class OperationMapper {
         };
     }
 
+    /**
+     * Creates the <em>nodes</em> query, fetching multiple objects implementing the <em>Node</em> interface by their IDs.
+     *
+     * @param queryRoot The name of the query root type
+     * @param resolver The resolver for the <em>nodes</em> query
+     * @param buildContext The shared context containing all the global information needed for mapping
+     *
+     * @return The <em>nodes</em> query
+     */
+    private GraphQLFieldDefinition toNodesField(String queryRoot, RelayNodesResolver resolver, BuildContext buildContext) {
+        GraphQLFieldDefinition nodes = newFieldDefinition()
+                .name(GraphQLUtils.NODES)
+                .description("Fetches objects given their IDs")
+                .type(new GraphQLNonNull(new GraphQLList(buildContext.node)))
+                .argument(newArgument()
+                        .name(GraphQLUtils.RELAY_IDS_ARGUMENT_NAME)
+                        .description("The IDs of the objects")
+                        .type(new GraphQLNonNull(new GraphQLList(new GraphQLNonNull(GraphQLID)))))
+                .build();
+        buildContext.codeRegistry.dataFetcher(coordinates(queryRoot, nodes.getName()), resolver);
+        return nodes;
+    }
+
+    /**
+     * Finds the queries capable of fetching a list of nodes of a specific type by a list of IDs (as the <em>ids</em> argument).
+     *
+     * @return A map of the found queries, keyed by the corresponding GraphQL type name
+     */
+    private Map<String, String> getBatchNodeQueriesByType(List<Operation> queries, List<GraphQLFieldDefinition> graphQLQueries,
+                                                          GraphQLInterfaceType node, BuildContext buildContext) {
+
+        Map<String, String> batchNodeQueriesByType = new HashMap<>();
+
+        for (int i = 0; i < queries.size(); i++) {
+            Operation query = queries.get(i);
+            GraphQLFieldDefinition graphQLQuery = graphQLQueries.get(i);
+            GraphQLArgument ids = graphQLQuery.getArgument(GraphQLUtils.RELAY_IDS_ARGUMENT_NAME);
+
+            if (ids != null && GraphQLUtils.isRelayIdList(ids.getType())
+                    && query.getResolver(GraphQLUtils.RELAY_IDS_ARGUMENT_NAME) != null) {
+
+                GraphQLType list = GraphQLUtils.unwrapNonNull(graphQLQuery.getType());
+                if (list instanceof GraphQLList) {
+                    GraphQLType unwrappedNodeType = GraphQLUtils.unwrapNonNull(((GraphQLList) list).getWrappedType());
+                    if (unwrappedNodeType instanceof GraphQLNamedType) {
+                        String typeName = ((GraphQLNamedType) unwrappedNodeType).getName();
+                        GraphQLType nodeType = buildContext.typeCache.resolveType(typeName);
+                        if (nodeType instanceof GraphQLObjectType && ((GraphQLObjectType) nodeType).getInterfaces().contains(node)) {
+                            batchNodeQueriesByType.putIfAbsent(typeName, query.getName());
+                        }
+                    }
+                }
+            }
+        }
+        return batchNodeQueriesByType;
+    }
+
     private Map<String, String> getNodeQueriesByType(List<Operation> queries,
                                                      List<GraphQLFieldDefinition> graphQLQueries,
                                                      TypeRegistry typeRegistry, GraphQLInterfaceType node, BuildContext buildContext) {
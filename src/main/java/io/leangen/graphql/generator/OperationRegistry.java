@@ -1,5 +1,6 @@
 package io.leangen.graphql.generator;
 
+import graphql.language.OperationDefinition;
 import io.leangen.graphql.execution.GlobalEnvironment;
 import io.leangen.graphql.metadata.Operation;
 import io.leangen.graphql.metadata.Resolver;
@@ -8,10 +9,12 @@ import io.leangen.graphql.metadata.strategy.query.OperationBuilder;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilderParams;
 import io.leangen.graphql.metadata.strategy.type.TypeTransformer;
+import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -19,9 +22,11 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class OperationRegistry {
 
@@ -34,20 +39,65 @@ public class OperationRegistry {
     private final TypeTransformer typeTransformer;
     private final String[] basePackages;
     private final GlobalEnvironment environment;
+    private final GenerationProfiler profiler;
+    private GenerationState state;
 
     public OperationRegistry(OperationSourceRegistry operationSourceRegistry, OperationBuilder operationBuilder,
                              InclusionStrategy inclusionStrategy, TypeTransformer typeTransformer, String[] basePackages,
                              GlobalEnvironment environment) {
+        this(operationSourceRegistry, operationBuilder, inclusionStrategy, typeTransformer, basePackages, environment, 1);
+    }
+
+    /**
+     * @param parallelism The number of threads used to discover the resolvers of the registered operation sources.
+     *                    With 1, the discovery happens sequentially on the calling thread. The discovered resolvers
+     *                    are always merged in the order of the operation sources, so the result does not depend on it.
+     */
+    public OperationRegistry(OperationSourceRegistry operationSourceRegistry, OperationBuilder operationBuilder,
+                             InclusionStrategy inclusionStrategy, TypeTransformer typeTransformer, String[] basePackages,
+                             GlobalEnvironment environment, int parallelism) {
+        this(operationSourceRegistry, operationBuilder, inclusionStrategy, typeTransformer, basePackages, environment, parallelism, GenerationProfiler.DISABLED, null);
+    }
 
+    /**
+     * @param parallelism The number of threads used to discover the resolvers of the registered operation sources
+     * @param profiler The profiler the time spent discovering the resolvers of each operation source is reported to
+     * @param state The state retaining the resolvers discovered per top-level operation source between generations.
+     *              The resolvers of the sources already known to it are reused instead of being discovered again.
+     *              Can be {@code null}.
+     */
+    public OperationRegistry(OperationSourceRegistry operationSourceRegistry, OperationBuilder operationBuilder,
+                             InclusionStrategy inclusionStrategy, TypeTransformer typeTransformer, String[] basePackages,
+                             GlobalEnvironment environment, int parallelism, GenerationProfiler profiler, GenerationState state) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, but was " + parallelism);
+        }
         this.operationSourceRegistry = operationSourceRegistry;
         this.operationBuilder = operationBuilder;
         this.inclusionStrategy = inclusionStrategy;
         this.typeTransformer = typeTransformer;
         this.basePackages = basePackages;
         this.environment = environment;
-        List<Resolver> resolvers = buildQueryResolvers(operationSourceRegistry.getOperationSources());
-        List<Resolver> mutationResolvers = buildMutationResolvers(operationSourceRegistry.getOperationSources());
-        List<Resolver> subscriptionResolvers = buildSubscriptionResolvers(operationSourceRegistry.getOperationSources());
+        this.profiler = profiler;
+        this.state = state;
+        List<OperationSource> operationSources = new ArrayList<>(operationSourceRegistry.getOperationSources());
+        //Nested sources are discovered lazily, one by one, so there's nothing to parallelize later
+        ForkJoinPool discoveryPool = parallelism > 1 && operationSources.size() > 1 ? new ForkJoinPool(parallelism) : null;
+        List<Resolver> resolvers;
+        List<Resolver> mutationResolvers;
+        List<Resolver> subscriptionResolvers;
+        try {
+            resolvers = buildQueryResolvers(operationSources, discoveryPool);
+            mutationResolvers = buildMutationResolvers(operationSources, discoveryPool);
+            subscriptionResolvers = buildSubscriptionResolvers(operationSources, discoveryPool);
+        } finally {
+            if (discoveryPool != null) {
+                discoveryPool.shutdown();
+            }
+            //Nested sources are created anew for each type, so there's no point in retaining their resolvers
+            state = null;
+        }
         queries = buildQueries(resolvers);
         mutations = buildMutations(mutationResolvers);
         subscriptions = buildSubscriptions(subscriptionResolvers);
@@ -136,6 +186,18 @@ public class OperationRegistry {
         return children.values();
     }
 
+    /**
+     * @param domainType The domain type to check
+     *
+     * @return Whether the given domain type gets fields contributed by the {@link io.leangen.graphql.annotations.GraphQLContext}
+     * operations of the registered operation sources
+     */
+    public boolean hasEmbeddableQueries(AnnotatedType domainType) {
+        return getAllQueries().stream()
+                .map(Operation::unbatch)
+                .anyMatch(query -> query.isEmbeddableForType(domainType.getType()));
+    }
+
     private Set<Operation> getEmbeddableQueries(Type domainType) {
         return getAllQueries().stream()
                 .map(Operation::unbatch)
@@ -144,33 +206,51 @@ public class OperationRegistry {
     }
 
     private Set<Operation> buildNestedQueries(OperationSource operationSource) {
-        return buildQueries(buildQueryResolvers(Collections.singleton(operationSource)));
+        return buildQueries(buildQueryResolvers(Collections.singleton(operationSource), null));
     }
 
-    private List<Resolver> buildQueryResolvers(Collection<OperationSource> operationSources) {
-        return buildResolvers(operationSources, ((operationSource, builder) ->
+    private List<Resolver> buildQueryResolvers(Collection<OperationSource> operationSources, ForkJoinPool discoveryPool) {
+        return buildResolvers(operationSources, discoveryPool, OperationDefinition.Operation.QUERY, ((operationSource, builder) ->
                 builder.buildQueryResolvers(new ResolverBuilderParams(
                         operationSource.getServiceBeanSupplier(), operationSource.getJavaType(), operationSource.getExposedType(), inclusionStrategy, typeTransformer, basePackages, environment))));
     }
 
-    private List<Resolver> buildMutationResolvers(Collection<OperationSource> operationSources) {
-        return buildResolvers(operationSources, ((operationSource, builder) ->
+    private List<Resolver> buildMutationResolvers(Collection<OperationSource> operationSources, ForkJoinPool discoveryPool) {
+        return buildResolvers(operationSources, discoveryPool, OperationDefinition.Operation.MUTATION, ((operationSource, builder) ->
                 builder.buildMutationResolvers(new ResolverBuilderParams(
                         operationSource.getServiceBeanSupplier(), operationSource.getJavaType(), operationSource.getExposedType(), inclusionStrategy, typeTransformer, basePackages, environment))));
     }
 
-    private List<Resolver> buildSubscriptionResolvers(Collection<OperationSource> operationSources) {
-        return buildResolvers(operationSources, ((operationSource, builder) ->
+    private List<Resolver> buildSubscriptionResolvers(Collection<OperationSource> operationSources, ForkJoinPool discoveryPool) {
+        return buildResolvers(operationSources, discoveryPool, OperationDefinition.Operation.SUBSCRIPTION, ((operationSource, builder) ->
                 builder.buildSubscriptionResolvers(new ResolverBuilderParams(
                         operationSource.getServiceBeanSupplier(), operationSource.getJavaType(), operationSource.getExposedType(), inclusionStrategy, typeTransformer, basePackages, environment))));
     }
 
-    private List<Resolver> buildResolvers(Collection<OperationSource> operationSources, BiFunction<OperationSource, ResolverBuilder, Collection<Resolver>> building) {
-        return operationSources.stream()
-                .flatMap(operationSource ->
-                        operationSource.getResolverBuilders().stream()
-                                .flatMap(builder -> building.apply(operationSource, builder).stream())
-                                .distinct())
+    private List<Resolver> buildResolvers(Collection<OperationSource> operationSources, ForkJoinPool discoveryPool,
+                                          OperationDefinition.Operation operation, BiFunction<OperationSource, ResolverBuilder, Collection<Resolver>> building) {
+        if (discoveryPool == null) {
+            return buildResolvers(operationSources.stream(), operation, building);
+        }
+        //Parallel streams preserve the encounter order when collecting to a list, keeping the result deterministic
+        return discoveryPool.submit(() -> buildResolvers(operationSources.parallelStream(), operation, building)).join();
+    }
+
+    private List<Resolver> buildResolvers(Stream<OperationSource> operationSources, OperationDefinition.Operation operation,
+                                          BiFunction<OperationSource, ResolverBuilder, Collection<Resolver>> building) {
+        GenerationState state = this.state;
+        return operationSources
+                .flatMap(operationSource -> state == null
+                        ? buildResolvers(operationSource, building).stream()
+                        : state.getResolvers(operation, operationSource, () -> buildResolvers(operationSource, building)).stream())
                 .collect(Collectors.toList());
     }
+
+    private List<Resolver> buildResolvers(OperationSource operationSource, BiFunction<OperationSource, ResolverBuilder, Collection<Resolver>> building) {
+        return profiler.measure(GenerationReport.Category.OPERATION_SOURCE, ClassUtils.toString(operationSource.getJavaType()), () ->
+                operationSource.getResolverBuilders().stream()
+                        .flatMap(builder -> building.apply(operationSource, builder).stream())
+                        .distinct()
+                        .collect(Collectors.toList()));
+    }
 }
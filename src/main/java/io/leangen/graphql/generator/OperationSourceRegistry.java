@@ -1,11 +1,12 @@
 package io.leangen.graphql.generator;
 
+import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
 import io.leangen.graphql.util.Utils;
 
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.function.Supplier;
 
@@ -16,7 +17,7 @@ public class OperationSourceRegistry {
 
     private final Collection<ResolverBuilder> topLevelResolverBuilders = new LinkedHashSet<>();
     private final Collection<ResolverBuilder> nestedResolverBuilders = new LinkedHashSet<>();
-    private final Collection<OperationSource> operationSources = new HashSet<>();
+    private final Collection<OperationSource> operationSources = new LinkedHashSet<>();
 
     public void registerOperationSource(Supplier<Object> querySourceBeanSupplier, AnnotatedType beanType, Class<?> exposedType, Collection<ResolverBuilder> builders) {
         this.operationSources.add(new OperationSource(querySourceBeanSupplier, beanType, exposedType, Utils.defaultIfEmpty(builders, topLevelResolverBuilders)));
@@ -26,6 +27,12 @@ public class OperationSourceRegistry {
         this.operationSources.add(new OperationSource(serviceType, Utils.defaultIfEmpty(builders, topLevelResolverBuilders)));
     }
 
+    public void unregisterOperationSources(Type serviceType) {
+        Class<?> raw = GenericTypeReflector.erase(serviceType);
+        this.operationSources.removeIf(source -> raw.equals(source.getExposedType())
+                || raw.equals(GenericTypeReflector.erase(source.getJavaType().getType())));
+    }
+
     public void registerGlobalResolverBuilders(Collection<ResolverBuilder> resolverDetectionStrategies) {
         this.topLevelResolverBuilders.addAll(resolverDetectionStrategies);
     }
@@ -0,0 +1,204 @@
+package io.leangen.graphql.generator;
+
+import graphql.ExceptionWhileDataFetching;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import graphql.schema.GraphQLObjectType;
+import io.leangen.graphql.annotations.GraphQLId;
+import io.leangen.graphql.execution.relay.DecodedGlobalId;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
+import io.leangen.graphql.util.GraphQLUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Resolver for the <em>nodes</em> query, fetching multiple objects implementing the Relay <em>Node</em> interface at once.
+ * <p>The given IDs are grouped by type. Each group is fetched by a single invocation of the batch query registered
+ * for the type, if one exists, or by invoking the <em>node</em> query for the type once per ID otherwise.
+ * The results are always returned in the order of the given IDs. The IDs that are invalid, or belong to no known
+ * node type, resolve to {@code null}, each reported by a separate error, without failing the rest of the batch.
+ * Likewise, the nodes whose query fails (or, for batch queries, the nodes of the failed batch) resolve to {@code null},
+ * each reported by a separate error.</p>
+ */
+class RelayNodesResolver implements DataFetcher<Object> {
+
+    private final Map<String, String> nodeQueriesByType;
+    private final Map<String, String> batchNodeQueriesByType;
+    private final GlobalIdCodec globalIdCodec;
+
+    /**
+     * @param nodeQueriesByType Queries fetching a single node by ID, keyed by the GraphQL type name
+     * @param batchNodeQueriesByType Queries fetching a list of nodes by a list of IDs, keyed by the GraphQL type name.
+     *                               The nodes must be returned in the order of the given IDs.
+     * @param globalIdCodec The codec used to decode Relay global IDs
+     */
+    RelayNodesResolver(Map<String, String> nodeQueriesByType, Map<String, String> batchNodeQueriesByType, GlobalIdCodec globalIdCodec) {
+        this.nodeQueriesByType = nodeQueriesByType;
+        this.batchNodeQueriesByType = batchNodeQueriesByType;
+        this.globalIdCodec = globalIdCodec;
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment env) throws Exception {
+        List<String> ids = env.getArgument(GraphQLUtils.RELAY_IDS_ARGUMENT_NAME);
+        Object[] nodes = new Object[ids.size()];
+        List<GraphQLError> errors = Collections.synchronizedList(new ArrayList<>());
+        Map<String, List<Integer>> positionsByType = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            DecodedGlobalId decoded = globalIdCodec.tryDecode(ids.get(i));
+            String invalid = validate(ids.get(i), decoded, nodeQueriesByType);
+            if (invalid != null) {
+                errors.add(GraphqlErrorBuilder.newError(env)
+                        .message(invalid)
+                        .path(env.getExecutionStepInfo().getPath().segment(i))
+                        .build());
+            } else {
+                positionsByType.computeIfAbsent(decoded.getTypeName(), type -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> group : positionsByType.entrySet()) {
+            List<Integer> positions = group.getValue();
+            String batchQuery = batchNodeQueriesByType.get(group.getKey());
+            if (batchQuery != null) {
+                List<String> batchIds = new ArrayList<>(positions.size());
+                positions.forEach(position -> batchIds.add(ids.get(position)));
+                //A failed batch only fails the nodes it was fetching
+                Consumer<Throwable> failure = e -> positions.forEach(position -> errors.add(fetchError(env, position, e)));
+                try {
+                    Object result = fetch(batchQuery, GraphQLUtils.RELAY_IDS_ARGUMENT_NAME, batchIds, env);
+                    collect(result, batch -> distribute(batchQuery, batch, positions, nodes), failure, errors, pending);
+                } catch (Exception e) {
+                    failure.accept(e);
+                }
+            } else {
+                String nodeQuery = nodeQueriesByType.get(group.getKey());
+                for (int position : positions) {
+                    Consumer<Throwable> failure = e -> errors.add(fetchError(env, position, e));
+                    try {
+                        Object result = fetch(nodeQuery, GraphQLId.RELAY_ID_FIELD_NAME, ids.get(position), env);
+                        collect(result, node -> nodes[position] = node, failure, errors, pending);
+                    } catch (Exception e) {
+                        failure.accept(e);
+                    }
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return toResult(nodes, errors);
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+                .thenApply(done -> toResult(nodes, errors));
+    }
+
+    static String getNodeType(String id, Map<String, String> nodeQueriesByType, GlobalIdCodec globalIdCodec) {
+        DecodedGlobalId decoded = globalIdCodec.tryDecode(id);
+        String invalid = validate(id, decoded, nodeQueriesByType);
+        if (invalid != null) {
+            throw new IllegalArgumentException(invalid);
+        }
+        return decoded.getTypeName();
+    }
+
+    /**
+     * @return The reason the given ID can not be resolved, or {@code null} if it can
+     */
+    private static String validate(String id, DecodedGlobalId decoded, Map<String, String> nodeQueriesByType) {
+        if (!decoded.isValid()) {
+            return id + " is not a valid Relay node ID";
+        }
+        if (!nodeQueriesByType.containsKey(decoded.getTypeName())) {
+            return decoded.getTypeName() + " is not a Relay node type or no registered query can fetch it by ID";
+        }
+        return null;
+    }
+
+    private Object fetch(String queryName, String argumentName, Object argumentValue, DataFetchingEnvironment env) throws Exception {
+        GraphQLObjectType queryRoot = env.getGraphQLSchema().getQueryType();
+        DataFetchingEnvironment queryEnv = DataFetchingEnvironmentImpl.newDataFetchingEnvironment(env)
+                .arguments(Collections.singletonMap(argumentName, argumentValue))
+                .build();
+        return env.getGraphQLSchema().getCodeRegistry()
+                .getDataFetcher(queryRoot, queryRoot.getFieldDefinition(queryName))
+                .get(queryEnv);
+    }
+
+    private void collect(Object result, Consumer<Object> sink, Consumer<Throwable> failure,
+                         List<GraphQLError> errors, List<CompletableFuture<?>> pending) {
+        if (result instanceof CompletionStage) {
+            pending.add(((CompletionStage<?>) result).toCompletableFuture().handle((res, e) -> {
+                if (e != null) {
+                    failure.accept(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                } else {
+                    complete(res, sink, failure, errors);
+                }
+                return null;
+            }));
+        } else {
+            complete(result, sink, failure, errors);
+        }
+    }
+
+    private void complete(Object result, Consumer<Object> sink, Consumer<Throwable> failure, List<GraphQLError> errors) {
+        try {
+            unwrap(result, sink, errors);
+        } catch (RuntimeException e) {
+            failure.accept(e);
+        }
+    }
+
+    private void unwrap(Object result, Consumer<Object> sink, List<GraphQLError> errors) {
+        if (result instanceof DataFetcherResult) {
+            DataFetcherResult<?> dataFetcherResult = (DataFetcherResult<?>) result;
+            errors.addAll(dataFetcherResult.getErrors());
+            sink.accept(dataFetcherResult.getData());
+        } else {
+            sink.accept(result);
+        }
+    }
+
+    private void distribute(String batchQuery, Object batch, List<Integer> positions, Object[] nodes) {
+        if (batch == null) {
+            return;
+        }
+        Collection<?> batchNodes = batch instanceof Collection ? (Collection<?>) batch
+                : batch instanceof Object[] ? Arrays.asList((Object[]) batch) : null;
+        if (batchNodes == null || batchNodes.size() != positions.size()) {
+            throw new IllegalStateException("Batch node query " + batchQuery + " must return exactly one node (or null) per requested ID, in the order of the IDs");
+        }
+        Iterator<?> iterator = batchNodes.iterator();
+        for (int position : positions) {
+            nodes[position] = iterator.next();
+        }
+    }
+
+    //Reported the same way a failing node query would be on its own
+    private static GraphQLError fetchError(DataFetchingEnvironment env, int position, Throwable e) {
+        return new ExceptionWhileDataFetching(env.getExecutionStepInfo().getPath().segment(position), e,
+                env.getField().getSourceLocation());
+    }
+
+    private Object toResult(Object[] nodes, List<GraphQLError> errors) {
+        List<Object> result = Arrays.asList(nodes);
+        if (errors.isEmpty()) {
+            return result;
+        }
+        return DataFetcherResult.newResult().data(result).errors(errors).build();
+    }
+}
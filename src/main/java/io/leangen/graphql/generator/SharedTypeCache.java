@@ -0,0 +1,261 @@
+package io.leangen.graphql.generator;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLSchemaElement;
+import graphql.schema.GraphQLTypeReference;
+import graphql.schema.GraphQLUnionType;
+import io.leangen.graphql.util.Directives;
+import io.leangen.graphql.util.GraphQLUtils;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe cache of mapped GraphQL types, shared by multiple schema generators
+ * (see {@link io.leangen.graphql.GraphQLSchemaGenerator#withSharedTypeCache(SharedTypeCache, String)}),
+ * e.g. when a schema is generated per tenant from the same domain classes but different operations.
+ * <p>The types are kept per configuration fingerprint, and are only reused by the generators configured the same as
+ * the one that mapped them. The reused types are shared between the schemas by instance, saving both the time needed
+ * to map them and the memory needed to hold them. Their data fetchers are not shared, but created by each generator
+ * from the mapped operations, so that they never capture the components of another generator. A generator never reuses (or contributes)
+ * the types that get fields from its own {@link io.leangen.graphql.annotations.GraphQLContext} operations,
+ * nor the types (transitively) referring to them.</p>
+ */
+public class SharedTypeCache {
+
+    private final Map<String, Map<String, SharedType>> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * @param fingerprint The configuration fingerprint of the generator
+     * @param extended Tests whether a domain type gets fields from the generator's own context operations
+     * @param knownTypes The types already known to the generator, by name. The cached types conflicting with these
+     *                   (and the ones referring to them) are not reused.
+     *
+     * @return The cached types the generator can reuse, by name
+     */
+    public Map<String, GraphQLNamedType> getReusableTypes(String fingerprint, Predicate<AnnotatedType> extended,
+                                                          Map<String, GraphQLNamedType> knownTypes) {
+        Map<String, GraphQLNamedType> reusable = new LinkedHashMap<>();
+        Map<String, SharedType> partition = partitions.get(fingerprint);
+        if (partition == null) {
+            return reusable;
+        }
+        //Types are only ever added to a partition, so a snapshot of it is consistent, if possibly incomplete
+        Map<String, SharedType> candidates = new HashMap<>(partition);
+
+        Map<String, Set<String>> referrers = new HashMap<>();
+        Deque<String> rejected = new ArrayDeque<>();
+        candidates.forEach((name, shared) -> {
+            shared.dependencies.forEach(dependency ->
+                    referrers.computeIfAbsent(dependency, dep -> new HashSet<>()).add(name));
+            GraphQLNamedType known = knownTypes.get(name);
+            if ((known != null && known != shared.type) || isExtended(shared.type, extended)
+                    || !candidates.keySet().containsAll(shared.dependencies)) {
+                rejected.add(name);
+            }
+        });
+        Set<String> excluded = new HashSet<>();
+        while (!rejected.isEmpty()) {
+            String name = rejected.pop();
+            if (excluded.add(name)) {
+                rejected.addAll(referrers.getOrDefault(name, Collections.emptySet()));
+            }
+        }
+        candidates.forEach((name, shared) -> {
+            if (!excluded.contains(name) && !knownTypes.containsKey(name)) {
+                reusable.put(name, shared.type);
+            }
+        });
+        return reusable;
+    }
+
+    /**
+     * Registers the data fetchers, type resolvers and discovered implementations of the reused types actually used
+     * by the schema being generated. The data fetchers of the fields backed by operations are created anew.
+     *
+     * @param fingerprint The configuration fingerprint of the generator
+     * @param reusableTypes The types obtained from {@link #getReusableTypes(String, Predicate, Map)}
+     * @param operationMapper The mapper of the schema being generated, used to create the data fetchers
+     * @param buildContext The context of the schema being generated, after the types have been mapped
+     *
+     * @return The reused types that need to be added to the schema
+     */
+    public Set<GraphQLNamedType> reuse(String fingerprint, Map<String, GraphQLNamedType> reusableTypes,
+                                       OperationMapper operationMapper, BuildContext buildContext) {
+        Map<String, SharedType> partition = partitions.getOrDefault(fingerprint, Collections.emptyMap());
+        Deque<String> pending = buildContext.typeCache.getReferencedKnownTypes().stream()
+                .filter(type -> reusableTypes.get(type.getName()) == type)
+                .map(GraphQLNamedType::getName)
+                .collect(Collectors.toCollection(ArrayDeque::new));
+        if (reusableTypes.get(buildContext.node.getName()) == buildContext.node) {
+            pending.add(buildContext.node.getName());
+        }
+
+        Map<String, SharedType> used = new LinkedHashMap<>();
+        while (!pending.isEmpty()) {
+            String name = pending.pop();
+            SharedType shared = partition.get(name);
+            if (reusableTypes.containsKey(name) && !used.containsKey(name)) {
+                used.put(name, shared);
+                pending.addAll(shared.dependencies);
+            }
+        }
+
+        used.values().forEach(shared -> {
+            String name = shared.type.getName();
+            shared.dataFetchers.forEach((field, dataFetcher) ->
+                    buildContext.codeRegistry.dataFetcher(FieldCoordinates.coordinates(name, field), dataFetcher));
+            if (shared.type instanceof GraphQLFieldsContainer) {
+                ((GraphQLFieldsContainer) shared.type).getFieldDefinitions().forEach(field -> Directives.getMappedOperation(field)
+                        .ifPresent(operation -> buildContext.codeRegistry.dataFetcher(FieldCoordinates.coordinates(name, field.getName()),
+                                operationMapper.createResolver(operation, buildContext))));
+            }
+            if (shared.type instanceof GraphQLInterfaceType || shared.type instanceof GraphQLUnionType) {
+                buildContext.codeRegistry.typeResolver(name, GraphQLUtils.isRelayNodeInterface(shared.type)
+                        ? new RelayNodeTypeResolver(buildContext.typeRegistry, buildContext.typeInfoGenerator, buildContext.messageBundle)
+                        : buildContext.typeResolver);
+            }
+            shared.discoveredImplementations.forEach(impl -> {
+                GraphQLObjectType implType = (GraphQLObjectType) partition.get(impl).type;
+                buildContext.typeRegistry.registerDiscoveredCovariantType(name, Directives.getMappedType(implType), implType);
+            });
+        });
+        return used.values().stream().map(shared -> shared.type).collect(Collectors.toSet());
+    }
+
+    /**
+     * Caches the types of a generated schema, so that other generators with the same configuration can reuse them.
+     * The types conflicting with the already cached ones (i.e. referring to different instances of the same types)
+     * are not cached.
+     *
+     * @param fingerprint The configuration fingerprint of the generator
+     * @param schema The generated schema
+     * @param candidates Filters the types of the schema eligible for caching (e.g. rejecting the root types)
+     * @param extended Tests whether a domain type gets fields from the generator's own context operations
+     * @param buildContext The context the schema was generated with
+     */
+    public void store(String fingerprint, GraphQLSchema schema, Predicate<GraphQLNamedType> candidates,
+                      Predicate<AnnotatedType> extended, BuildContext buildContext) {
+        Map<String, SharedType> partition = partitions.computeIfAbsent(fingerprint, fp -> new ConcurrentHashMap<>());
+        Map<String, GraphQLNamedType> types = schema.getAllTypesAsList().stream()
+                .filter(candidates)
+                .filter(type -> !isExtended(type, extended))
+                .collect(Collectors.toMap(GraphQLNamedType::getName, type -> type));
+
+        synchronized (partition) {
+            Map<String, SharedType> batch = new HashMap<>();
+            types.forEach((name, type) -> {
+                if (!partition.containsKey(name)) {
+                    batch.put(name, toSharedType(type, schema, buildContext));
+                }
+            });
+            //Only accept the types whose dependencies are either already cached (as the very same instances) or accepted as well
+            boolean changed = true;
+            while (changed) {
+                changed = batch.values().removeIf(shared -> !shared.embedded.entrySet().stream().allMatch(dependency -> {
+                    SharedType existing = partition.containsKey(dependency.getKey())
+                            ? partition.get(dependency.getKey())
+                            : batch.get(dependency.getKey());
+                    return existing != null && existing.type == dependency.getValue();
+                }));
+            }
+            partition.putAll(batch);
+        }
+    }
+
+    /**
+     * @return The number of cached types, across all configurations
+     */
+    public int size() {
+        return partitions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Discards all the cached types. The schemas already generated are not affected.
+     */
+    public void clear() {
+        partitions.clear();
+    }
+
+    private static boolean isExtended(GraphQLNamedType type, Predicate<AnnotatedType> extended) {
+        return Directives.isMappedType(type) && extended.test(Directives.getMappedType(type));
+    }
+
+    private static SharedType toSharedType(GraphQLNamedType type, GraphQLSchema schema, BuildContext buildContext) {
+        Map<String, GraphQLNamedType> embedded = new HashMap<>();
+        collectEmbeddedTypes(type.getChildren(), schema, embedded);
+
+        //Only the data fetchers not backed by operations (that get created anew on reuse) are kept
+        Map<String, DataFetcher<?>> dataFetchers = new HashMap<>();
+        if (type instanceof GraphQLFieldsContainer) {
+            for (GraphQLFieldDefinition field : ((GraphQLFieldsContainer) type).getFieldDefinitions()) {
+                FieldCoordinates coordinates = FieldCoordinates.coordinates(type.getName(), field.getName());
+                if (!Directives.getMappedOperation(field).isPresent() && buildContext.codeRegistry.hasDataFetcher(coordinates)) {
+                    dataFetchers.put(field.getName(), buildContext.codeRegistry.getDataFetcher(coordinates, field));
+                }
+            }
+        }
+
+        //Discovered implementations are not reachable from the interface, but must come along with it
+        List<String> discoveredImplementations = type instanceof GraphQLInterfaceType
+                ? buildContext.typeRegistry.getDiscoveredTypes().stream()
+                        .filter(impl -> impl.getInterfaces().stream().anyMatch(inter -> inter.getName().equals(type.getName())))
+                        .filter(impl -> schema.getType(impl.getName()) == impl)
+                        .map(GraphQLObjectType::getName)
+                        .collect(Collectors.toList())
+                : Collections.emptyList();
+        discoveredImplementations.forEach(impl -> embedded.put(impl, (GraphQLNamedType) schema.getType(impl)));
+
+        return new SharedType(type, embedded, dataFetchers, discoveredImplementations);
+    }
+
+    private static void collectEmbeddedTypes(List<GraphQLSchemaElement> elements, GraphQLSchema schema, Map<String, GraphQLNamedType> embedded) {
+        for (GraphQLSchemaElement element : elements) {
+            if (element instanceof GraphQLNamedType) {
+                String name = ((GraphQLNamedType) element).getName();
+                //Only the types that are a part of the schema are subject to the uniqueness requirements
+                if (schema.getType(name) != null) {
+                    embedded.put(name, (GraphQLNamedType) (element instanceof GraphQLTypeReference ? schema.getType(name) : element));
+                }
+            } else {
+                collectEmbeddedTypes(element.getChildren(), schema, embedded);
+            }
+        }
+    }
+
+    private static class SharedType {
+
+        final GraphQLNamedType type;
+        final Map<String, GraphQLNamedType> embedded;
+        final Set<String> dependencies;
+        final Map<String, DataFetcher<?>> dataFetchers;
+        final List<String> discoveredImplementations;
+
+        SharedType(GraphQLNamedType type, Map<String, GraphQLNamedType> embedded,
+                   Map<String, DataFetcher<?>> dataFetchers, List<String> discoveredImplementations) {
+            this.type = type;
+            this.embedded = embedded;
+            this.dependencies = embedded.keySet();
+            this.dataFetchers = dataFetchers;
+            this.discoveredImplementations = discoveredImplementations;
+        }
+    }
+}
@@ -5,16 +5,21 @@ import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeReference;
 import io.leangen.graphql.util.GraphQLUtils;
+import io.leangen.graphql.util.TypeKey;
 
+import java.lang.reflect.AnnotatedType;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class TypeCache {
 
     private final Map<String, GraphQLNamedType> knownTypes;
-
+    private final Map<TypeKey, String> typeNames = new ConcurrentHashMap<>();
+    private final Map<String, GraphQLNamedType> referencedKnownTypes = new ConcurrentHashMap<>();
 
     TypeCache(Collection<GraphQLNamedType> knownTypes) {
         this.knownTypes = knownTypes.stream().collect(Collectors.toMap(GraphQLNamedType::getName, Function.identity()));
@@ -25,9 +30,36 @@ public class TypeCache {
     }
 
     public boolean contains(String typeName) {
+        GraphQLNamedType known = knownTypes.get(typeName);
+        if (known != null) {
+            referencedKnownTypes.put(typeName, known);
+            return true;
+        }
         return knownTypes.containsKey(typeName);
     }
 
+    /**
+     * @return The types (originally known or mapped already) that were referenced by name during the mapping.
+     * Those that were known before the mapping started need to be added to the schema explicitly,
+     * as the references to them can not otherwise be resolved.
+     */
+    public Collection<GraphQLNamedType> getReferencedKnownTypes() {
+        return referencedKnownTypes.values();
+    }
+
+    /**
+     * Memoizes the names generated for Java types, as the name of the same type is needed on every visit
+     *
+     * @param javaType The Java type being mapped
+     * @param graphQLType The kind of GraphQL type the Java type is being mapped to (e.g. {@code GraphQLObjectType})
+     * @param nameGenerator Generates the name if not already known
+     *
+     * @return The GraphQL type name
+     */
+    public String getTypeName(AnnotatedType javaType, Class<?> graphQLType, Supplier<String> nameGenerator) {
+        return typeNames.computeIfAbsent(new TypeKey(javaType, graphQLType), key -> nameGenerator.get());
+    }
+
     GraphQLType resolveType(String typeName) {
         GraphQLType resolved = knownTypes.get(typeName);
         if (resolved instanceof GraphQLTypeReference) {
@@ -28,10 +28,21 @@ public class TypeRegistry {
 
     private final Map<String, Map<String, MappedType>> covariantOutputTypes = new ConcurrentHashMap<>();
     private final Set<GraphQLObjectType> discoveredTypes = new HashSet<>();
+    private volatile Set<String> objectTypeNames = Collections.emptySet();
 
     private static final Logger log = LoggerFactory.getLogger(TypeRegistry.class);
 
     public TypeRegistry(Collection<GraphQLNamedType> knownTypes) {
+        registerKnownTypes(knownTypes);
+    }
+
+    /**
+     * Registers the interface implementations and union members found among the given types,
+     * built outside of the current schema generation
+     *
+     * @param knownTypes The types to extract the covariant types from
+     */
+    public void registerKnownTypes(Collection<GraphQLNamedType> knownTypes) {
         //extract known interface implementations
         knownTypes.stream()
                 .filter(type -> type instanceof GraphQLObjectType && Directives.isMappedType(type))
@@ -80,6 +91,41 @@ public class TypeRegistry {
     public Set<GraphQLObjectType> getDiscoveredTypes() {
         return discoveredTypes;
     }
+
+    /**
+     * Forgets the types discovered while generating the previous schema, so that only the types discovered anew
+     * get registered when the schema is regenerated. The registered covariant types are kept.
+     */
+    public void clearDiscoveredTypes() {
+        this.discoveredTypes.clear();
+    }
+
+    /**
+     * Registers the names of all object types of the generated schema, making them available to the resolvers
+     * at runtime (e.g. to check the type prefix of Relay global IDs). The names registered for a previously
+     * generated schema are replaced, and the covariant types not (or no longer) in the schema are forgotten,
+     * so the types removed on regeneration are no longer known.
+     *
+     * @param types All the types of the generated schema
+     */
+    public void registerSchemaTypes(Collection<? extends GraphQLNamedType> types) {
+        Set<String> typeNames = types.stream()
+                .map(GraphQLNamedType::getName)
+                .collect(Collectors.toSet());
+        this.covariantOutputTypes.keySet().retainAll(typeNames);
+        this.covariantOutputTypes.values().forEach(covariantTypes -> covariantTypes.keySet().retainAll(typeNames));
+        this.objectTypeNames = Collections.unmodifiableSet(types.stream()
+                .filter(type -> type instanceof GraphQLObjectType)
+                .map(GraphQLNamedType::getName)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * @return The names of all object types of the last generated schema, or an empty set before the schema is generated
+     */
+    public Set<String> getObjectTypeNames() {
+        return objectTypeNames;
+    }
     
     void resolveTypeReferences(Map<String, GraphQLNamedType> resolvedTypes) {
         for (Map<String, MappedType> covariantTypes : this.covariantOutputTypes.values()) {
@@ -18,4 +18,15 @@ public interface TypeMapper {
     GraphQLInputType toGraphQLInputType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env);
 
     boolean supports(AnnotatedElement element, AnnotatedType type);
+
+    /**
+     * Declares whether {@link #supports(AnnotatedElement, AnnotatedType)} depends on the element (the operation,
+     * field or argument being mapped), and not just on the type. The selected mappers are memoized per type,
+     * unless a mapper declaring this is registered.
+     *
+     * @return {@code true} if the element is inspected, {@code false} otherwise (default)
+     */
+    default boolean inspectsElement() {
+        return false;
+    }
 }
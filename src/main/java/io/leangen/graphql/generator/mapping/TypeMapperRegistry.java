@@ -3,30 +3,53 @@ package io.leangen.graphql.generator.mapping;
 import io.leangen.graphql.annotations.GraphQLIgnore;
 import io.leangen.graphql.metadata.exceptions.MappingException;
 import io.leangen.graphql.util.ClassUtils;
+import io.leangen.graphql.util.TypeKey;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
+ * The selected mappers and the mappable types are memoized per (structurally compared) type,
+ * as the same types are looked up repeatedly during the generation, once per operation or field using them
+ * and again for validation. Only if any of the registered mappers {@link TypeMapper#inspectsElement() inspects the element}
+ * is the element made part of the memo key as well, as the elements are distinct for each operation and field.
+ * A new registry is created for each generated schema, so mappers are expected to make their
+ * {@link TypeMapper#supports(AnnotatedElement, AnnotatedType)} decisions based on the element and the type only.
+ *
  * @author Bojan Tomic (kaqqao)
  */
 public class TypeMapperRegistry {
 
     private final List<TypeMapper> typeMappers;
+    private final Map<TypeKey, TypeMapper> selectedMappers = new ConcurrentHashMap<>();
+    private final Map<TypeKey, AnnotatedType> mappableTypes = new ConcurrentHashMap<>();
+    private final boolean elementSensitive;
 
     public TypeMapperRegistry(List<TypeMapper> typeMappers) {
         this.typeMappers = Collections.unmodifiableList(typeMappers);
+        this.elementSensitive = typeMappers.stream().anyMatch(TypeMapper::inspectsElement);
     }
 
     public TypeMapper getTypeMapper(AnnotatedElement element, AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip) {
-        return getTypeMapper(element, javaType, typeMapper -> !mappersToSkip.contains(typeMapper.getClass()))
-                .orElseThrow(() -> new MappingException(String.format("No %s found for type %s",
-                        TypeMapper.class.getSimpleName(), ClassUtils.toString(javaType))));
+        //The skip set is copied as the callers are free to modify it later
+        Set<Class<? extends TypeMapper>> skipped = mappersToSkip.isEmpty() ? Collections.emptySet() : new HashSet<>(mappersToSkip);
+        TypeKey key = elementSensitive ? new TypeKey(javaType, element, skipped) : new TypeKey(javaType, skipped);
+        TypeMapper mapper = selectedMappers.get(key);
+        if (mapper == null) {
+            mapper = getTypeMapper(element, javaType, typeMapper -> !mappersToSkip.contains(typeMapper.getClass()))
+                    .orElseThrow(() -> new MappingException(String.format("No %s found for type %s",
+                            TypeMapper.class.getSimpleName(), ClassUtils.toString(javaType))));
+            selectedMappers.put(key, mapper);
+        }
+        return mapper;
     }
 
     private Optional<TypeMapper> getTypeMapper(AnnotatedElement element, AnnotatedType javaType, Predicate<TypeMapper> filter) {
@@ -37,6 +60,17 @@ public class TypeMapperRegistry {
     }
 
     public AnnotatedType getMappableType(AnnotatedElement element, AnnotatedType type) {
+        //Not using computeIfAbsent as the resolution is recursive
+        TypeKey key = elementSensitive ? new TypeKey(type, element) : new TypeKey(type);
+        AnnotatedType mappable = mappableTypes.get(key);
+        if (mappable == null) {
+            mappable = resolveMappableType(element, type);
+            mappableTypes.put(key, mappable);
+        }
+        return mappable;
+    }
+
+    private AnnotatedType resolveMappableType(AnnotatedElement element, AnnotatedType type) {
         Optional<TypeMapper> mapper = this.getTypeMapper(element, type, typeMapper -> !typeMapper.getClass().isAnnotationPresent(GraphQLIgnore.class));
         if (mapper.isPresent() && mapper.get() instanceof TypeSubstituter) {
             return getMappableType(element, ((TypeSubstituter) mapper.get()).getSubstituteType(type));
@@ -21,6 +21,8 @@ import java.util.Set;
  */
 public abstract class CachingMapper<O extends GraphQLOutputType, I extends GraphQLInputType> implements TypeMapper {
 
+    private final AnnotatedType[] typeArguments = {getTypeArgument(0), getTypeArgument(1)};
+
     @Override
     public GraphQLOutputType toGraphQLType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
         String typeName = getTypeName(javaType, env.buildContext);
@@ -46,11 +48,16 @@ public abstract class CachingMapper<O extends GraphQLOutputType, I extends Graph
     protected abstract I toGraphQLInputType(String typeName, AnnotatedType javaType, TypeMappingEnvironment env);
 
     protected String getTypeName(AnnotatedType type, BuildContext buildContext) {
-        return getTypeName(type, getTypeArguments(0), buildContext.typeInfoGenerator, buildContext.messageBundle);
+        return getTypeName(type, typeArguments[0], buildContext);
     }
 
     protected String getInputTypeName(AnnotatedType type, BuildContext buildContext) {
-        return getTypeName(type, getTypeArguments(1), buildContext.typeInfoGenerator, buildContext.messageBundle);
+        return getTypeName(type, typeArguments[1], buildContext);
+    }
+
+    private String getTypeName(AnnotatedType javaType, AnnotatedType graphQLType, BuildContext buildContext) {
+        return buildContext.typeCache.getTypeName(javaType, GenericTypeReflector.erase(graphQLType.getType()),
+                () -> getTypeName(javaType, graphQLType, buildContext.typeInfoGenerator, buildContext.messageBundle));
     }
 
     private String getTypeName(AnnotatedType javaType, AnnotatedType graphQLType, TypeInfoGenerator typeInfoGenerator, MessageBundle messageBundle) {
@@ -66,7 +73,7 @@ public abstract class CachingMapper<O extends GraphQLOutputType, I extends Graph
         return typeInfoGenerator.generateTypeName(javaType, messageBundle);
     }
 
-    private AnnotatedType getTypeArguments(int index) {
+    private AnnotatedType getTypeArgument(int index) {
         return GenericTypeReflector.getTypeParameter(getClass().getAnnotatedSuperclass(), CachingMapper.class.getTypeParameters()[index]);
     }
 }
@@ -21,12 +21,14 @@ import java.lang.reflect.AnnotatedType;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class EnumMapToObjectTypeAdapter<E extends Enum<E>, V> extends CachingMapper<GraphQLObjectType, GraphQLInputObjectType> implements InputConverter<EnumMap<E, V>, Map<String, V>> {
 
     private final EnumMapper enumMapper;
+    private final Map<Class<?>, Map<String, ?>> constantsByName = new ConcurrentHashMap<>();
 
     public EnumMapToObjectTypeAdapter(EnumMapper enumMapper) {
         this.enumMapper = enumMapper;
@@ -78,11 +80,15 @@ public class EnumMapToObjectTypeAdapter<E extends Enum<E>, V> extends CachingMap
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public EnumMap<E, V> convertInput(Map<String, V> substitute, AnnotatedType type, GlobalEnvironment environment, ValueMapper valueMapper) {
-        Map<String, E> values = Arrays.stream((ClassUtils.<E>getRawType(getElementType(type, 0).getType()).getEnumConstants()))
-                .collect(Collectors.toMap(e -> (enumMapper.getValueName(e, environment.messageBundle)), Function.identity()));
-        Map<E, V> m = substitute.entrySet().stream().collect(Collectors.toMap(e -> values.get(e.getKey()), Map.Entry::getValue));
-        return new EnumMap<>(m);
+        Class<E> enumType = ClassUtils.getRawType(getElementType(type, 0).getType());
+        //The GraphQL names of the constants never change, so they're resolved only once per enum type
+        Map<String, E> constants = (Map<String, E>) constantsByName.computeIfAbsent(enumType, raw -> Arrays.stream(enumType.getEnumConstants())
+                .collect(Collectors.toMap(e -> enumMapper.getValueName(e, environment.messageBundle), Function.identity())));
+        EnumMap<E, V> result = new EnumMap<>(enumType);
+        substitute.forEach((name, value) -> result.put(constants.get(name), value));
+        return result;
     }
 
     @Override
@@ -0,0 +1,54 @@
+package io.leangen.graphql.generator.mapping.common;
+
+import graphql.schema.GraphQLScalarType;
+import io.leangen.graphql.generator.BuildContext;
+import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
+import io.leangen.graphql.util.Scalars;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.util.Map;
+
+/**
+ * Maps temporal types to the epoch-based scalars from {@link Scalars#epochTemporalScalars(Scalars.EpochUnit)},
+ * representing them as numbers instead of ISO-8601 strings. Not registered by default.
+ * To opt in, register it via {@link io.leangen.graphql.GraphQLSchemaGenerator#withTypeMappers(io.leangen.graphql.generator.mapping.TypeMapper...)},
+ * which places it in front of the default {@link ScalarMapper}.
+ */
+public class EpochTemporalScalarMapper extends CachingMapper<GraphQLScalarType, GraphQLScalarType> {
+
+    private final Map<Class<?>, GraphQLScalarType> scalars;
+
+    public EpochTemporalScalarMapper() {
+        this(Scalars.EpochUnit.MILLIS);
+    }
+
+    public EpochTemporalScalarMapper(Scalars.EpochUnit unit) {
+        this.scalars = Scalars.epochTemporalScalars(unit);
+    }
+
+    @Override
+    public GraphQLScalarType toGraphQLType(String typeName, AnnotatedType javaType, TypeMappingEnvironment env) {
+        return scalars.get(javaType.getType());
+    }
+
+    @Override
+    public GraphQLScalarType toGraphQLInputType(String typeName, AnnotatedType javaType, TypeMappingEnvironment env) {
+        return toGraphQLType(typeName, javaType, env);
+    }
+
+    @Override
+    public boolean supports(AnnotatedElement element, AnnotatedType type) {
+        return scalars.containsKey(type.getType());
+    }
+
+    @Override
+    protected String getTypeName(AnnotatedType type, BuildContext buildContext) {
+        return scalars.get(type.getType()).getName();
+    }
+
+    @Override
+    protected String getInputTypeName(AnnotatedType type, BuildContext buildContext) {
+        return getTypeName(type, buildContext);
+    }
+}
@@ -7,6 +7,8 @@ import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLId;
 import io.leangen.graphql.execution.GlobalEnvironment;
 import io.leangen.graphql.execution.ResolutionEnvironment;
+import io.leangen.graphql.execution.relay.DecodedGlobalId;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
 import io.leangen.graphql.generator.mapping.InputConverter;
@@ -14,10 +16,14 @@ import io.leangen.graphql.generator.mapping.OutputConverter;
 import io.leangen.graphql.generator.mapping.TypeMapper;
 import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
 import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import static io.leangen.graphql.util.Scalars.RelayId;
@@ -25,7 +31,10 @@ import static io.leangen.graphql.util.Scalars.RelayId;
 /**
  * Maps, converts and injects GraphQL IDs.
  * Despite implementing {@link InputConverter} it can't actually be used as such due to the lack of support for
- * {@code AnnotatedType} in any JSON library currently available
+ * {@code AnnotatedType} in any JSON library currently available.
+ * <p>For the same reason, this class also injects the arguments that are lists or sets of Relay IDs
+ * (e.g. {@code List<@GraphQLId(relayId = true) String>}, as taken by the batch queries backing the <em>nodes</em> query),
+ * decoding each element. Collections of plain (non-Relay) IDs are left to the value mapper, as before.</p>
  */
 public class IdAdapter implements TypeMapper, ArgumentInjector, OutputConverter<@GraphQLId Object, String>, InputConverter<@GraphQLId Object, String> {
 
@@ -41,20 +50,26 @@ public class IdAdapter implements TypeMapper, ArgumentInjector, OutputConverter<
 
     @Override
     public String convertOutput(Object original, AnnotatedType type, ResolutionEnvironment resolutionEnvironment) {
-        final String id = resolutionEnvironment.valueMapper.toString(original, type);
         if (type.getAnnotation(GraphQLId.class).relayId()) {
-            return resolutionEnvironment.globalEnvironment.relay.toGlobalId(resolutionEnvironment.parentType.getName(), id);
+            GlobalIdCodec codec = resolutionEnvironment.globalEnvironment.globalIdCodec;
+            String typeName = resolutionEnvironment.parentType.getName();
+            if (isIntegral(original)) {
+                return codec.encode(typeName, ((Number) original).longValue());
+            }
+            return codec.encode(typeName, resolutionEnvironment.valueMapper.toString(original, type));
         }
-        return id;
+        return resolutionEnvironment.valueMapper.toString(original, type);
     }
 
     @Override
     public Object convertInput(String substitute, AnnotatedType type, GlobalEnvironment environment, ValueMapper valueMapper) {
         String id = substitute;
         if (type.getAnnotation(GraphQLId.class).relayId()) {
-            try {
-                id = environment.relay.fromGlobalId(id).getId();
-            } catch (Exception e) {/*no-op*/}
+            DecodedGlobalId decoded = environment.globalIdCodec.tryDecode(id);
+            //IDs that are not global, or belong to no known type, are taken as raw type-local IDs
+            if (decoded.isValid() && isKnownType(decoded.getTypeName(), environment)) {
+                id = decoded.getId();
+            }
         }
         return valueMapper.fromString(id, type);
     }
@@ -65,6 +80,15 @@ public class IdAdapter implements TypeMapper, ArgumentInjector, OutputConverter<
             return null;
         }
         ResolutionEnvironment env = params.getResolutionEnvironment();
+        if (isIdCollection(params.getType())) {
+            AnnotatedType idType = getElementType(params.getType());
+            Collection<Object> ids = ClassUtils.getRawType(params.getType().getType()).isAssignableFrom(ArrayList.class)
+                    ? new ArrayList<>() : new LinkedHashSet<>();
+            for (Object id : (Iterable<?>) params.getInput()) {
+                ids.add(id == null ? null : convertInput(id.toString(), idType, env.globalEnvironment, env.valueMapper));
+            }
+            return ids;
+        }
         return convertInput(params.getInput().toString(), params.getType(), env.globalEnvironment, env.valueMapper);
     }
 
@@ -75,7 +99,8 @@ public class IdAdapter implements TypeMapper, ArgumentInjector, OutputConverter<
 
     @Override
     public boolean supports(AnnotatedType type, Parameter parameter) {
-        return type.isAnnotationPresent(GraphQLId.class) || (parameter != null && parameter.isAnnotationPresent(GraphQLId.class));
+        return type.isAnnotationPresent(GraphQLId.class) || (parameter != null && parameter.isAnnotationPresent(GraphQLId.class))
+                || isIdCollection(type);
     }
 
     @Override
@@ -87,4 +112,28 @@ public class IdAdapter implements TypeMapper, ArgumentInjector, OutputConverter<
     public AnnotatedType getSubstituteType(AnnotatedType original) {
         return GenericTypeReflector.annotate(String.class);
     }
+
+    //Collections of Relay IDs are handled here directly, as nested type annotations are lost on deserialization
+    private static boolean isIdCollection(AnnotatedType type) {
+        Class<?> raw = ClassUtils.getRawType(type.getType());
+        if (!Iterable.class.isAssignableFrom(raw)
+                || !(raw.isAssignableFrom(ArrayList.class) || raw.isAssignableFrom(LinkedHashSet.class))) {
+            return false;
+        }
+        AnnotatedType elementType = getElementType(type);
+        return elementType != null && elementType.isAnnotationPresent(GraphQLId.class)
+                && elementType.getAnnotation(GraphQLId.class).relayId();
+    }
+
+    private static AnnotatedType getElementType(AnnotatedType type) {
+        return GenericTypeReflector.getTypeParameter(type, Iterable.class.getTypeParameters()[0]);
+    }
+
+    private static boolean isKnownType(String typeName, GlobalEnvironment environment) {
+        return environment.typeRegistry.getObjectTypeNames().contains(typeName);
+    }
+
+    private static boolean isIntegral(Object id) {
+        return id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte;
+    }
 }
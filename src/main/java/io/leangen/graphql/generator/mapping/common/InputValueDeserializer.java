@@ -1,11 +1,18 @@
 package io.leangen.graphql.generator.mapping.common;
 
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
+import io.leangen.graphql.metadata.OperationArgument;
 import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,14 +20,22 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Deserializes argument values using the configured {@link io.leangen.graphql.metadata.strategy.value.ValueMapper}.
+ * <p>Each argument is classified once (as identity, numeric widening, enum-by-name or complex) and only complex
+ * arguments, or those whose input does not have the expected shape, are actually delegated to the value mapper.
+ * Scalar inputs that graphql-java has already coerced to the target class are passed through as they are.</p>
+ *
  * @author Bojan Tomic (kaqqao)
  */
 public class InputValueDeserializer implements ArgumentInjector {
 
     private static Map<Class<?>, Object> EMPTY_VALUES = emptyValues();
 
+    private final Map<OperationArgument, Conversion> conversions = new ConcurrentHashMap<>();
+
     @Override
     public Object getArgumentValue(ArgumentInjectorParams params) {
         if (params.getInput() == null) {
@@ -29,7 +44,47 @@ public class InputValueDeserializer implements ArgumentInjector {
             }
             return null;
         }
-        return params.getResolutionEnvironment().valueMapper.fromInput(params.getInput(), params.getType());
+        ResolutionEnvironment env = params.getResolutionEnvironment();
+        Conversion conversion = conversions.computeIfAbsent(params.getArgument(), arg -> classify(arg, env));
+        Object value = conversion.convert(params.getInput());
+        return value != null ? value : env.valueMapper.fromInput(params.getInput(), params.getType());
+    }
+
+    private static Conversion classify(OperationArgument argument, ResolutionEnvironment env) {
+        AnnotatedType type = argument.getJavaType();
+        if (!(type.getType() instanceof Class) || env.globalEnvironment.converters.getInputConverter(type) != null) {
+            return Conversion.COMPLEX;
+        }
+        Class<?> raw = ClassUtils.getRawType(GenericTypeReflector.box(type.getType()));
+        if (raw.isEnum()) {
+            return isNamedByConstants(raw) ? new EnumByName(raw) : new Identity(raw);
+        }
+        if (raw == Long.class || raw == Double.class || raw == BigInteger.class || raw == BigDecimal.class) {
+            return new NumericWidening(raw);
+        }
+        if (Modifier.isFinal(raw.getModifiers()) && !raw.isArray() && raw != Optional.class) {
+            return new Identity(raw);
+        }
+        return Conversion.COMPLEX;
+    }
+
+    //Only enums whose constants are neither annotated (e.g. renamed) nor represented by toString can be safely looked up by name
+    private static boolean isNamedByConstants(Class<?> enumClass) {
+        for (Object constant : enumClass.getEnumConstants()) {
+            Enum<?> value = (Enum<?>) constant;
+            if (!value.name().equals(value.toString())) {
+                return false;
+            }
+            try {
+                Field field = enumClass.getField(value.name());
+                if (field.getAnnotations().length > 0) {
+                    return false;
+                }
+            } catch (NoSuchFieldException e) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static Map<Class<?>, Object> emptyValues() {
@@ -45,4 +100,78 @@ public class InputValueDeserializer implements ArgumentInjector {
     public boolean supports(AnnotatedType type, Parameter parameter) {
         return true;
     }
+
+    /**
+     * Converts the (non-null) input without the value mapper, or returns {@code null} if it can not
+     */
+    @FunctionalInterface
+    private interface Conversion {
+
+        Conversion COMPLEX = input -> null;
+
+        Object convert(Object input);
+    }
+
+    private static class Identity implements Conversion {
+
+        final Class<?> type;
+
+        Identity(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object convert(Object input) {
+            return type.isInstance(input) ? input : null;
+        }
+    }
+
+    private static class NumericWidening extends Identity {
+
+        NumericWidening(Class<?> type) {
+            super(type);
+        }
+
+        @Override
+        public Object convert(Object input) {
+            Object value = super.convert(input);
+            if (value != null || !isIntegral(input)) {
+                return value;
+            }
+            long integral = ((Number) input).longValue();
+            if (type == Long.class) {
+                return integral;
+            }
+            if (type == BigInteger.class) {
+                return BigInteger.valueOf(integral);
+            }
+            if (type == BigDecimal.class) {
+                return BigDecimal.valueOf(integral);
+            }
+            //Only the values exactly representable as a double are widened
+            return input instanceof Long ? null : (double) integral;
+        }
+
+        private static boolean isIntegral(Object input) {
+            return input instanceof Integer || input instanceof Long || input instanceof Short || input instanceof Byte;
+        }
+    }
+
+    private static class EnumByName extends Identity {
+
+        private final Map<String, Object> constants = new HashMap<>();
+
+        EnumByName(Class<?> type) {
+            super(type);
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+        }
+
+        @Override
+        public Object convert(Object input) {
+            Object value = super.convert(input);
+            return value != null || !(input instanceof String) ? value : constants.get(input);
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package io.leangen.graphql.generator.mapping.common;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeFactory;
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.execution.ResolutionEnvironment;
+import io.leangen.graphql.generator.mapping.AbstractSimpleTypeAdapter;
+import io.leangen.graphql.generator.mapping.DelegatingOutputConverter;
+import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Maps {@link Iterator}s the same way as lists. Mostly useful for arguments consumed lazily
+ * via {@link LazyListDeserializer}.
+ * <p>Not registered by default. To opt in, register {@link io.leangen.graphql.module.common.LazyListModule}.</p>
+ */
+public class IteratorToCollectionTypeAdapter<T> extends AbstractSimpleTypeAdapter<Iterator<T>, List<T>>
+        implements DelegatingOutputConverter<Iterator<T>, List<T>> {
+
+    @Override
+    public List<T> convertOutput(Iterator<T> original, AnnotatedType type, ResolutionEnvironment env) {
+        AnnotatedType elementType = env.getDerived(type, 0);
+        List<T> result = new ArrayList<>();
+        original.forEachRemaining(item -> result.add(env.convertOutput(item, env.resolver.getTypedElement(), elementType)));
+        return result;
+    }
+
+    @Override
+    public Iterator<T> convertInput(List<T> substitute, AnnotatedType type, GlobalEnvironment environment, ValueMapper valueMapper) {
+        AnnotatedType elementType = getElementType(type);
+        return substitute.stream().map(item -> environment.<T, T>convertInput(item, elementType, valueMapper)).iterator();
+    }
+
+    @Override
+    public AnnotatedType getSubstituteType(AnnotatedType original) {
+        return TypeFactory.parameterizedAnnotatedClass(List.class, original.getAnnotations(), getElementType(original));
+    }
+
+    private AnnotatedType getElementType(AnnotatedType type) {
+        return GenericTypeReflector.getTypeParameter(type, Iterator.class.getTypeParameters()[0]);
+    }
+
+    @Override
+    public List<AnnotatedType> getDerivedTypes(AnnotatedType iteratorType) {
+        return Collections.singletonList(getElementType(iteratorType));
+    }
+}
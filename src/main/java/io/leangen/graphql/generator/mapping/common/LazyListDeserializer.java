@@ -0,0 +1,108 @@
+package io.leangen.graphql.generator.mapping.common;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.generator.mapping.ArgumentInjector;
+import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
+import io.leangen.graphql.metadata.strategy.value.InputParsingException;
+import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+import io.leangen.graphql.util.ClassUtils;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Injects {@link Stream} and {@link Iterator} arguments as lazy views over the raw input list, deserializing each
+ * element only when it is consumed. This allows resolvers to process very large list arguments (e.g. writing them
+ * to storage in chunks) without ever materializing the entire converted collection.
+ * <p>Elements that fail to deserialize are reported (when consumed) via an {@link InputParsingException} stating
+ * the element index.</p>
+ * <p>Not registered by default. To opt in, register {@link io.leangen.graphql.module.common.LazyListModule},
+ * which also maps {@link Iterator}s as lists, or register this injector alone via
+ * {@link io.leangen.graphql.GraphQLSchemaGenerator#withArgumentInjectors(ArgumentInjector...)}
+ * for {@link Stream} arguments only.</p>
+ */
+public class LazyListDeserializer implements ArgumentInjector {
+
+    @Override
+    public Object getArgumentValue(ArgumentInjectorParams params) {
+        if (params.getInput() == null) {
+            return null;
+        }
+        ElementIterator elements = new ElementIterator(asList(params.getInput()), params.getArgument().getName(),
+                getElementType(params.getType()), params.getResolutionEnvironment().valueMapper);
+        if (Iterator.class.equals(ClassUtils.getRawType(params.getType().getType()))) {
+            return elements;
+        }
+        return StreamSupport.stream(Spliterators.spliterator(elements, elements.raw.size(), Spliterator.ORDERED), false);
+    }
+
+    @Override
+    public boolean supports(AnnotatedType type, Parameter parameter) {
+        Class<?> raw = ClassUtils.getRawType(type.getType());
+        return raw == Stream.class || raw == Iterator.class;
+    }
+
+    private static List<?> asList(Object input) {
+        if (input instanceof List) {
+            return (List<?>) input;
+        }
+        if (input instanceof Collection) {
+            return Collections.unmodifiableList(new ArrayList<>((Collection<?>) input));
+        }
+        return Collections.singletonList(input);
+    }
+
+    private static AnnotatedType getElementType(AnnotatedType type) {
+        Class<?> raw = ClassUtils.getRawType(type.getType());
+        return GenericTypeReflector.getTypeParameter(type, raw.getTypeParameters()[0]);
+    }
+
+    private static class ElementIterator implements Iterator<Object> {
+
+        private final List<?> raw;
+        private final String argumentName;
+        private final AnnotatedType elementType;
+        private final ValueMapper valueMapper;
+        private int index;
+
+        ElementIterator(List<?> raw, String argumentName, AnnotatedType elementType, ValueMapper valueMapper) {
+            this.raw = raw;
+            this.argumentName = argumentName;
+            this.elementType = elementType;
+            this.valueMapper = valueMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < raw.size();
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int current = index++;
+            Object element = raw.get(current);
+            if (element == null) {
+                return null;
+            }
+            try {
+                return valueMapper.fromInput(element, elementType);
+            } catch (RuntimeException e) {
+                throw new InputParsingException(String.format("Element at index %d of argument '%s' could not be parsed into an instance of %s",
+                        current, argumentName, elementType.getType().getTypeName()), e);
+            }
+        }
+    }
+}
@@ -7,10 +7,15 @@ import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Only used to trigger the conversion of map keys and values
@@ -19,7 +24,16 @@ public class MapOutputConverter implements DelegatingOutputConverter<Map<?, ?>,
 
     @Override
     public Map<?, ?> convertOutput(Map<?, ?> original, AnnotatedType type, ResolutionEnvironment env) {
-        return processMap(original, env.getDerived(type, 0), env.getDerived(type, 1), env);
+        AnnotatedType keyType = env.getDerived(type, 0);
+        AnnotatedType valueType = env.getDerived(type, 1);
+        AnnotatedElement element = env.resolver.getTypedElement();
+        if (env.isOutputConversionRequired(element, keyType)) {
+            return processMap(original, keyType, valueType, env);
+        }
+        if (env.isOutputConversionRequired(element, valueType)) {
+            return new ValueConvertingMap<>(original, value -> env.convertOutput(value, element, valueType));
+        }
+        return original;
     }
 
     @Override
@@ -48,4 +62,60 @@ public class MapOutputConverter implements DelegatingOutputConverter<Map<?, ?>,
     private AnnotatedType getElementType(AnnotatedType mapType, int typeParameterIndex) {
         return GenericTypeReflector.getTypeParameter(mapType, Map.class.getTypeParameters()[typeParameterIndex]);
     }
+
+    /**
+     * A read-only view over a map, converting the values on access, so the map never gets copied
+     */
+    private static class ValueConvertingMap<K, V> extends AbstractMap<K, Object> {
+
+        private final Map<K, V> original;
+        private final Function<Object, Object> converter;
+
+        ValueConvertingMap(Map<K, V> original, Function<Object, Object> converter) {
+            this.original = original;
+            this.converter = converter;
+        }
+
+        @Override
+        public int size() {
+            return original.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return original.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return converter.apply(original.get(key));
+        }
+
+        @Override
+        public Set<Entry<K, Object>> entrySet() {
+            return new AbstractSet<Entry<K, Object>>() {
+                @Override
+                public Iterator<Entry<K, Object>> iterator() {
+                    Iterator<Entry<K, V>> entries = original.entrySet().iterator();
+                    return new Iterator<Entry<K, Object>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<K, Object> next() {
+                            Entry<K, V> entry = entries.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), converter.apply(entry.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return original.size();
+                }
+            };
+        }
+    }
 }
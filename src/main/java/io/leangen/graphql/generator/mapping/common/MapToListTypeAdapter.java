@@ -13,7 +13,10 @@ import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -31,9 +34,8 @@ public class MapToListTypeAdapter extends AbstractTypeAdapter<Map<?, ?>, List<Ma
 
     @Override
     public List<MapToListTypeAdapter.MapEntry<?, ?>> convertOutput(Map<?, ?> original, AnnotatedType type, ResolutionEnvironment resolutionEnvironment) {
-        return converter.convertOutput(original, type, resolutionEnvironment).entrySet().stream()
-                .map(entry -> new MapToListTypeAdapter.MapEntry<>(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toList());
+        //Keys and values are converted (if needed) when the fields of MapEntry are resolved, so they're left as they are
+        return new MapEntryList(original);
     }
 
     @Override
@@ -75,6 +77,59 @@ public class MapToListTypeAdapter extends AbstractTypeAdapter<Map<?, ?>, List<Ma
                 () -> initial);
     }
 
+    /**
+     * A read-only list view over the entries of a map, creating the {@link MapEntry} instances only when actually
+     * iterated over, so the map never gets copied
+     */
+    private static class MapEntryList extends AbstractList<MapEntry<?, ?>> {
+
+        private final Map<?, ?> original;
+        private List<MapEntry<?, ?>> indexed;
+
+        MapEntryList(Map<?, ?> original) {
+            this.original = original;
+        }
+
+        @Override
+        public Iterator<MapEntry<?, ?>> iterator() {
+            if (indexed != null) {
+                return indexed.iterator();
+            }
+            Iterator<? extends Map.Entry<?, ?>> entries = original.entrySet().iterator();
+            return new Iterator<MapEntry<?, ?>>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public MapEntry<?, ?> next() {
+                    return toMapEntry(entries.next());
+                }
+            };
+        }
+
+        //Positional access is not used for output, but is supported by (lazily) materializing the entries once
+        @Override
+        public MapEntry<?, ?> get(int index) {
+            if (indexed == null) {
+                List<MapEntry<?, ?>> entries = new ArrayList<>(original.size());
+                original.entrySet().forEach(entry -> entries.add(toMapEntry(entry)));
+                indexed = entries;
+            }
+            return indexed.get(index);
+        }
+
+        @Override
+        public int size() {
+            return original.size();
+        }
+
+        private static MapEntry<?, ?> toMapEntry(Map.Entry<?, ?> entry) {
+            return new MapEntry<>(entry.getKey(), entry.getValue());
+        }
+    }
+
     @SuppressWarnings("WeakerAccess")
     @io.leangen.graphql.annotations.types.GraphQLType(description = "Map entry input")
     public static class MapEntry<K, V> {
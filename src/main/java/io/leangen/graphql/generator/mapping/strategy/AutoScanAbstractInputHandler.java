@@ -2,6 +2,7 @@ package io.leangen.graphql.generator.mapping.strategy;
 
 import io.github.classgraph.ClassInfo;
 import io.leangen.graphql.generator.BuildContext;
+import io.leangen.graphql.generator.GenerationReport;
 import io.leangen.graphql.metadata.exceptions.TypeMappingException;
 import io.leangen.graphql.metadata.strategy.value.InputFieldBuilderParams;
 import io.leangen.graphql.util.ClassUtils;
@@ -76,7 +77,8 @@ public class AutoScanAbstractInputHandler implements AbstractInputHandler {
             return Collections.emptyList();
         }
         Predicate<ClassInfo> filter = CONCRETE.and(NON_IGNORED).and(candidateFilters.stream().reduce(Predicate::and).orElse(ALL));
-        List<Class<?>> subTypes = buildContext.classFinder.findImplementations(abstractType, filter, buildContext.basePackages);
+        List<Class<?>> subTypes = buildContext.profiler.measure(GenerationReport.Category.CLASSPATH_SCAN, abstractType.getName(),
+                () -> buildContext.classFinder.findImplementations(abstractType, filter, buildContext.basePackages));
         if (subTypes.isEmpty()) {
             log.warn("No concrete subtypes of " + abstractType.getName() + " found");
         }
@@ -88,6 +90,14 @@ public class AutoScanAbstractInputHandler implements AbstractInputHandler {
         return this;
     }
 
+    /**
+     * Only the class hierarchy and class-level annotations are collected by default, so filters inspecting
+     * the fields or methods require {@link io.leangen.graphql.GraphQLSchemaGenerator#withClasspathScanMemberInfo()}
+     *
+     * @param candidateFilters The filters the discovered subtypes must pass
+     *
+     * @return This {@link AutoScanAbstractInputHandler} instance, to allow method chaining
+     */
     @SafeVarargs
     public final AutoScanAbstractInputHandler withCandidateFilters(Predicate<ClassInfo>... candidateFilters) {
         Collections.addAll(this.candidateFilters, candidateFilters);
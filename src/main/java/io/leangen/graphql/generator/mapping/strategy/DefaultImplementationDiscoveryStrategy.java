@@ -3,6 +3,7 @@ package io.leangen.graphql.generator.mapping.strategy;
 import io.github.classgraph.ClassInfo;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.generator.BuildContext;
+import io.leangen.graphql.generator.GenerationReport;
 import io.leangen.graphql.metadata.exceptions.TypeMappingException;
 import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.Utils;
@@ -43,7 +44,9 @@ public class DefaultImplementationDiscoveryStrategy implements ImplementationDis
         if (!autoDiscover) {
             return additionalImpls;
         }
-        List<AnnotatedType> discoveredImpls = buildContext.classFinder.findImplementations(type, filter, false, scanPackages);
+        String[] packages = scanPackages;
+        List<AnnotatedType> discoveredImpls = buildContext.profiler.measure(GenerationReport.Category.CLASSPATH_SCAN, type.getType().getTypeName(),
+                () -> buildContext.classFinder.findImplementations(type, filter, false, packages));
         Set<Class<?>> seen = new HashSet<>(discoveredImpls.size() + additionalImpls.size());
         return Stream.concat(additionalImpls.stream(), discoveredImpls.stream())
                 .filter(impl -> seen.add(GenericTypeReflector.erase(impl.getType())))
@@ -55,6 +58,14 @@ public class DefaultImplementationDiscoveryStrategy implements ImplementationDis
         return this;
     }
 
+    /**
+     * Only the class hierarchy and class-level annotations are collected by default, so filters inspecting
+     * the fields or methods require {@link io.leangen.graphql.GraphQLSchemaGenerator#withClasspathScanMemberInfo()}
+     *
+     * @param filters The filters the discovered implementations must pass
+     *
+     * @return This {@link DefaultImplementationDiscoveryStrategy} instance, to allow method chaining
+     */
     @SafeVarargs
     public final DefaultImplementationDiscoveryStrategy withFilters(Predicate<ClassInfo>... filters) {
         Collections.addAll(this.filters, filters);
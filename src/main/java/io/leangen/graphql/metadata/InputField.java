@@ -1,5 +1,6 @@
 package io.leangen.graphql.metadata;
 
+import io.leangen.graphql.util.AnnotatedTypeInterner;
 import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.Utils;
 
@@ -19,7 +20,7 @@ public class InputField {
         this.name = Utils.requireNonEmpty(name);
         this.description = description;
         this.typedElement = Objects.requireNonNull(element);
-        this.deserializableType = deserializableType != null ? deserializableType : element.getJavaType();
+        this.deserializableType = deserializableType != null ? AnnotatedTypeInterner.intern(deserializableType) : element.getJavaType();
         this.defaultValue = Objects.requireNonNull(defaultValue);
     }
 
@@ -1,6 +1,7 @@
 package io.leangen.graphql.metadata;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.util.AnnotatedTypeInterner;
 import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.Utils;
 
@@ -30,7 +31,7 @@ public class OperationArgument {
                              List<Parameter> parameters, boolean context, boolean mappable) {
 
         this.typedElement = new TypedElement(Objects.requireNonNull(javaType), parameters);
-        this.baseType = resolveBaseType(typedElement.getJavaType());
+        this.baseType = AnnotatedTypeInterner.intern(resolveBaseType(typedElement.getJavaType()));
         this.name = Objects.requireNonNull(name);
         this.description = description;
         this.defaultValue = Objects.requireNonNull(defaultValue);
@@ -1,6 +1,7 @@
 package io.leangen.graphql.metadata;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.util.AnnotatedTypeInterner;
 import io.leangen.graphql.util.Utils;
 
 import java.lang.annotation.Annotation;
@@ -20,12 +21,12 @@ public class TypedElement implements AnnotatedElement {
     }
 
     public TypedElement(AnnotatedType javaType, List<? extends AnnotatedElement> elements) {
-        this.javaType = javaType;
+        this.javaType = AnnotatedTypeInterner.intern(javaType);
         this.elements = elements.stream().distinct().collect(Collectors.toList());
     }
 
     public TypedElement(List<TypedElement> merge) {
-        this.javaType = merge.stream().map(TypedElement::getJavaType).reduce(GenericTypeReflector::mergeAnnotations).get();
+        this.javaType = AnnotatedTypeInterner.intern(merge.stream().map(TypedElement::getJavaType).reduce(GenericTypeReflector::mergeAnnotations).get());
         this.elements = merge.stream().flatMap(e -> e.getElements().stream()).distinct().collect(Collectors.toList());
     }
 
@@ -0,0 +1,36 @@
+package io.leangen.graphql.metadata.execution;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * Invokes the resolver method directly, via an invoker generated at compile time by
+ * {@link io.leangen.graphql.processor.OperationInvokerProcessor}, instead of reflectively.
+ * Same as on reflective invocation, anything thrown by the method (including {@link Error}s) is wrapped into an
+ * {@link InvocationTargetException}, while the arguments not matching the parameters (including {@code null}
+ * arguments for primitive parameters) are rejected with an (unwrapped) {@link IllegalArgumentException}.
+ */
+public class GeneratedMethodInvoker extends MethodInvoker {
+
+    private final OperationInvokers.Invoker invoker;
+    private final Supplier<Object> targetSupplier;
+
+    public GeneratedMethodInvoker(OperationInvokers.Invoker invoker, Supplier<Object> targetSupplier, Method resolverMethod, AnnotatedType enclosingType) {
+        super(resolverMethod, enclosingType);
+        this.invoker = invoker;
+        this.targetSupplier = targetSupplier;
+    }
+
+    @Override
+    public Object execute(Object target, Object[] args) throws InvocationTargetException {
+        try {
+            return invoker.invoke(targetSupplier != null ? targetSupplier.get() : target, args);
+        } catch (OperationInvokers.ArgumentMismatchException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
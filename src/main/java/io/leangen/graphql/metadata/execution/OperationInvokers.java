@@ -0,0 +1,136 @@
+package io.leangen.graphql.metadata.execution;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implemented by the classes generated by {@link io.leangen.graphql.processor.OperationInvokerProcessor},
+ * providing direct (non-reflective) invokers for the operation methods declared by a single class.
+ * The generated class is named after the binary name of the declaring class, suffixed with {@link #CLASS_NAME_SUFFIX}.
+ */
+public interface OperationInvokers {
+
+    String CLASS_NAME_SUFFIX = "_SpqrInvokers";
+
+    /**
+     * @param signature The signature of the method, as produced by {@link #signature(Method)}
+     *
+     * @return The invoker for the method with the given signature, or {@code null} if none was generated
+     */
+    Invoker find(String signature);
+
+    /**
+     * Produces the signature generated invokers are looked up by, e.g. {@code greeting(java.lang.String,int[])}
+     *
+     * @param method The method to produce the signature for
+     *
+     * @return The method name followed by the erased parameter type names
+     */
+    static String signature(Method method) {
+        return method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getTypeName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    /**
+     * Used by the generated invokers to pass the arguments of reference parameters, so that an argument of a wrong type
+     * fails the same way it does on reflective invocation, instead of with a {@link ClassCastException} indistinguishable
+     * from one thrown by the method itself
+     *
+     * @param argument The argument to check
+     * @param index The index of the parameter the argument is meant for
+     * @param type The (erased) type of the parameter
+     *
+     * @return The given argument, if {@code null} or of the given type
+     *
+     * @throws ArgumentMismatchException If the argument is not of the given type
+     */
+    static Object argument(Object argument, int index, Class<?> type) {
+        if (argument != null && !type.isInstance(argument)) {
+            throw new ArgumentMismatchException(index, argument, type);
+        }
+        return argument;
+    }
+
+    /**
+     * Used by the generated invokers to pass the arguments of primitive parameters, so that a {@code null} or mismatched
+     * argument fails the same way it does on reflective invocation, instead of with a {@link NullPointerException} on unboxing
+     * or a {@link ClassCastException}. Same as reflection, the argument is widened if needed, e.g. from {@code int} to {@code long}.
+     *
+     * @param argument The argument to check
+     * @param index The index of the parameter the argument is meant for
+     * @param type The primitive type of the parameter
+     *
+     * @return The given argument, boxed as the given type
+     *
+     * @throws ArgumentMismatchException If the argument is {@code null} or can not be widened to the given type
+     */
+    static Object primitive(Object argument, int index, Class<?> type) {
+        if (argument == null) {
+            throw new ArgumentMismatchException("Null argument for primitive parameter #" + index);
+        }
+        Object widened = Widening.widen(argument, type);
+        if (widened == null) {
+            throw new ArgumentMismatchException(index, argument, type);
+        }
+        return widened;
+    }
+
+    @FunctionalInterface
+    interface Invoker {
+        Object invoke(Object target, Object[] args) throws Exception;
+    }
+
+    /**
+     * Thrown by the generated invokers, before invoking the method, when an argument does not match its parameter
+     */
+    class ArgumentMismatchException extends IllegalArgumentException {
+
+        ArgumentMismatchException(String message) {
+            super(message);
+        }
+
+        ArgumentMismatchException(int index, Object argument, Class<?> type) {
+            this("Argument of type " + argument.getClass().getName() + " does not match parameter #" + index
+                    + " of type " + type.getName());
+        }
+    }
+
+    /**
+     * The widening primitive conversions reflective invocation applies to the arguments
+     */
+    final class Widening {
+
+        private static final List<Class<?>> NUMERIC = Arrays.asList(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+        private static final List<Class<?>> PRIMITIVE = Arrays.asList(byte.class, short.class, int.class, long.class, float.class, double.class);
+
+        private Widening() {
+        }
+
+        static Object widen(Object value, Class<?> type) {
+            if (type == boolean.class) {
+                return value instanceof Boolean ? value : null;
+            }
+            if (type == char.class) {
+                return value instanceof Character ? value : null;
+            }
+            int target = PRIMITIVE.indexOf(type);
+            //char widens to int and above
+            int source = value instanceof Character ? PRIMITIVE.indexOf(int.class) : NUMERIC.indexOf(value.getClass());
+            if (source < 0 || target < source) {
+                return null;
+            }
+            Number number = value instanceof Character ? (Number) (int) (Character) value : (Number) value;
+            switch (target) {
+                case 0: return number.byteValue();
+                case 1: return number.shortValue();
+                case 2: return number.intValue();
+                case 3: return number.longValue();
+                case 4: return number.floatValue();
+                default: return number.doubleValue();
+            }
+        }
+    }
+}
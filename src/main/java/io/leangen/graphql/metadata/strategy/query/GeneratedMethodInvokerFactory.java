@@ -0,0 +1,61 @@
+package io.leangen.graphql.metadata.strategy.query;
+
+import io.leangen.graphql.metadata.execution.Executable;
+import io.leangen.graphql.metadata.execution.GeneratedMethodInvoker;
+import io.leangen.graphql.metadata.execution.OperationInvokers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Uses the invokers generated at compile time by {@link io.leangen.graphql.processor.OperationInvokerProcessor}
+ * where available, avoiding reflective invocation of resolver methods. Falls back to the given factory
+ * (reflective invocation by default) for the methods no invoker was generated for.
+ * <p>To use it, register it with the resolver builders, e.g.
+ * {@code new AnnotatedResolverBuilder().withMethodInvokerFactory(new GeneratedMethodInvokerFactory())}</p>
+ */
+public class GeneratedMethodInvokerFactory implements MethodInvokerFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(GeneratedMethodInvokerFactory.class);
+
+    private final MethodInvokerFactory fallback;
+    private final Map<Class<?>, Optional<OperationInvokers>> generated = new ConcurrentHashMap<>();
+
+    public GeneratedMethodInvokerFactory() {
+        this(new DefaultMethodInvokerFactory());
+    }
+
+    public GeneratedMethodInvokerFactory(MethodInvokerFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Executable<Method> create(Supplier<Object> targetSupplier, Method resolverMethod, AnnotatedType enclosingType, Class<?> exposedType) {
+        OperationInvokers.Invoker invoker = generated.computeIfAbsent(resolverMethod.getDeclaringClass(), GeneratedMethodInvokerFactory::load)
+                .map(invokers -> invokers.find(OperationInvokers.signature(resolverMethod)))
+                .orElse(null);
+        if (invoker == null) {
+            return fallback.create(targetSupplier, resolverMethod, enclosingType, exposedType);
+        }
+        return new GeneratedMethodInvoker(invoker, targetSupplier, resolverMethod, enclosingType);
+    }
+
+    private static Optional<OperationInvokers> load(Class<?> declaringClass) {
+        String name = declaringClass.getName() + OperationInvokers.CLASS_NAME_SUFFIX;
+        try {
+            Class<?> invokers = Class.forName(name, true, declaringClass.getClassLoader());
+            return Optional.of((OperationInvokers) invokers.getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            log.warn("Generated invokers " + name + " could not be instantiated. Reflective invocation will be used instead.", e);
+            return Optional.empty();
+        }
+    }
+}
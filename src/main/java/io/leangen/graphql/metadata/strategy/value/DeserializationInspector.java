@@ -0,0 +1,31 @@
+package io.leangen.graphql.metadata.strategy.value;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Implemented by the value mappers able to tell how they deserialize a type, so that the types deserialized
+ * in the default way can be bound by other means (see {@link io.leangen.graphql.metadata.strategy.value.binding.BindingValueMapper}),
+ * while the types customized via registered (de)serializers, adapters, modules or annotations are left to the mapper itself.
+ */
+public interface DeserializationInspector {
+
+    /**
+     * @param type The type to inspect
+     *
+     * @return {@code true} if the values of the given type are deserialized exactly as by an unconfigured mapper,
+     * {@code false} otherwise
+     */
+    boolean isDefaultDeserialized(Type type);
+
+    /**
+     * @param type The bean type to inspect
+     *
+     * @return The members (fields, setters or creator parameters) the properties of the given type are written through,
+     * keyed by the property name, or {@code null} if the type is not deserialized as a plain bean, or the deserialization
+     * of any of its properties is customized
+     */
+    Map<String, AnnotatedElement> getDefaultMutators(AnnotatedType type);
+}
@@ -7,4 +7,8 @@ public class InputParsingException extends IllegalArgumentException {
     public InputParsingException(Object input, Type targetType, Throwable cause) {
         super("Value: " + input + " could not be parsed into an instance of " + targetType.getTypeName(), cause);
     }
+
+    public InputParsingException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
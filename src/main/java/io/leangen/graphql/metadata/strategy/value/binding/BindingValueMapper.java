@@ -0,0 +1,407 @@
+package io.leangen.graphql.metadata.strategy.value.binding;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.annotations.GraphQLScalar;
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.generator.mapping.InputConverter;
+import io.leangen.graphql.metadata.InputField;
+import io.leangen.graphql.metadata.TypeDiscriminatorField;
+import io.leangen.graphql.metadata.strategy.value.DeserializationInspector;
+import io.leangen.graphql.metadata.strategy.value.InputFieldBuilder;
+import io.leangen.graphql.metadata.strategy.value.InputFieldBuilderParams;
+import io.leangen.graphql.metadata.strategy.value.InputParsingException;
+import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+import io.leangen.graphql.util.ClassUtils;
+import io.leangen.graphql.util.Scalars;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ValueMapper} binding the input values (already coerced by graphql-java) directly into Java objects,
+ * using the {@link InputField}s discovered by the fallback value mapper and {@link MethodHandle}s for instantiation
+ * (via the no-arg or the creator constructor) and for writing the properties (via setters or fields).
+ * <p>A binder is composed once per type, and reused for all subsequent inputs of that type. Nested objects,
+ * collections, arrays, enums, numbers and scalars are handled directly, as are the registered {@link InputConverter}s.
+ * <p>Only the types the fallback value mapper (which must be a {@link DeserializationInspector}) reports as
+ * deserialized in the default way are bound, and their properties are written through the exact members
+ * (creator constructor parameters, setters or fields) the fallback itself would use. All other types (abstract types,
+ * types customized via registered (de)serializers, type adapters, modules or the JSON library's own annotations,
+ * types without a usable constructor etc.) are delegated to the fallback value mapper, as are
+ * {@link #fromString(String, AnnotatedType)} and {@link #toString(Object, AnnotatedType)}.
+ * If the fallback is not a {@link DeserializationInspector}, all conversions are delegated to it.</p>
+ */
+public class BindingValueMapper implements ValueMapper, InputFieldBuilder {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final ValueMapper fallback;
+    private final DeserializationInspector inspector;
+    @SuppressWarnings("rawtypes")
+    private final Map<Class, List<Class<?>>> concreteSubTypes;
+    private final GlobalEnvironment environment;
+    private final Map<AnnotatedType, Converter> converters = new ConcurrentHashMap<>();
+    private final Map<Type, Converter> binders = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("rawtypes")
+    BindingValueMapper(ValueMapper fallback, Map<Class, List<Class<?>>> concreteSubTypes, GlobalEnvironment environment) {
+        this.fallback = fallback;
+        this.inspector = fallback instanceof DeserializationInspector ? (DeserializationInspector) fallback : null;
+        this.concreteSubTypes = concreteSubTypes;
+        this.environment = environment;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T fromInput(Object graphQLInput, Type sourceType, AnnotatedType outputType) throws InputParsingException {
+        Converter converter = converters.get(outputType);
+        if (converter == null) {
+            converter = converters.computeIfAbsent(outputType, this::compile);
+        }
+        return (T) converter.convert(graphQLInput);
+    }
+
+    @Override
+    public <T> T fromString(String json, AnnotatedType type) throws InputParsingException {
+        return fallback.fromString(json, type);
+    }
+
+    @Override
+    public String toString(Object output, AnnotatedType type) {
+        return fallback.toString(output, type);
+    }
+
+    @Override
+    public Set<InputField> getInputFields(InputFieldBuilderParams params) {
+        return ((InputFieldBuilder) fallback).getInputFields(params);
+    }
+
+    @Override
+    public TypeDiscriminatorField getTypeDiscriminatorField(InputFieldBuilderParams params) {
+        return ((InputFieldBuilder) fallback).getTypeDiscriminatorField(params);
+    }
+
+    @Override
+    public boolean supports(AnnotatedType type) {
+        return fallback instanceof InputFieldBuilder && ((InputFieldBuilder) fallback).supports(type);
+    }
+
+    private Converter compile(AnnotatedType type) {
+        InputConverter<Object, Object> inputConverter = environment.converters.getInputConverter(type);
+        if (inputConverter != null) {
+            //Same as the JSON libraries do: bind the fully unwrapped substitute type, then let the converter take over
+            Converter substitute = compileDirect(environment.getMappableInputType(type));
+            return value -> value == null ? null : inputConverter.convertInput(substitute.convert(value), type, environment, this);
+        }
+        return compileDirect(type);
+    }
+
+    private Converter compileDirect(AnnotatedType type) {
+        Class<?> raw = ClassUtils.getRawType(type.getType());
+        Class<?> boxed = ClassUtils.getRawType(GenericTypeReflector.box(raw));
+        //Types with custom deserializers or adapters registered with the fallback are left to the fallback
+        if (inspector == null || !inspector.isDefaultDeserialized(type.getType())) {
+            return value -> passThrough(value, raw, type);
+        }
+        if (isNumeric(boxed)) {
+            return value -> {
+                if (value instanceof Number) {
+                    Object number = toNumber((Number) value, boxed);
+                    if (number != null) {
+                        return number;
+                    }
+                }
+                return value == null || boxed.isInstance(value) ? value : fallback.fromInput(value, type);
+            };
+        }
+        if (boxed == Character.class) {
+            return value -> value instanceof String && ((String) value).length() == 1 ? ((String) value).charAt(0)
+                    : value == null || value instanceof Character ? value : fallback.fromInput(value, type);
+        }
+        if (raw.isArray()) {
+            AnnotatedType componentType = type instanceof AnnotatedArrayType
+                    ? ((AnnotatedArrayType) type).getAnnotatedGenericComponentType()
+                    : GenericTypeReflector.annotate(raw.getComponentType());
+            Converter elementConverter = compile(componentType);
+            return value -> value instanceof Collection ? toArray((Collection<?>) value, raw.getComponentType(), elementConverter, type)
+                    : value == null ? null : fallback.fromInput(value, type);
+        }
+        if (raw == List.class || raw == Collection.class || raw == Iterable.class || raw == ArrayList.class
+                || raw == Set.class || raw == LinkedHashSet.class) {
+            AnnotatedType elementType = GenericTypeReflector.getTypeParameter(type, Iterable.class.getTypeParameters()[0]);
+            if (elementType != null) {
+                Converter elementConverter = compile(elementType);
+                boolean set = Set.class.isAssignableFrom(raw);
+                return value -> value instanceof Collection ? toCollection((Collection<?>) value, set, elementConverter)
+                        : value == null ? null : fallback.fromInput(value, type);
+            }
+        }
+        if (isBindable(raw, type)) {
+            return value -> value instanceof Map ? getBinder(type).convert(value) : passThrough(value, raw, type);
+        }
+        return value -> passThrough(value, raw, type);
+    }
+
+    private Object passThrough(Object value, Class<?> raw, AnnotatedType type) {
+        if (value == null) {
+            return null;
+        }
+        //Values already of the target type need no conversion, unless they are containers or plain objects, whose contents might still need converting
+        if (raw.isInstance(value) && raw != Object.class && !Map.class.isAssignableFrom(raw) && !Collection.class.isAssignableFrom(raw)) {
+            return value;
+        }
+        return fallback.fromInput(value, type);
+    }
+
+    private Converter getBinder(AnnotatedType type) {
+        Converter binder = binders.get(type.getType());
+        return binder != null ? binder : binders.computeIfAbsent(type.getType(), t -> createBinder(type));
+    }
+
+    private boolean isBindable(Class<?> raw, AnnotatedType type) {
+        return !ClassUtils.isAbstract(raw) && !raw.isPrimitive() && !raw.isArray() && !raw.isEnum()
+                && raw != Object.class && !Map.class.isAssignableFrom(raw) && !Collection.class.isAssignableFrom(raw)
+                && !raw.getName().startsWith("java.") && !Scalars.isScalar(type.getType())
+                && !(raw.getEnclosingClass() != null && !Modifier.isStatic(raw.getModifiers()))
+                && !raw.isAnnotationPresent(GraphQLScalar.class) && !type.isAnnotationPresent(GraphQLScalar.class)
+                && concreteSubTypes.getOrDefault(raw, Collections.emptyList()).isEmpty()
+                && supports(type);
+    }
+
+    /**
+     * Composes the binder for the given type. If the type can not be bound safely, the returned binder simply
+     * delegates to the fallback value mapper.
+     */
+    private Converter createBinder(AnnotatedType type) {
+        Converter delegate = value -> fallback.fromInput(value, type);
+        Class<?> raw = ClassUtils.getRawType(type.getType());
+        Map<String, AnnotatedElement> mutators = inspector.getDefaultMutators(type);
+        if (mutators == null) {
+            return delegate;
+        }
+        Set<InputField> inputFields = getInputFields(InputFieldBuilderParams.builder()
+                .withType(type)
+                .withEnvironment(environment)
+                .withConcreteSubTypes(concreteSubTypes.getOrDefault(raw, Collections.emptyList()))
+                .build());
+
+        Constructor<?> creator = null;
+        Map<String, Binding> bindings = new HashMap<>();
+        List<MethodHandle> writers = new ArrayList<>();
+        List<Class<?>> writerTypes = new ArrayList<>();
+        try {
+            for (InputField inputField : inputFields) {
+                AnnotatedElement mutator = mutators.get(inputField.getName());
+                if (mutator == null || ClassUtils.getRawType(inputField.getDeserializableType().getType()) != ClassUtils.getRawType(inputField.getJavaType().getType())) {
+                    return delegate;
+                }
+                Converter converter = compile(inputField.getJavaType());
+                if (mutator instanceof Parameter) {
+                    if (!(((Parameter) mutator).getDeclaringExecutable() instanceof Constructor)) {
+                        return delegate; //Factory method creators are left to the fallback
+                    }
+                    Constructor<?> constructor = (Constructor<?>) ((Parameter) mutator).getDeclaringExecutable();
+                    if (creator != null && !creator.equals(constructor)) {
+                        return delegate;
+                    }
+                    creator = constructor;
+                    bindings.put(inputField.getName(), new Binding(Arrays.asList(constructor.getParameters()).indexOf(mutator), -1, converter));
+                } else {
+                    bindings.put(inputField.getName(), new Binding(-1, writers.size(), converter));
+                    if (mutator instanceof Method) {
+                        Method setter = (Method) mutator;
+                        setter.setAccessible(true);
+                        writers.add(LOOKUP.unreflect(setter).asType(WRITER_TYPE));
+                        writerTypes.add(setter.getParameterTypes()[0]);
+                    } else {
+                        Field field = (Field) mutator;
+                        field.setAccessible(true);
+                        writers.add(LOOKUP.unreflectSetter(field).asType(WRITER_TYPE));
+                        writerTypes.add(field.getType());
+                    }
+                }
+            }
+            if (creator == null) {
+                creator = raw.getDeclaredConstructor();
+            } else if (bindings.values().stream().filter(binding -> binding.parameter >= 0).count() != creator.getParameterCount()) {
+                return delegate; //Some creator parameters are not input fields (e.g. injected values)
+            }
+            creator.setAccessible(true);
+            MethodHandle instantiator = LOOKUP.unreflectConstructor(creator)
+                    .asSpreader(Object[].class, creator.getParameterCount())
+                    .asType(INSTANTIATOR_TYPE);
+            return new Binder(type, instantiator, defaultValues(Arrays.asList(creator.getParameterTypes())),
+                    writers.toArray(new MethodHandle[0]), defaultValues(writerTypes), bindings);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return delegate;
+        }
+    }
+
+    private static Object[] defaultValues(List<Class<?>> types) {
+        Object[] defaults = new Object[types.size()];
+        for (int i = 0; i < defaults.length; i++) {
+            Class<?> type = types.get(i);
+            defaults[i] = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        }
+        return defaults;
+    }
+
+    private static boolean isNumeric(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Double.class || type == Float.class
+                || type == Short.class || type == Byte.class || type == BigDecimal.class || type == BigInteger.class;
+    }
+
+    //Returns null if the number does not fit the type exactly, so that the fallback either coerces or rejects it, as it always has
+    private static Object toNumber(Number number, Class<?> type) {
+        if (type.isInstance(number)) return number;
+        if (type == Double.class) return number.doubleValue();
+        if (type == Float.class) return number.floatValue();
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            long value = number.longValue();
+            if (type == Long.class) return value;
+            if (type == Integer.class) return value == (int) value ? (Object) (int) value : null;
+            if (type == Short.class) return value == (short) value ? (Object) (short) value : null;
+            if (type == Byte.class) return value == (byte) value ? (Object) (byte) value : null;
+            if (type == BigInteger.class) return BigInteger.valueOf(value);
+            if (type == BigDecimal.class) return BigDecimal.valueOf(value);
+            return null;
+        }
+        if ((number instanceof Double && !Double.isFinite(number.doubleValue()))
+                || (number instanceof Float && !Float.isFinite(number.floatValue()))) {
+            return null;
+        }
+        BigDecimal decimal = number instanceof BigDecimal ? (BigDecimal) number
+                : number instanceof BigInteger ? new BigDecimal((BigInteger) number) : new BigDecimal(number.toString());
+        try {
+            if (type == Integer.class) return decimal.intValueExact();
+            if (type == Long.class) return decimal.longValueExact();
+            if (type == Short.class) return decimal.shortValueExact();
+            if (type == Byte.class) return decimal.byteValueExact();
+            if (type == BigInteger.class) return decimal.toBigIntegerExact();
+            if (type == BigDecimal.class) return decimal;
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static Object toArray(Collection<?> values, Class<?> componentType, Converter elementConverter, AnnotatedType type) {
+        Object array = Array.newInstance(componentType, values.size());
+        Iterator<?> iterator = values.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            try {
+                Array.set(array, i, elementConverter.convert(iterator.next()));
+            } catch (IllegalArgumentException e) {
+                throw new InputParsingException(values, type.getType(), e);
+            }
+        }
+        return array;
+    }
+
+    private static Collection<Object> toCollection(Collection<?> values, boolean set, Converter elementConverter) {
+        Collection<Object> result = set ? new LinkedHashSet<>(values.size()) : new ArrayList<>(values.size());
+        for (Object value : values) {
+            result.add(elementConverter.convert(value));
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface Converter {
+        Object convert(Object value);
+    }
+
+    private static class Binding {
+        final int parameter;
+        final int writer;
+        final Converter converter;
+
+        Binding(int parameter, int writer, Converter converter) {
+            this.parameter = parameter;
+            this.writer = writer;
+            this.converter = converter;
+        }
+    }
+
+    private class Binder implements Converter {
+
+        private final AnnotatedType type;
+        private final MethodHandle instantiator;
+        private final Object[] parameterDefaults;
+        private final MethodHandle[] writers;
+        private final Object[] writerDefaults;
+        private final Map<String, Binding> bindings;
+
+        Binder(AnnotatedType type, MethodHandle instantiator, Object[] parameterDefaults,
+               MethodHandle[] writers, Object[] writerDefaults, Map<String, Binding> bindings) {
+            this.type = type;
+            this.instantiator = instantiator;
+            this.parameterDefaults = parameterDefaults;
+            this.writers = writers;
+            this.writerDefaults = writerDefaults;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object convert(Object value) {
+            Map<?, ?> input = (Map<?, ?>) value;
+            Object[] arguments = parameterDefaults.clone();
+            Object[] values = new Object[writers.length];
+            boolean[] present = new boolean[writers.length];
+            for (Map.Entry<?, ?> entry : input.entrySet()) {
+                Binding binding = bindings.get(entry.getKey());
+                if (binding == null) {
+                    return fallback.fromInput(input, type); //Unknown field, e.g. a type discriminator
+                }
+                Object converted = binding.converter.convert(entry.getValue());
+                if (binding.parameter >= 0) {
+                    if (converted != null) {
+                        arguments[binding.parameter] = converted;
+                    }
+                } else {
+                    values[binding.writer] = converted != null ? converted : writerDefaults[binding.writer];
+                    present[binding.writer] = true;
+                }
+            }
+            try {
+                Object instance = (Object) instantiator.invokeExact(arguments);
+                for (int i = 0; i < writers.length; i++) {
+                    if (present[i]) {
+                        writers[i].invokeExact(instance, values[i]);
+                    }
+                }
+                return instance;
+            } catch (Error | InputParsingException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InputParsingException(input, type.getType(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.leangen.graphql.metadata.strategy.value.binding;
+
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.metadata.strategy.type.DefaultTypeInfoGenerator;
+import io.leangen.graphql.metadata.strategy.value.ScalarDeserializationStrategy;
+import io.leangen.graphql.metadata.strategy.value.ValueMapperFactory;
+import io.leangen.graphql.util.Defaults;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Produces {@link BindingValueMapper}s, binding input objects directly into Java beans,
+ * without going through a general-purpose JSON library.
+ * <p>The input field metadata, as well as the conversion of the values that can not be bound directly,
+ * comes from the fallback value mappers (Jackson or Gson based, whichever is available, by default).
+ * Only the types the fallback deserializes in the default way are bound directly, so the (de)serializers, modules
+ * and type adapters registered with the fallback are always respected.</p>
+ */
+public class BindingValueMapperFactory implements ValueMapperFactory, ScalarDeserializationStrategy {
+
+    private final ValueMapperFactory fallback;
+
+    /**
+     * Uses the default (Jackson or Gson based) value mapper factory, with the default type info generator, as the fallback
+     */
+    public BindingValueMapperFactory() {
+        this(Defaults.valueMapperFactory(new DefaultTypeInfoGenerator()));
+    }
+
+    /**
+     * @param fallback The factory providing the value mappers used for input field discovery
+     *                 and for the values that can not be bound directly
+     */
+    public BindingValueMapperFactory(ValueMapperFactory fallback) {
+        this.fallback = Objects.requireNonNull(fallback);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public BindingValueMapper getValueMapper(Map<Class, List<Class<?>>> concreteSubTypes, GlobalEnvironment environment) {
+        return new BindingValueMapper(fallback.getValueMapper(concreteSubTypes, environment), concreteSubTypes, environment);
+    }
+
+    @Override
+    public boolean isDirectlyDeserializable(AnnotatedType type) {
+        return fallback instanceof ScalarDeserializationStrategy
+                && ((ScalarDeserializationStrategy) fallback).isDirectlyDeserializable(type);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " with fallback " + fallback.getClass().getSimpleName();
+    }
+}
@@ -4,6 +4,11 @@ import com.google.gson.FieldNamingStrategy;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLInputField;
 import io.leangen.graphql.execution.GlobalEnvironment;
@@ -15,6 +20,7 @@ import io.leangen.graphql.metadata.exceptions.TypeMappingException;
 import io.leangen.graphql.metadata.messages.MessageBundle;
 import io.leangen.graphql.metadata.strategy.InputFieldInclusionParams;
 import io.leangen.graphql.metadata.strategy.type.TypeTransformer;
+import io.leangen.graphql.metadata.strategy.value.DeserializationInspector;
 import io.leangen.graphql.metadata.strategy.value.InputFieldBuilder;
 import io.leangen.graphql.metadata.strategy.value.InputFieldBuilderParams;
 import io.leangen.graphql.metadata.strategy.value.InputFieldInfoGenerator;
@@ -24,6 +30,7 @@ import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.Scalars;
 import io.leangen.graphql.util.Utils;
 
+import java.io.IOException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
@@ -38,11 +45,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-public class GsonValueMapper implements ValueMapper, InputFieldBuilder {
+public class GsonValueMapper implements ValueMapper, InputFieldBuilder, DeserializationInspector {
 
     private final Gson gson;
+    private final Map<Type, TypeAdapter<?>> adapters = new ConcurrentHashMap<>();
+    private final Map<Type, Boolean> streamableTypes = new ConcurrentHashMap<>();
+    private final Map<Type, Boolean> defaultDeserializedTypes = new ConcurrentHashMap<>();
     private final InputFieldInfoGenerator inputInfoGen = new InputFieldInfoGenerator();
     private static final Gson NO_CONVERTERS = new Gson();
 
@@ -57,6 +68,16 @@ public class GsonValueMapper implements ValueMapper, InputFieldBuilder {
             return (T) graphQLInput;
         }
         try {
+            //Read the input maps and lists directly when possible, without building an intermediate JSON tree
+            if (MapJsonReader.isStreamable(graphQLInput)
+                    && streamableTypes.computeIfAbsent(outputType.getType(), MapJsonReader::isStreamable)) {
+                try {
+                    return read(new MapJsonReader(graphQLInput), outputType.getType());
+                } catch (MapJsonReader.UnsupportedStreamingException e) {
+                    //A custom type adapter needs the tree conversion after all
+                    streamableTypes.put(outputType.getType(), false);
+                }
+            }
             JsonElement jsonElement = NO_CONVERTERS.toJsonTree(graphQLInput, sourceType);
             return gson.fromJson(jsonElement, outputType.getType());
         } catch (JsonSyntaxException e) {
@@ -64,6 +85,17 @@ public class GsonValueMapper implements ValueMapper, InputFieldBuilder {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T read(JsonReader reader, Type type) {
+        TypeAdapter<T> adapter = (TypeAdapter<T>) adapters.computeIfAbsent(type, t -> gson.getAdapter(TypeToken.get(t)));
+        reader.setLenient(true);
+        try {
+            return adapter.read(reader);
+        } catch (IllegalStateException | NumberFormatException | IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T fromString(String json, AnnotatedType type) {
@@ -189,6 +221,47 @@ public class GsonValueMapper implements ValueMapper, InputFieldBuilder {
         return inputFields;
     }
 
+    @Override
+    public boolean isDefaultDeserialized(Type type) {
+        return defaultDeserializedTypes.computeIfAbsent(type, t -> {
+            try {
+                //The annotated adapters are found by the default Gson instance as well
+                return !ClassUtils.getRawType(t).isAnnotationPresent(JsonAdapter.class)
+                        && gson.getAdapter(TypeToken.get(t)).getClass() == NO_CONVERTERS.getAdapter(TypeToken.get(t)).getClass();
+            } catch (RuntimeException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Mirrors {@link #fromFields(InputFieldBuilderParams)}, as Gson only ever writes fields. The mutators are not
+     * reported if any field has its own adapter, or is read under names other than the one its input field is given.
+     */
+    @Override
+    public Map<String, AnnotatedElement> getDefaultMutators(AnnotatedType type) {
+        Class<?> raw = ClassUtils.getRawType(type.getType());
+        if (raw.isInterface() || raw.isPrimitive() || !isDefaultDeserialized(type.getType())) {
+            return null;
+        }
+        Map<String, AnnotatedElement> mutators = new HashMap<>();
+        for (; raw != Object.class; raw = raw.getSuperclass()) {
+            for (Field field : raw.getDeclaredFields()) {
+                if (gson.excluder().excludeClass(field.getType(), false)
+                        || gson.excluder().excludeField(field, false)) {
+                    continue;
+                }
+                String fieldName = gson.fieldNamingStrategy().translateName(field);
+                SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                if (field.isAnnotationPresent(JsonAdapter.class) || mutators.put(fieldName, field) != null
+                        || (serializedName != null && (!serializedName.value().equals(fieldName) || serializedName.alternate().length > 0))) {
+                    return null;
+                }
+            }
+        }
+        return mutators;
+    }
+
     @Override
     public TypeDiscriminatorField getTypeDiscriminatorField(InputFieldBuilderParams params) {
         String[] subTypes = params.getConcreteSubTypes().stream()
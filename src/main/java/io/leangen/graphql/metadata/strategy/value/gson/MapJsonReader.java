@@ -0,0 +1,349 @@
+package io.leangen.graphql.metadata.strategy.value.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.leangen.geantyref.GenericTypeReflector;
+
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link JsonReader} streaming over the structure of maps, lists and simple values produced by graphql-java for
+ * input values, allowing Gson's {@link com.google.gson.TypeAdapter}s to read the input directly, without first
+ * converting it to a {@link JsonElement} tree. Behaves like Gson's own tree reader, except that map keys can not be
+ * promoted to values (as Gson only allows that for its internal readers), which Gson does when reading any {@code Map}.
+ * The types that could require that are detected upfront by {@link #isStreamable(Type)}, and are expected to be read
+ * via the tree conversion instead. Should a (custom) type adapter still attempt it, {@link UnsupportedStreamingException}
+ * is thrown.
+ */
+class MapJsonReader extends JsonReader {
+
+    private static final Gson NO_CONVERTERS = new Gson();
+    //Never actually read from, as all the reading methods are overridden
+    private static final Reader UNREADABLE_READER = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new UnsupportedStreamingException();
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private final List<Object> stack = new ArrayList<>();
+
+    MapJsonReader(Object input) {
+        super(UNREADABLE_READER);
+        stack.add(input);
+    }
+
+    static boolean isStreamable(Object input) {
+        return input instanceof Map || input instanceof Collection;
+    }
+
+    /**
+     * Checks whether the values of the given type can be read by this reader, i.e. whether no {@code Map}
+     * can be reached through the type, its elements or its (non-static, non-transient) fields.
+     * Errs on the side of caution, as the excluded fields are still inspected.
+     *
+     * @param type The type to check
+     *
+     * @return {@code true} if the values of the given type can be read by this reader, {@code false} otherwise
+     */
+    static boolean isStreamable(Type type) {
+        return !reachesMap(type, new HashSet<>());
+    }
+
+    private static boolean reachesMap(Type type, Set<Type> visited) {
+        if (type == null || !visited.add(type)) {
+            return false;
+        }
+        Class<?> raw = GenericTypeReflector.erase(type);
+        if (Map.class.isAssignableFrom(raw)) {
+            return true;
+        }
+        if (raw.isArray()) {
+            return reachesMap(GenericTypeReflector.getArrayComponentType(type), visited);
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return reachesMap(GenericTypeReflector.getTypeParameter(type, Collection.class.getTypeParameters()[0]), visited);
+        }
+        if (raw.isPrimitive() || raw.isEnum() || raw.getName().startsWith("java.")) {
+            return false;
+        }
+        for (Class<?> current = raw; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+                        && reachesMap(fieldType(field, type), visited)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Type fieldType(Field field, Type declaringType) {
+        Type fieldType = GenericTypeReflector.getExactFieldType(field, declaringType);
+        return fieldType != null ? fieldType : field.getGenericType();
+    }
+
+    @Override
+    public void beginArray() {
+        expect(JsonToken.BEGIN_ARRAY);
+        Object array = pop();
+        stack.add(new ArrayFrame(array instanceof JsonArray ? ((JsonArray) array).iterator() : ((Collection<?>) array).iterator()));
+    }
+
+    @Override
+    public void endArray() {
+        expect(JsonToken.END_ARRAY);
+        pop();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void beginObject() {
+        expect(JsonToken.BEGIN_OBJECT);
+        Object object = pop();
+        Iterator<? extends Map.Entry<?, ?>> entries = object instanceof JsonObject
+                ? ((JsonObject) object).entrySet().iterator()
+                : ((Map<?, ?>) object).entrySet().iterator();
+        stack.add(new ObjectFrame((Iterator<Map.Entry<?, ?>>) entries));
+    }
+
+    @Override
+    public void endObject() {
+        expect(JsonToken.END_OBJECT);
+        pop();
+    }
+
+    @Override
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public JsonToken peek() {
+        if (stack.isEmpty()) {
+            return JsonToken.END_DOCUMENT;
+        }
+        Object top = top();
+        if (top instanceof ObjectFrame) {
+            return ((ObjectFrame) top).entries.hasNext() ? JsonToken.NAME : JsonToken.END_OBJECT;
+        }
+        if (top instanceof ArrayFrame) {
+            ArrayFrame frame = (ArrayFrame) top;
+            if (!frame.elements.hasNext()) {
+                return JsonToken.END_ARRAY;
+            }
+            frame.index++;
+            stack.add(frame.elements.next());
+        }
+        Object value = normalize(pop());
+        stack.add(value);
+        if (value == null) return JsonToken.NULL;
+        if (value instanceof String) return JsonToken.STRING;
+        if (value instanceof Boolean) return JsonToken.BOOLEAN;
+        if (value instanceof Number) return JsonToken.NUMBER;
+        if (value instanceof Map || value instanceof JsonObject) return JsonToken.BEGIN_OBJECT;
+        return JsonToken.BEGIN_ARRAY;
+    }
+
+    @Override
+    public String nextName() {
+        expect(JsonToken.NAME);
+        ObjectFrame frame = (ObjectFrame) top();
+        Map.Entry<?, ?> entry = frame.entries.next();
+        frame.name = String.valueOf(entry.getKey());
+        stack.add(entry.getValue());
+        return frame.name;
+    }
+
+    @Override
+    public String nextString() {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw unexpected(JsonToken.STRING, token);
+        }
+        return pop().toString();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        expect(JsonToken.BOOLEAN);
+        return (Boolean) pop();
+    }
+
+    @Override
+    public void nextNull() {
+        expect(JsonToken.NULL);
+        pop();
+    }
+
+    @Override
+    public double nextDouble() {
+        Object value = nextNumeric();
+        double result;
+        try {
+            result = value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble((String) value);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException("Expected a double but was " + value + " at path " + getPath(), e);
+        }
+        if (!isLenient() && (Double.isNaN(result) || Double.isInfinite(result))) {
+            throw new NumberFormatException("JSON forbids NaN and infinities: " + result);
+        }
+        return result;
+    }
+
+    @Override
+    public long nextLong() {
+        Object value = nextNumeric();
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return Long.parseLong((String) value);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException("Expected a long but was " + value + " at path " + getPath(), e);
+        }
+    }
+
+    @Override
+    public int nextInt() {
+        Object value = nextNumeric();
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return Integer.parseInt((String) value);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException("Expected an int but was " + value + " at path " + getPath(), e);
+        }
+    }
+
+    @Override
+    public void skipValue() {
+        if (peek() == JsonToken.NAME) {
+            nextName();
+        } else if (!stack.isEmpty()) {
+            pop();
+        }
+    }
+
+    @Override
+    public void close() {
+        stack.clear();
+    }
+
+    @Override
+    public String getPath() {
+        StringBuilder path = new StringBuilder("$");
+        for (Object element : stack) {
+            if (element instanceof ObjectFrame && ((ObjectFrame) element).name != null) {
+                path.append('.').append(((ObjectFrame) element).name);
+            } else if (element instanceof ArrayFrame) {
+                path.append('[').append(Math.max(((ArrayFrame) element).index, 0)).append(']');
+            }
+        }
+        return path.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " at path " + getPath();
+    }
+
+    private Object nextNumeric() {
+        JsonToken token = peek();
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            throw unexpected(JsonToken.NUMBER, token);
+        }
+        return pop();
+    }
+
+    //Reduces the value to one of: null, String, Boolean, Number, Map, Collection, JsonObject or JsonArray
+    private static Object normalize(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Number
+                || value instanceof Map || value instanceof Collection || value instanceof JsonObject || value instanceof JsonArray) {
+            return value;
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        if (value instanceof JsonNull) {
+            return null;
+        }
+        if (value instanceof JsonPrimitive) {
+            JsonPrimitive primitive = (JsonPrimitive) value;
+            return primitive.isBoolean() ? primitive.getAsBoolean()
+                    : primitive.isNumber() ? primitive.getAsNumber() : primitive.getAsString();
+        }
+        //Anything else (e.g. values already coerced by custom scalars) is converted the same way the tree conversion would
+        JsonElement element = NO_CONVERTERS.toJsonTree(value);
+        return element.isJsonNull() || element.isJsonPrimitive() ? normalize(element) : element;
+    }
+
+    private void expect(JsonToken expected) {
+        JsonToken actual = peek();
+        if (actual != expected) {
+            throw unexpected(expected, actual);
+        }
+    }
+
+    private IllegalStateException unexpected(JsonToken expected, JsonToken actual) {
+        return new IllegalStateException("Expected " + expected + " but was " + actual + " at path " + getPath());
+    }
+
+    private Object top() {
+        return stack.get(stack.size() - 1);
+    }
+
+    private Object pop() {
+        return stack.remove(stack.size() - 1);
+    }
+
+    private static class ObjectFrame {
+        final Iterator<Map.Entry<?, ?>> entries;
+        String name;
+
+        ObjectFrame(Iterator<Map.Entry<?, ?>> entries) {
+            this.entries = entries;
+        }
+    }
+
+    private static class ArrayFrame {
+        final Iterator<?> elements;
+        int index = -1;
+
+        ArrayFrame(Iterator<?> elements) {
+            this.elements = elements;
+        }
+    }
+
+    static class UnsupportedStreamingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedStreamingException() {
+            super("Input can not be streamed", null, false, false);
+        }
+    }
+}
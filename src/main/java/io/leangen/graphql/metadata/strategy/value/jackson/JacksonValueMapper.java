@@ -1,24 +1,42 @@
 package io.leangen.graphql.metadata.strategy.value.jackson;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.CreatorProperty;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
+import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClassResolver;
 import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
 import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.introspect.AnnotatedParameter;
+import com.fasterxml.jackson.databind.introspect.AnnotatedWithParams;
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLInputField;
 import io.leangen.graphql.execution.GlobalEnvironment;
@@ -30,6 +48,7 @@ import io.leangen.graphql.metadata.exceptions.TypeMappingException;
 import io.leangen.graphql.metadata.strategy.InclusionStrategy;
 import io.leangen.graphql.metadata.strategy.InputFieldInclusionParams;
 import io.leangen.graphql.metadata.strategy.type.TypeTransformer;
+import io.leangen.graphql.metadata.strategy.value.DeserializationInspector;
 import io.leangen.graphql.metadata.strategy.value.InputFieldBuilder;
 import io.leangen.graphql.metadata.strategy.value.InputFieldBuilderParams;
 import io.leangen.graphql.metadata.strategy.value.InputFieldInfoGenerator;
@@ -51,30 +70,52 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
+public class JacksonValueMapper implements ValueMapper, InputFieldBuilder, DeserializationInspector {
 
     private final ObjectMapper objectMapper;
+    private final ObjectWriter converter;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Type, ObjectReader> convertingReaders = new ConcurrentHashMap<>();
+    private final Map<Type, Boolean> defaultDeserializedTypes = new ConcurrentHashMap<>();
     private final InputFieldInfoGenerator inputInfoGen = new InputFieldInfoGenerator();
 
     private boolean mapDeserializableType = false;
 
+    private static final ObjectMapper DEFAULTS = new ObjectMapper();
     private static final Logger log = LoggerFactory.getLogger(JacksonValueMapper.class);
 
     JacksonValueMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        this.converter = objectMapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T fromInput(Object graphQLInput, Type sourceType, AnnotatedType outputType) {
+        if (graphQLInput == null) {
+            return null;
+        }
+        if (isAssignable(graphQLInput, outputType.getType())) {
+            return (T) graphQLInput;
+        }
+        //Equivalent to ObjectMapper#convertValue, but reusing the reader (and the resolved type) for each target type
         try {
-            return objectMapper.convertValue(graphQLInput, objectMapper.getTypeFactory().constructType(outputType.getType()));
-        } catch (IllegalArgumentException e) {
+            TokenBuffer buffer = new TokenBuffer(objectMapper, false)
+                    .forceUseOfBigDecimal(objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+            converter.writeValue(buffer, graphQLInput);
+            return getConvertingReader(outputType.getType()).readValue(buffer.asParser());
+        } catch (IOException e) {
             throw new InputParsingException(graphQLInput, outputType.getType(), e);
         }
     }
@@ -89,12 +130,33 @@ public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
             if (Scalars.isScalar(type.getType())) {
                 return (T) Scalars.toGraphQLScalarType(type.getType()).getCoercing().parseValue(json);
             }
-            return objectMapper.readValue(json, objectMapper.getTypeFactory().constructType(type.getType()));
+            return getReader(type.getType()).readValue(json);
         } catch (IOException e) {
             throw new InputParsingException(json, type.getType(), e);
         }
     }
 
+    private ObjectReader getReader(Type type) {
+        ObjectReader reader = readers.get(type);
+        return reader != null ? reader : readers.computeIfAbsent(type, t -> objectMapper.readerFor(objectMapper.constructType(t)));
+    }
+
+    //Like ObjectMapper#convertValue, conversions never unwrap the root value
+    private ObjectReader getConvertingReader(Type type) {
+        ObjectReader reader = convertingReaders.get(type);
+        return reader != null ? reader : convertingReaders.computeIfAbsent(type,
+                t -> getReader(t).without(DeserializationFeature.UNWRAP_ROOT_VALUE));
+    }
+
+    //Values already of the target type need no conversion, unless they are containers or plain objects, whose contents might still need converting
+    private static boolean isAssignable(Object value, Type targetType) {
+        if (!(targetType instanceof Class) || targetType == Object.class) {
+            return false;
+        }
+        Class<?> target = (Class<?>) targetType;
+        return target.isInstance(value) && !Map.class.isAssignableFrom(target) && !Collection.class.isAssignableFrom(target);
+    }
+
     @Override
     public String toString(Object output, AnnotatedType type) {
         if (output != null && Scalars.isScalar(type.getType())) {
@@ -241,6 +303,91 @@ public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
                 .anyMatch(p -> p.getName().equals(prop.getName()) && p.couldDeserialize());
     }
 
+    @Override
+    public boolean isDefaultDeserialized(Type type) {
+        Boolean isDefault = defaultDeserializedTypes.get(type);
+        return isDefault != null ? isDefault : defaultDeserializedTypes.computeIfAbsent(type, t -> {
+            try {
+                JavaType javaType = objectMapper.constructType(t);
+                DeserializationContext context = deserializationContext(objectMapper);
+                return context.getFactory().findTypeDeserializer(context.getConfig(), javaType) == null
+                        && context.findRootValueDeserializer(javaType).getClass()
+                        == deserializationContext(DEFAULTS).findRootValueDeserializer(DEFAULTS.constructType(t)).getClass();
+            } catch (JsonMappingException | RuntimeException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * The mutators are only reported for the types deserialized by a plain {@link BeanDeserializer} with no
+     * custom value instantiator, delegating creator, object identity or injected values, and whose properties
+     * are all written through a setter, a field or a constructor parameter, with no custom format, deserializer,
+     * converter, type information or null handling.
+     */
+    @Override
+    public Map<String, AnnotatedElement> getDefaultMutators(AnnotatedType type) {
+        DeserializationConfig config = objectMapper.getDeserializationConfig();
+        if (!isDefaultDeserialized(type.getType()) || config.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+                || config.isEnabled(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES)
+                || config.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)) {
+            return null;
+        }
+        try {
+            JavaType javaType = objectMapper.constructType(type.getType());
+            DeserializationContext context = deserializationContext(objectMapper);
+            JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(javaType);
+            Map<Object, AnnotatedMember> injectables = config.introspect(javaType).findInjectables();
+            if (deserializer.getClass() != BeanDeserializer.class || (injectables != null && !injectables.isEmpty())) {
+                return null;
+            }
+            BeanDeserializer beanDeserializer = (BeanDeserializer) deserializer;
+            ValueInstantiator instantiator = beanDeserializer.getValueInstantiator();
+            AnnotatedWithParams creator = instantiator.canCreateFromObjectWith() ? instantiator.getWithArgsCreator() : instantiator.getDefaultCreator();
+            if (beanDeserializer.getObjectIdReader() != null || instantiator.getClass() != StdValueInstantiator.class
+                    || instantiator.canCreateUsingDelegate() || instantiator.canCreateUsingArrayDelegate()
+                    || !(creator instanceof AnnotatedConstructor)) {
+                return null;
+            }
+            Map<String, AnnotatedElement> mutators = new HashMap<>();
+            for (Iterator<SettableBeanProperty> properties = beanDeserializer.properties(); properties.hasNext(); ) {
+                SettableBeanProperty property = properties.next();
+                AnnotatedElement mutator = getDefaultMutator(property, context);
+                if (mutator == null) {
+                    return null;
+                }
+                mutators.put(property.getName(), mutator);
+            }
+            return mutators;
+        } catch (JsonMappingException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private AnnotatedElement getDefaultMutator(SettableBeanProperty property, DeserializationContext context) throws JsonMappingException {
+        AnnotatedMember member = property.getMember();
+        AnnotationIntrospector introspector = context.getConfig().getAnnotationIntrospector();
+        if (member == null || property.getValueTypeDeserializer() != null
+                || property.getMetadata().getValueNulls() != null || property.getMetadata().getContentNulls() != null
+                || !JsonFormat.Value.empty().equals(property.findPropertyFormat(context.getConfig(), property.getType().getRawClass()))
+                || introspector.findDeserializer(member) != null || introspector.findContentDeserializer(member) != null
+                || introspector.findKeyDeserializer(member) != null || introspector.findDeserializationConverter(member) != null
+                || introspector.findDeserializationContentConverter(member) != null
+                || (property.hasValueDeserializer() && property.getValueDeserializer().getClass()
+                        != context.findRootValueDeserializer(property.getType()).getClass())) {
+            return null;
+        }
+        if (property instanceof CreatorProperty) {
+            return ((CreatorProperty) property).getInjectableValueId() == null ? ElementFactory.getParameter((AnnotatedParameter) member) : null;
+        }
+        return property instanceof MethodProperty || property instanceof FieldProperty ? member.getAnnotated() : null;
+    }
+
+    private static DeserializationContext deserializationContext(ObjectMapper objectMapper) {
+        return ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createDummyInstance(objectMapper.getDeserializationConfig());
+    }
+
     public JacksonValueMapper withDeserializableTypeAsPrimary() {
         this.mapDeserializableType = true;
         return this;
@@ -0,0 +1,44 @@
+package io.leangen.graphql.module.common;
+
+import io.leangen.graphql.generator.mapping.ArgumentInjector;
+import io.leangen.graphql.generator.mapping.InputConverter;
+import io.leangen.graphql.generator.mapping.OutputConverter;
+import io.leangen.graphql.generator.mapping.TypeMapper;
+import io.leangen.graphql.generator.mapping.common.IteratorToCollectionTypeAdapter;
+import io.leangen.graphql.generator.mapping.common.LazyListDeserializer;
+import io.leangen.graphql.module.SimpleModule;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Opts into the lazy consumption of list arguments: maps {@link java.util.Iterator}s as lists
+ * (via {@link IteratorToCollectionTypeAdapter}) and injects {@link java.util.stream.Stream} and
+ * {@link java.util.Iterator} arguments lazily (via {@link LazyListDeserializer}).
+ * <p>Not registered by default, as it changes the schema for the existing {@link java.util.Iterator} members.
+ * To opt in, register it via {@link io.leangen.graphql.GraphQLSchemaGenerator#withModules(io.leangen.graphql.module.Module...)}.</p>
+ */
+public class LazyListModule implements SimpleModule {
+
+    private static final IteratorToCollectionTypeAdapter<?> iteratorAdapter = new IteratorToCollectionTypeAdapter<>();
+
+    @Override
+    public List<TypeMapper> getTypeMappers() {
+        return Collections.singletonList(iteratorAdapter);
+    }
+
+    @Override
+    public List<OutputConverter<?, ?>> getOutputConverters() {
+        return Collections.singletonList(iteratorAdapter);
+    }
+
+    @Override
+    public List<InputConverter<?, ?>> getInputConverters() {
+        return Collections.singletonList(iteratorAdapter);
+    }
+
+    @Override
+    public List<ArgumentInjector> getArgumentInjectors() {
+        return Collections.singletonList(new LazyListDeserializer());
+    }
+}
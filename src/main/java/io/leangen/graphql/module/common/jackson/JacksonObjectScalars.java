@@ -21,6 +21,9 @@ import graphql.schema.CoercingParseLiteralException;
 import graphql.schema.GraphQLScalarType;
 
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +35,7 @@ import static io.leangen.graphql.util.Scalars.literalOrException;
 public class JacksonObjectScalars {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
 
     public static final GraphQLScalarType JsonObjectNode = GraphQLScalarType.newScalar()
             .name("JsonObject")
@@ -45,7 +49,7 @@ public class JacksonObjectScalars {
 
                 @Override
                 public Object parseValue(Object input) {
-                    return input;
+                    return input instanceof Map ? toJsonNode(input) : input;
                 }
 
                 @Override
@@ -72,7 +76,7 @@ public class JacksonObjectScalars {
 
                 @Override
                 public Object parseValue(Object input) {
-                    return input;
+                    return toJsonNode(input);
                 }
 
                 @Override
@@ -88,34 +92,34 @@ public class JacksonObjectScalars {
 
     private static JsonNode parseJsonValue(Value value, Map<String, Object> variables) {
         if (value instanceof BooleanValue) {
-            return JsonNodeFactory.instance.booleanNode(((BooleanValue) value).isValue());
+            return NODE_FACTORY.booleanNode(((BooleanValue) value).isValue());
         }
         if (value instanceof EnumValue) {
-            return JsonNodeFactory.instance.textNode(((EnumValue) value).getName());
+            return NODE_FACTORY.textNode(((EnumValue) value).getName());
         }
         if (value instanceof FloatValue) {
-            return JsonNodeFactory.instance.numberNode(((FloatValue) value).getValue());
+            return NODE_FACTORY.numberNode(((FloatValue) value).getValue());
         }
         if (value instanceof IntValue) {
-            return JsonNodeFactory.instance.numberNode(((IntValue) value).getValue());
+            return NODE_FACTORY.numberNode(((IntValue) value).getValue());
         }
         if (value instanceof NullValue) {
-            return JsonNodeFactory.instance.nullNode();
+            return NODE_FACTORY.nullNode();
         }
         if (value instanceof StringValue) {
-            return JsonNodeFactory.instance.textNode(((StringValue) value).getValue());
+            return NODE_FACTORY.textNode(((StringValue) value).getValue());
         }
         if (value instanceof ArrayValue) {
             List<Value> values = ((ArrayValue) value).getValues();
-            ArrayNode jsonArray = JsonNodeFactory.instance.arrayNode(values.size());
+            ArrayNode jsonArray = NODE_FACTORY.arrayNode(values.size());
             values.forEach(v -> jsonArray.add(parseJsonValue(v, variables)));
             return jsonArray;
         }
         if (value instanceof VariableReference) {
-            return OBJECT_MAPPER.convertValue(variables.get(((VariableReference) value).getName()), JsonNode.class);
+            return toJsonNode(variables.get(((VariableReference) value).getName()));
         }
         if (value instanceof ObjectValue) {
-            final ObjectNode result = JsonNodeFactory.instance.objectNode();
+            final ObjectNode result = NODE_FACTORY.objectNode();
             ((ObjectValue) value).getObjectFields().forEach(objectField ->
                     result.set(objectField.getName(), parseJsonValue(objectField.getValue(), variables)));
             return result;
@@ -124,6 +128,60 @@ public class JacksonObjectScalars {
         throw new CoercingParseLiteralException("Unknown scalar AST type: " + value.getClass().getName());
     }
 
+    /**
+     * Builds a {@link JsonNode} tree directly from the structure of maps, lists and simple values graphql-java
+     * produces for variables, instead of serializing and deserializing it via an {@link ObjectMapper}.
+     * Existing nodes are reused as they are.
+     *
+     * @param value The value to convert
+     *
+     * @return The equivalent JSON tree
+     */
+    static JsonNode toJsonNode(Object value) {
+        if (value == null) {
+            return NODE_FACTORY.nullNode();
+        }
+        if (value instanceof JsonNode) {
+            return (JsonNode) value;
+        }
+        if (value instanceof Map) {
+            ObjectNode object = NODE_FACTORY.objectNode();
+            ((Map<?, ?>) value).forEach((key, val) -> object.set(String.valueOf(key), toJsonNode(val)));
+            return object;
+        }
+        if (value instanceof Collection) {
+            Collection<?> values = (Collection<?>) value;
+            ArrayNode array = NODE_FACTORY.arrayNode(values.size());
+            values.forEach(val -> array.add(toJsonNode(val)));
+            return array;
+        }
+        if (value instanceof String) {
+            return NODE_FACTORY.textNode((String) value);
+        }
+        if (value instanceof Boolean) {
+            return NODE_FACTORY.booleanNode((Boolean) value);
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return NODE_FACTORY.numberNode(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            return NODE_FACTORY.numberNode((Long) value);
+        }
+        if (value instanceof Double) {
+            return NODE_FACTORY.numberNode((Double) value);
+        }
+        if (value instanceof Float) {
+            return NODE_FACTORY.numberNode((Float) value);
+        }
+        if (value instanceof BigInteger) {
+            return NODE_FACTORY.numberNode((BigInteger) value);
+        }
+        if (value instanceof BigDecimal) {
+            return NODE_FACTORY.numberNode((BigDecimal) value);
+        }
+        return OBJECT_MAPPER.valueToTree(value);
+    }
+
     private static final Map<Type, GraphQLScalarType> SCALAR_MAPPING = getScalarMapping();
 
     public static boolean isScalar(Type javaType) {
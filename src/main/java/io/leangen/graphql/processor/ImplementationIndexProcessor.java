@@ -0,0 +1,134 @@
+package io.leangen.graphql.processor;
+
+import io.leangen.graphql.util.ClassFinder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor producing an index of all the compiled classes, keyed by each of their (transitive)
+ * supertypes, into {@value ClassFinder#INDEX_LOCATION}. When enabled via
+ * {@link io.leangen.graphql.GraphQLSchemaGenerator#withImplementationIndex(boolean)}, {@link ClassFinder} consults
+ * the index before (or instead of) scanning the classpath for implementations.
+ * <p>Supertypes from the {@code java} and {@code javax} packages are not indexed, so their implementations are
+ * always discovered by scanning. As the index only covers the classes compiled together with it, it should be
+ * generated for every module contributing implementations of the indexed types.</p>
+ * <p>On incremental builds, where only some classes of a module are recompiled, the index left behind in the output
+ * directory is merged with the freshly compiled classes: the entries of the recompiled classes are replaced, and those
+ * of the classes that no longer exist are dropped. Build tools that compile into a fresh output directory while keeping
+ * the rest of the classes elsewhere can not be accounted for, so a full build is needed to get a complete index there.</p>
+ * <p>The processor is not registered automatically. To enable it, pass
+ * {@code -processor io.leangen.graphql.processor.ImplementationIndexProcessor} to {@code javac}
+ * (or list it under {@code annotationProcessors} of the Maven compiler plugin).</p>
+ */
+@SupportedAnnotationTypes("*")
+public class ImplementationIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+    private final Set<String> compiled = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+        } else {
+            roundEnv.getRootElements().forEach(this::register);
+        }
+        return false;
+    }
+
+    private void register(Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return;
+        }
+        String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+        compiled.add(name);
+        registerSuperTypes(type.asType(), name);
+        type.getEnclosedElements().forEach(this::register);
+    }
+
+    private void registerSuperTypes(TypeMirror type, String implementation) {
+        for (TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (superType.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+            String superName = processingEnv.getElementUtils().getBinaryName(superElement).toString();
+            if (!superName.startsWith("java.") && !superName.startsWith("javax.")) {
+                index.computeIfAbsent(superName, k -> new TreeSet<>()).add(implementation);
+            }
+            registerSuperTypes(superType, implementation);
+        }
+    }
+
+    private void write() {
+        merge();
+        if (index.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        index.forEach((superType, implementations) -> properties.setProperty(superType, String.join(",", implementations)));
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ClassFinder.INDEX_LOCATION);
+            try (OutputStream out = file.openOutputStream()) {
+                properties.store(out, "Implementations, keyed by the supertype");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Implementation index could not be written: " + e.getMessage());
+        }
+    }
+
+    //Carries over the entries of the classes not recompiled this time, so that incremental builds don't truncate the index
+    private void merge() {
+        Properties existing = new Properties();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", ClassFinder.INDEX_LOCATION);
+            try (InputStream in = file.openInputStream()) {
+                existing.load(in);
+            }
+        } catch (IOException e) {
+            return; //No index from a previous build
+        }
+        existing.stringPropertyNames().forEach(superType -> {
+            for (String implementation : existing.getProperty(superType).split(",")) {
+                if (!implementation.isEmpty() && !compiled.contains(implementation) && exists(implementation)) {
+                    index.computeIfAbsent(superType, k -> new TreeSet<>()).add(implementation);
+                }
+            }
+        });
+    }
+
+    private boolean exists(String binaryName) {
+        //Binary names of nested classes use '$', while the lookup expects the canonical name
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+}
@@ -0,0 +1,183 @@
+package io.leangen.graphql.processor;
+
+import io.leangen.graphql.metadata.execution.OperationInvokers;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor generating direct (non-reflective) invokers for the methods annotated with
+ * {@link io.leangen.graphql.annotations.GraphQLQuery}, {@link io.leangen.graphql.annotations.GraphQLMutation} or
+ * {@link io.leangen.graphql.annotations.GraphQLSubscription}. For each class declaring such methods, an
+ * {@link OperationInvokers} implementation is generated into the same package, to be picked up at runtime by
+ * {@link io.leangen.graphql.metadata.strategy.query.GeneratedMethodInvokerFactory}.
+ * <p>Private methods, and methods of private, local or anonymous classes, are skipped, as they can not be invoked
+ * directly. Those keep being invoked reflectively.</p>
+ * <p>The processor is not registered automatically. To enable it, pass
+ * {@code -processor io.leangen.graphql.processor.OperationInvokerProcessor} to {@code javac}
+ * (or list it under {@code annotationProcessors} of the Maven compiler plugin).</p>
+ */
+@SupportedAnnotationTypes({
+        "io.leangen.graphql.annotations.GraphQLQuery",
+        "io.leangen.graphql.annotations.GraphQLMutation",
+        "io.leangen.graphql.annotations.GraphQLSubscription"
+})
+public class OperationInvokerProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, Set<ExecutableElement>> operations = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.METHOD && isInvokable(element)) {
+                    operations.computeIfAbsent((TypeElement) element.getEnclosingElement(), type -> new LinkedHashSet<>())
+                            .add((ExecutableElement) element);
+                }
+            }
+        }
+        operations.forEach(this::generate);
+        return false; //Other processors may be interested in the same annotations
+    }
+
+    private boolean isInvokable(Element method) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        for (Element enclosing = method.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            NestingKind nesting = ((TypeElement) enclosing).getNestingKind();
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE) || nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, Set<ExecutableElement> methods) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + OperationInvokers.CLASS_NAME_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by ").append(getClass().getName()).append(". Do not edit.\n */\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(OperationInvokers.class.getName()).append(" {\n\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("    public ").append(OperationInvokers.Invoker.class.getCanonicalName()).append(" find(String signature) {\n")
+                .append("        switch (signature) {\n");
+        for (ExecutableElement method : methods) {
+            source.append("            case \"").append(signature(method)).append("\":\n")
+                    .append("                return (target, args) -> ");
+            String invocation = invocation(type, method);
+            if (method.getReturnType().getKind() == TypeKind.VOID) {
+                source.append("{\n                    ").append(invocation).append(";\n")
+                        .append("                    return null;\n")
+                        .append("                };\n");
+            } else {
+                source.append(invocation).append(";\n");
+            }
+        }
+        source.append("            default:\n")
+                .append("                return null;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Operation invokers could not be generated: " + e.getMessage(), type);
+        }
+    }
+
+    private String signature(ExecutableElement method) {
+        return method.getSimpleName() + method.getParameters().stream()
+                .map(parameter -> runtimeName(parameter.asType()))
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private String invocation(TypeElement type, ExecutableElement method) {
+        String target = method.getModifiers().contains(Modifier.STATIC)
+                ? type.getQualifiedName().toString()
+                : "((" + type.getQualifiedName() + ") target)";
+        List<? extends VariableElement> parameters = method.getParameters();
+        StringBuilder arguments = new StringBuilder();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                arguments.append(", ");
+            }
+            TypeMirror parameterType = parameters.get(i).asType();
+            String parameterTypeName = sourceName(parameterType);
+            arguments.append("(").append(parameterTypeName).append(") ");
+            if (parameterTypeName.equals(Object.class.getName())) {
+                arguments.append("args[").append(i).append("]");
+            } else {
+                //Checked explicitly, as a failed cast or unboxing would look as if thrown by the method itself
+                arguments.append(OperationInvokers.class.getName())
+                        .append(parameterType.getKind().isPrimitive() ? ".primitive(args[" : ".argument(args[")
+                        .append(i).append("], ").append(i).append(", ").append(parameterTypeName).append(".class)");
+            }
+        }
+        return target + "." + method.getSimpleName() + "(" + arguments + ")";
+    }
+
+    //The erased type, as it can be written in source code
+    private String sourceName(TypeMirror type) {
+        return name(type, element -> element.getQualifiedName().toString());
+    }
+
+    //The erased type, as returned by Class#getTypeName at runtime
+    private String runtimeName(TypeMirror type) {
+        return name(type, element -> processingEnv.getElementUtils().getBinaryName(element).toString());
+    }
+
+    private String name(TypeMirror type, Function<TypeElement, String> naming) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return name(((ArrayType) type).getComponentType(), naming) + "[]";
+            case DECLARED:
+                return naming.apply((TypeElement) ((DeclaredType) type).asElement());
+            case TYPEVAR:
+            case INTERSECTION:
+                return name(processingEnv.getTypeUtils().erasure(type), naming);
+            default:
+                return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
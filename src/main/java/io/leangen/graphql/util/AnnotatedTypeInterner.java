@@ -0,0 +1,94 @@
+package io.leangen.graphql.util;
+
+import io.leangen.geantyref.GenericTypeReflector;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AnnotatedType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizes {@link AnnotatedType}s, so that all the structurally equal types (including their annotations)
+ * kept in the metadata are represented by a single instance. This reduces the memory retained by the metadata
+ * of large schemas, where the same types are otherwise represented by a separate instance per method, field or
+ * parameter, and makes the interned types cheap to compare by identity.
+ * <p>The canonical instances are only weakly referenced, so interning never prevents the types
+ * (nor their classes and class loaders) from being garbage collected.</p>
+ */
+public final class AnnotatedTypeInterner {
+
+    private static final Map<Entry, Entry> canonical = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<AnnotatedType> collected = new ReferenceQueue<>();
+
+    private AnnotatedTypeInterner() {
+    }
+
+    /**
+     * @param type The type to intern
+     *
+     * @return The canonical instance structurally equal to the given type (possibly the given instance itself),
+     * or {@code null} if the given type is {@code null}
+     */
+    public static AnnotatedType intern(AnnotatedType type) {
+        if (type == null) {
+            return null;
+        }
+        expunge();
+        Entry entry = new Entry(type, collected);
+        while (true) {
+            Entry existing = canonical.putIfAbsent(entry, entry);
+            if (existing == null) {
+                return type;
+            }
+            AnnotatedType found = existing.get();
+            if (found != null) {
+                return found;
+            }
+            //Collected in the meantime
+            canonical.remove(existing, existing);
+        }
+    }
+
+    /**
+     * @return The number of canonical instances currently retained
+     */
+    public static int size() {
+        expunge();
+        return canonical.size();
+    }
+
+    private static void expunge() {
+        Reference<? extends AnnotatedType> reference;
+        while ((reference = collected.poll()) != null) {
+            canonical.remove(reference, reference);
+        }
+    }
+
+    private static class Entry extends WeakReference<AnnotatedType> {
+
+        private final int hash;
+
+        Entry(AnnotatedType type, ReferenceQueue<AnnotatedType> queue) {
+            super(type, queue);
+            this.hash = GenericTypeReflector.hashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Entry)) return false;
+            Entry that = (Entry) other;
+            if (hash != that.hash) return false;
+            AnnotatedType type = get();
+            AnnotatedType thatType = that.get();
+            return type != null && thatType != null && (type == thatType || GenericTypeReflector.equals(type, thatType));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
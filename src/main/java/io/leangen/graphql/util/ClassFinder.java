@@ -2,17 +2,30 @@ package io.leangen.graphql.util;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassInfoList;
 import io.github.classgraph.ScanResult;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLIgnore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
 import java.lang.reflect.AnnotatedType;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -22,7 +35,16 @@ import java.util.stream.Stream;
  * Enables discovery of classes that extend or implement a given class.
  * Instances maintain a cache of search results and should be reused for better performance.
  * The cache is thread-safe but allows for multiple search requests to go through if they arrive at exactly the same time.
- * This class operates in best-effort manner and only logs (never rethrows) any exceptions that occur during the search or class loading.
+ * A scan of some packages is reused for searches within their subpackages, and replaces the scans of any subpackages
+ * made before it.
+ * <p>By default, only the class hierarchy and class-level annotations are collected, so the filters can not inspect
+ * fields or methods (nor their annotations) unless the instance is created with {@code memberInfo} enabled.
+ * A filter failing because of that (or for any other reason) fails the search with an {@link IllegalStateException}.
+ * Other than that, this class operates in best-effort manner and only logs (never rethrows) any exceptions that
+ * occur during the search or class loading.</p>
+ * <p>To avoid scanning the classpath on startup altogether, an index produced at build time by {@link io.leangen.graphql.processor.ImplementationIndexProcessor}
+ * (found at {@value #INDEX_LOCATION}) can be consulted before, or instead of, scanning the classpath.
+ * See {@link IndexUsage}.</p>
  */
 public class ClassFinder {
 
@@ -35,9 +57,53 @@ public class ClassFinder {
 
     public final static Predicate<ClassInfo> ALL = info -> true;
 
+    public static final String INDEX_LOCATION = "META-INF/graphql-spqr/implementations.properties";
+
     public static final Logger log = LoggerFactory.getLogger(ClassFinder.class);
 
     private final Map<String, ScanResult> cache = new ConcurrentHashMap<>();
+    private final Map<String, List<ClassInfo>> packageScans = new ConcurrentHashMap<>();
+    private final Map<ClassLoader, Map<String, List<String>>> indexes = new ConcurrentHashMap<>();
+    private final IndexUsage indexUsage;
+    private final boolean shareIndex;
+    private final boolean memberInfo;
+
+    private static final Map<ClassLoader, Map<String, Map<String, List<String>>>> SHARED_INDEXES = new WeakHashMap<>();
+
+    public ClassFinder() {
+        this(IndexUsage.IGNORED);
+    }
+
+    /**
+     * @param indexUsage Whether and how to use the build-time implementation index
+     */
+    public ClassFinder(IndexUsage indexUsage) {
+        this(indexUsage, false);
+    }
+
+    /**
+     * @param indexUsage Whether and how to use the build-time implementation index
+     * @param shareIndex Whether to keep a light-weight index (class names and their supertypes only) of the scanned
+     *                   packages, shared by all instances in the JVM, instead of retaining the full scan results
+     *                   until {@link #close()}. See {@link #clearSharedIndex()}.
+     */
+    public ClassFinder(IndexUsage indexUsage, boolean shareIndex) {
+        this(indexUsage, shareIndex, false);
+    }
+
+    /**
+     * @param indexUsage Whether and how to use the build-time implementation index
+     * @param shareIndex Whether to keep a light-weight index (class names and their supertypes only) of the scanned
+     *                   packages, shared by all instances in the JVM, instead of retaining the full scan results
+     *                   until {@link #close()}. See {@link #clearSharedIndex()}.
+     * @param memberInfo Whether to also collect the fields and methods (including non-public ones) and their annotations,
+     *                   for the filters that inspect them. Takes up considerably more time and memory.
+     */
+    public ClassFinder(IndexUsage indexUsage, boolean shareIndex, boolean memberInfo) {
+        this.indexUsage = Objects.requireNonNull(indexUsage);
+        this.shareIndex = shareIndex;
+        this.memberInfo = memberInfo;
+    }
 
     /**
      * Searches for the implementations/subtypes of the given {@link AnnotatedType}. Only the matching classes are loaded.
@@ -62,26 +128,220 @@ public class ClassFinder {
      * @param packages The packages to limit the search to
      *
      * @return A collection of classes discovered that implementation/extend {@code superType}
+     *
+     * @throws IllegalStateException If the filter fails, e.g. by inspecting the members without {@code memberInfo} enabled
      */
     public List<Class<?>> findImplementations(Class<?> superType, Predicate<ClassInfo> filter, String... packages) {
         String[] scanPackages = Utils.emptyIfNull(packages);
-        String cacheKey = Arrays.stream(scanPackages).sorted().collect(Collectors.joining());
-        ScanResult scanResults = cache.computeIfAbsent(cacheKey, k -> new ClassGraph()
-                .acceptPackages(packages)
-                .enableAllInfo()
-                .initializeLoadedClasses()
-                .scan());
+        String cacheKey = Arrays.stream(scanPackages).sorted().collect(Collectors.joining(","));
+        List<ClassInfo> candidates;
         try {
-            return scanResults.getAllClasses().stream()
-                    .filter(impl -> superType.isInterface() ? impl.implementsInterface(superType.getName()) : impl.extendsSuperclass(superType.getName()))
-                    .filter(filter == null ? info -> true : filter)
-                    .flatMap(info -> loadClass(info, superType))
-                    .collect(Collectors.toList());
+            candidates = findCandidates(superType, scanPackages, cacheKey);
         } catch (Exception e) {
             log.error("Failed to auto discover the subtypes of " + superType.getName()
                     + ". Error encountered while scanning the classpath/modulepath.", e);
             return Collections.emptyList();
         }
+        return candidates.stream()
+                .filter(info -> accepts(filter, info, superType))
+                .flatMap(info -> loadClass(info, superType))
+                .collect(Collectors.toList());
+    }
+
+    //A failing filter would otherwise silently drop the types, so it fails the search instead
+    private boolean accepts(Predicate<ClassInfo> filter, ClassInfo info, Class<?> superType) {
+        try {
+            return filter == null || filter.test(info);
+        } catch (Exception e) {
+            throw new IllegalStateException("Filter failed on " + info.getName() + " while discovering the subtypes of "
+                    + superType.getName() + (memberInfo ? "" : ". Note that the information on fields and methods is only"
+                    + " collected if enabled, e.g. via GraphQLSchemaGenerator#withClasspathScanMemberInfo()"), e);
+        }
+    }
+
+    private List<ClassInfo> findCandidates(Class<?> superType, String[] packages, String cacheKey) {
+        List<String> known = indexUsage != IndexUsage.IGNORED ? indexed(superType, packages) : null;
+        boolean fromIndex = known != null;
+        if (known == null && shareIndex && indexUsage != IndexUsage.EXCLUSIVE) {
+            known = sharedIndex(packages, cacheKey).getOrDefault(superType.getName(), Collections.emptyList());
+        }
+        if (known != null) {
+            if (known.isEmpty()) {
+                return Collections.emptyList();
+            }
+            //Only the classes recorded in an index need to be inspected
+            Set<String> names = new HashSet<>(known);
+            String[] classNames = known.toArray(new String[0]);
+            ScanResult scanResults = cache.computeIfAbsent(cacheKey + "#" + superType.getName(),
+                    k -> scan(new ClassGraph().acceptClasses(classNames), "classes " + names, memberInfo));
+            List<ClassInfo> found = scanResults.getAllClasses().stream()
+                    .filter(info -> names.contains(info.getName()))
+                    .collect(Collectors.toList());
+            if (fromIndex && found.size() < names.size()) {
+                found.forEach(info -> names.remove(info.getName()));
+                log.warn("Implementation index lists " + names + " as implementations of " + superType.getName()
+                        + ", but these are not on the classpath. The index looks out of date, and may be missing"
+                        + " other implementations too, e.g. after an incremental build. Rebuild the project to refresh it.");
+            }
+            return found;
+        }
+        if (indexUsage == IndexUsage.EXCLUSIVE) {
+            log.debug("No indexed implementations of " + superType.getName() + " found and classpath scanning is disabled");
+            return Collections.emptyList();
+        }
+        return cachedScan(packages, cacheKey).stream()
+                .filter(info -> isInPackages(info.getName(), packages))
+                .filter(impl -> superType.isInterface() ? impl.implementsInterface(superType.getName()) : impl.extendsSuperclass(superType.getName()))
+                .collect(Collectors.toList());
+    }
+
+    //Reuses any existing scan of the same or of enclosing packages
+    private List<ClassInfo> cachedScan(String[] packages, String cacheKey) {
+        List<ClassInfo> existing = packageScans.get(cacheKey);
+        if (existing != null) {
+            return existing;
+        }
+        Optional<List<ClassInfo>> enclosing = packageScans.entrySet().stream()
+                .filter(scan -> covers(packagesOf(scan.getKey()), packages))
+                .map(Map.Entry::getValue)
+                .findFirst();
+        if (enclosing.isPresent()) {
+            return enclosing.get();
+        }
+        //The packages are always scanned in full, as ClassGraph can not follow the inheritance through the classes
+        //of rejected packages. The new scan then replaces those of the enclosed packages (the results are only closed on close())
+        List<ClassInfo> scanned = packageScans.computeIfAbsent(cacheKey, k -> cache.computeIfAbsent(cacheKey,
+                key -> scan(new ClassGraph().acceptPackages(packages), describe(packages), memberInfo)).getAllClasses());
+        packageScans.keySet().removeIf(key -> !key.equals(cacheKey) && covers(packages, packagesOf(key)));
+        return scanned;
+    }
+
+    private Map<String, List<String>> sharedIndex(String[] packages, String cacheKey) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader() != null
+                ? Thread.currentThread().getContextClassLoader()
+                : ClassFinder.class.getClassLoader();
+        Map<String, Map<String, List<String>>> indexes;
+        synchronized (SHARED_INDEXES) {
+            indexes = SHARED_INDEXES.computeIfAbsent(loader, k -> new ConcurrentHashMap<>());
+        }
+        Map<String, List<String>> existing = indexes.get(cacheKey);
+        if (existing != null) {
+            return existing;
+        }
+        return indexes.entrySet().stream()
+                .filter(index -> covers(packagesOf(index.getKey()), packages))
+                .findFirst()
+                .map(index -> restrict(index.getValue(), packages))
+                .orElseGet(() -> indexes.computeIfAbsent(cacheKey, k -> buildSharedIndex(packages)));
+    }
+
+    //Keeps only the class names and their supertypes, and releases the scan right away
+    private static Map<String, List<String>> buildSharedIndex(String[] packages) {
+        long start = System.nanoTime();
+        Map<String, List<String>> index = new HashMap<>();
+        int classCount;
+        try (ScanResult scanResult = scan(new ClassGraph().acceptPackages(packages), describe(packages), false)) {
+            ClassInfoList classes = scanResult.getAllClasses();
+            classCount = classes.size();
+            for (ClassInfo info : classes) {
+                Stream.concat(info.getSuperclasses().stream(), info.getInterfaces().stream())
+                        .forEach(superType -> index.computeIfAbsent(superType.getName(), k -> new ArrayList<>()).add(info.getName()));
+            }
+        }
+        if (log.isDebugEnabled()) {
+            long chars = index.entrySet().stream()
+                    .mapToLong(entry -> entry.getKey().length() + entry.getValue().stream().mapToLong(String::length).sum())
+                    .sum();
+            log.debug(String.format("Indexed %d classes under %d supertypes from %s in %d ms, retaining ~%d KB of class names",
+                    classCount, index.size(), describe(packages), (System.nanoTime() - start) / 1_000_000, chars * 2 / 1024));
+        }
+        return index;
+    }
+
+    private static ScanResult scan(ClassGraph classGraph, String description, boolean memberInfo) {
+        long start = System.nanoTime();
+        //Unless the filters need them, field and method info would just take up memory
+        classGraph = classGraph
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .initializeLoadedClasses();
+        if (memberInfo) {
+            classGraph = classGraph
+                    .enableFieldInfo()
+                    .enableMethodInfo()
+                    .ignoreFieldVisibility()
+                    .ignoreMethodVisibility();
+        }
+        ScanResult scanResult = classGraph.scan();
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Scanned %d classes from %s in %d ms",
+                    scanResult.getAllClasses().size(), description, (System.nanoTime() - start) / 1_000_000));
+        }
+        return scanResult;
+    }
+
+    private static Map<String, List<String>> restrict(Map<String, List<String>> index, String[] packages) {
+        Map<String, List<String>> restricted = new HashMap<>();
+        index.forEach((superType, implementations) -> {
+            List<String> inPackages = implementations.stream()
+                    .filter(impl -> isInPackages(impl, packages))
+                    .collect(Collectors.toList());
+            if (!inPackages.isEmpty()) {
+                restricted.put(superType, inPackages);
+            }
+        });
+        return restricted;
+    }
+
+    private static boolean covers(String[] scanned, String[] requested) {
+        if (scanned.length == 0) {
+            return true;
+        }
+        return requested.length > 0 && Arrays.stream(requested).allMatch(pkg -> isInPackages(pkg, scanned));
+    }
+
+    private static boolean isInPackages(String name, String[] packages) {
+        return packages.length == 0 || Arrays.stream(packages).anyMatch(pkg -> name.equals(pkg) || name.startsWith(pkg + "."));
+    }
+
+    private static String[] packagesOf(String cacheKey) {
+        return cacheKey.isEmpty() ? new String[0] : cacheKey.split(",");
+    }
+
+    private static String describe(String[] packages) {
+        return packages.length == 0 ? "the whole classpath" : "packages " + String.join(", ", packages);
+    }
+
+    private List<String> indexed(Class<?> superType, String[] packages) {
+        ClassLoader loader = superType.getClassLoader() != null ? superType.getClassLoader() : ClassFinder.class.getClassLoader();
+        List<String> implementations = indexes.computeIfAbsent(loader, ClassFinder::loadIndex).get(superType.getName());
+        if (implementations == null || packages.length == 0) {
+            return implementations;
+        }
+        return implementations.stream()
+                .filter(impl -> isInPackages(impl, packages))
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, List<String>> loadIndex(ClassLoader loader) {
+        Map<String, Set<String>> index = new HashMap<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(INDEX_LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                Properties properties = new Properties();
+                try (InputStream in = resource.openStream()) {
+                    properties.load(in);
+                }
+                properties.stringPropertyNames().forEach(superType -> Collections.addAll(
+                        index.computeIfAbsent(superType, k -> new LinkedHashSet<>()), properties.getProperty(superType).split(",")));
+            }
+        } catch (Exception e) {
+            log.warn("Implementation index could not be read. Classpath scanning will be used instead.", e);
+            return Collections.emptyMap();
+        }
+        return index.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> new ArrayList<>(entry.getValue())));
     }
 
     private static Stream<AnnotatedType> getExactSubType(AnnotatedType superType, Class<?> subClass, boolean allowMissingGenerics) {
@@ -111,7 +371,18 @@ public class ClassFinder {
         }
     }
 
+    /**
+     * Discards the light-weight indexes shared by the instances created with {@code shareIndex} enabled,
+     * e.g. after new classes became available
+     */
+    public static void clearSharedIndex() {
+        synchronized (SHARED_INDEXES) {
+            SHARED_INDEXES.clear();
+        }
+    }
+
     public void close() {
+        packageScans.clear();
         try {
             cache.values().forEach(ScanResult::close);
             cache.clear();
@@ -119,4 +390,22 @@ public class ClassFinder {
             log.warn(ScanResult.class.getName() + " did not close cleanly", e);
         }
     }
+
+    /**
+     * Controls the use of the build-time implementation index
+     */
+    public enum IndexUsage {
+        /**
+         * The index is not consulted, the classpath is always scanned
+         */
+        IGNORED,
+        /**
+         * The index is consulted first, and the classpath is scanned only for the types missing from it
+         */
+        PREFERRED,
+        /**
+         * Only the index is consulted, the classpath is never scanned
+         */
+        EXCLUSIVE
+    }
 }
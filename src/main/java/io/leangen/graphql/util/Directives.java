@@ -37,7 +37,7 @@ public class Directives {
                 .argument(GraphQLArgument.newArgument()
                         .name(TYPE)
                         .description("")
-                        .value(type)
+                        .value(AnnotatedTypeInterner.intern(type))
                         .type(UNREPRESENTABLE)
                         .build())
                 .build();
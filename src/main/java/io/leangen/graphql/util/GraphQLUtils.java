@@ -6,6 +6,7 @@ import graphql.relay.Relay;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLModifiedType;
 import graphql.schema.GraphQLNamedSchemaElement;
 import graphql.schema.GraphQLNamedType;
@@ -22,6 +23,8 @@ public class GraphQLUtils {
 
     public static final String CLIENT_MUTATION_ID = "clientMutationId";
     public static final String NODE = "node";
+    public static final String NODES = "nodes";
+    public static final String RELAY_IDS_ARGUMENT_NAME = "ids";
     private static final String EDGES = "edges";
     private static final String PAGE_INFO = "pageInfo";
     private static final String CONNECTION = "Connection";
@@ -38,6 +41,11 @@ public class GraphQLUtils {
         return type instanceof GraphQLNonNull && ((GraphQLNonNull) type).getWrappedType().equals(Scalars.GraphQLID);
     }
 
+    public static boolean isRelayIdList(GraphQLType type) {
+        GraphQLType list = unwrapNonNull(type);
+        return list instanceof GraphQLList && isRelayId(((GraphQLList) list).getWrappedType());
+    }
+
     public static boolean isRelayNodeInterface(GraphQLType node) {
         if (!(node instanceof GraphQLInterfaceType)) {
             return false;
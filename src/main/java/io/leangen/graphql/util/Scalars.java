@@ -488,6 +488,154 @@ public class Scalars {
                 }).build();
     }
 
+    /**
+     * The units in which the epoch-based temporal scalars (see {@link #epochTemporalScalars(EpochUnit)})
+     * represent temporal values
+     */
+    public enum EpochUnit {
+
+        MILLIS("milliseconds") {
+            @Override
+            public long toEpoch(Instant instant) {
+                return instant.toEpochMilli();
+            }
+
+            @Override
+            public Instant fromEpoch(long epoch) {
+                return Instant.ofEpochMilli(epoch);
+            }
+        },
+
+        MICROS("microseconds") {
+            @Override
+            public long toEpoch(Instant instant) {
+                return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000);
+            }
+
+            @Override
+            public Instant fromEpoch(long epoch) {
+                return Instant.ofEpochSecond(Math.floorDiv(epoch, 1_000_000L), Math.floorMod(epoch, 1_000_000L) * 1000);
+            }
+        };
+
+        private final String description;
+
+        EpochUnit(String description) {
+            this.description = description;
+        }
+
+        public abstract long toEpoch(Instant instant);
+
+        public abstract Instant fromEpoch(long epoch);
+    }
+
+    /**
+     * Creates an alternative set of temporal scalars, representing values as numbers of milliseconds or microseconds
+     * since the epoch instead of ISO-8601 strings. Cheaper to produce, and more compact on the wire.
+     * ISO-8601 strings are still accepted on input, so clients can switch representations gradually.
+     * <p>Timezone policy: the epoch is always taken in UTC. Values without a timezone ({@code LocalDateTime},
+     * {@code LocalDate}, SQL types etc.) are interpreted as UTC, and times of day are anchored to the epoch day
+     * ({@code 1970-01-01}). Values with a timezone or an offset are converted to the instant they represent,
+     * so the original zone is not preserved, and they are deserialized at UTC. This is consistent with how
+     * the default temporal scalars interpret numeric inputs.</p>
+     * <p>{@link Duration} and {@link Period} are not included, as they are not points in time.</p>
+     *
+     * @param unit The unit of the numeric representation
+     *
+     * @return The scalars, keyed by the Java type they represent
+     */
+    public static Map<Class<?>, GraphQLScalarType> epochTemporalScalars(EpochUnit unit) {
+        LocalDate epochDay = LocalDate.ofEpochDay(0);
+        Map<Class<?>, GraphQLScalarType> scalars = new HashMap<>();
+        scalars.put(Date.class, epochTemporalScalar(Date.class, "Date", "an instant in time", unit,
+                s -> new Date(Instant.parse(s).toEpochMilli()), i -> new Date(i.toEpochMilli()), d -> Instant.ofEpochMilli(d.getTime())));
+        scalars.put(java.sql.Date.class, epochTemporalScalar(java.sql.Date.class, "SqlDate", "a SQL compliant local date", unit,
+                s -> java.sql.Date.valueOf(LocalDate.parse(s)), i -> java.sql.Date.valueOf(i.atZone(ZoneOffset.UTC).toLocalDate()),
+                d -> d.toLocalDate().atStartOfDay().toInstant(ZoneOffset.UTC)));
+        scalars.put(Time.class, epochTemporalScalar(Time.class, "SqlTime", "a SQL compliant local time", unit,
+                s -> Time.valueOf(LocalTime.parse(s)), i -> Time.valueOf(i.atZone(ZoneOffset.UTC).toLocalTime()),
+                t -> t.toLocalTime().atDate(epochDay).toInstant(ZoneOffset.UTC)));
+        scalars.put(Timestamp.class, epochTemporalScalar(Timestamp.class, "SqlTimestamp", "a SQL compliant local date-time", unit,
+                s -> Timestamp.from(Instant.parse(s)), Timestamp::from, Timestamp::toInstant));
+        scalars.put(Calendar.class, epochTemporalScalar(Calendar.class, "Calendar", "a date-time with a time-zone", unit,
+                s -> GregorianCalendar.from(ZonedDateTime.parse(s)), i -> GregorianCalendar.from(i.atZone(ZoneOffset.UTC)), Calendar::toInstant));
+        scalars.put(Instant.class, epochTemporalScalar(Instant.class, "Instant", "an instant in time", unit,
+                Instant::parse, i -> i, i -> i));
+        scalars.put(LocalDate.class, epochTemporalScalar(LocalDate.class, "LocalDate", "a local date", unit,
+                LocalDate::parse, i -> i.atZone(ZoneOffset.UTC).toLocalDate(), d -> d.atStartOfDay().toInstant(ZoneOffset.UTC)));
+        scalars.put(LocalTime.class, epochTemporalScalar(LocalTime.class, "LocalTime", "a local time", unit,
+                LocalTime::parse, i -> i.atZone(ZoneOffset.UTC).toLocalTime(), t -> t.atDate(epochDay).toInstant(ZoneOffset.UTC)));
+        scalars.put(LocalDateTime.class, epochTemporalScalar(LocalDateTime.class, "LocalDateTime", "a local date-time", unit,
+                LocalDateTime::parse, i -> i.atZone(ZoneOffset.UTC).toLocalDateTime(), dt -> dt.toInstant(ZoneOffset.UTC)));
+        scalars.put(ZonedDateTime.class, epochTemporalScalar(ZonedDateTime.class, "ZonedDateTime", "a date-time with a time-zone", unit,
+                ZonedDateTime::parse, i -> i.atZone(ZoneOffset.UTC), ZonedDateTime::toInstant));
+        scalars.put(OffsetTime.class, epochTemporalScalar(OffsetTime.class, "OffsetTime", "a time with a UTC offset", unit,
+                OffsetTime::parse, i -> OffsetTime.ofInstant(i, ZoneOffset.UTC), t -> t.atDate(epochDay).toInstant()));
+        scalars.put(OffsetDateTime.class, epochTemporalScalar(OffsetDateTime.class, "OffsetDateTime", "a date-time with a UTC offset", unit,
+                OffsetDateTime::parse, i -> i.atOffset(ZoneOffset.UTC), OffsetDateTime::toInstant));
+        return Collections.unmodifiableMap(scalars);
+    }
+
+    public static <T> GraphQLScalarType epochTemporalScalar(Class<T> type, String name, String description, EpochUnit unit,
+                                                            ThrowingFunction<String, T> fromString, ThrowingFunction<Instant, T> fromInstant,
+                                                            ThrowingFunction<T, Instant> toInstant) {
+        return GraphQLScalarType.newScalar()
+                .name(name)
+                .description("Built-in scalar representing " + description + " as the number of " + unit.description + " since the epoch (UTC)")
+                .coercing(new Coercing<T, Long>() {
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Long serialize(Object dataFetcherResult) {
+                        if (type.isInstance(dataFetcherResult)) {
+                            try {
+                                return unit.toEpoch(toInstant.apply((T) dataFetcherResult));
+                            } catch (Exception e) {
+                                throw new CoercingSerializeException("Value " + dataFetcherResult + " could not be serialized");
+                            }
+                        }
+                        throw serializationException(dataFetcherResult, type);
+                    }
+
+                    @Override
+                    public T parseValue(Object input) {
+                        try {
+                            if (input instanceof Long || input instanceof Integer) {
+                                return fromInstant.apply(unit.fromEpoch(((Number) input).longValue()));
+                            }
+                            if (input instanceof String) {
+                                return fromString.apply((String) input);
+                            }
+                            if (type.isInstance(input)) {
+                                return type.cast(input);
+                            }
+                            throw valueParsingException(input, Long.class, String.class);
+                        } catch (CoercingParseValueException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new CoercingParseValueException("Value " + input + " could not be parsed into a " + name);
+                        }
+                    }
+
+                    @Override
+                    public T parseLiteral(Object input) {
+                        try {
+                            if (input instanceof IntValue) {
+                                return fromInstant.apply(unit.fromEpoch(((IntValue) input).getValue().longValueExact()));
+                            } else if (input instanceof StringValue) {
+                                return fromString.apply(((StringValue) input).getValue());
+                            } else {
+                                throw literalParsingException(input, IntValue.class, StringValue.class);
+                            }
+                        } catch (CoercingParseLiteralException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new CoercingParseLiteralException("Value " + input + " could not be parsed into a " + name);
+                        }
+                    }
+                }).build();
+    }
+
     public static <T extends Value> T literalOrException(Object input, Class<T> valueType) {
         if (valueType.isInstance(input)) {
             return valueType.cast(input);
@@ -0,0 +1,39 @@
+package io.leangen.graphql.util;
+
+import io.leangen.geantyref.GenericTypeReflector;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.Arrays;
+
+/**
+ * A map key comparing {@link AnnotatedType}s structurally (including the annotations), as the JDK implementations
+ * of {@link AnnotatedType} only have identity equality. Any additional qualifiers are compared using their own
+ * {@code equals}.
+ */
+public final class TypeKey {
+
+    private final AnnotatedType type;
+    private final Object[] qualifiers;
+    private final int hash;
+
+    public TypeKey(AnnotatedType type, Object... qualifiers) {
+        this.type = type;
+        this.qualifiers = qualifiers;
+        this.hash = 31 * GenericTypeReflector.hashCode(type) + Arrays.hashCode(qualifiers);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof TypeKey)) return false;
+        TypeKey that = (TypeKey) other;
+        return hash == that.hash
+                && Arrays.equals(qualifiers, that.qualifiers)
+                && (type == that.type || GenericTypeReflector.equals(type, that.type));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
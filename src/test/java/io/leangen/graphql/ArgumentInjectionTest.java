@@ -8,13 +8,30 @@ import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.GraphQLRootContext;
 import io.leangen.graphql.annotations.GraphQLScalar;
 import io.leangen.graphql.domain.Street;
+import io.leangen.graphql.metadata.strategy.type.DefaultTypeInfoGenerator;
+import io.leangen.graphql.metadata.strategy.value.InputParsingException;
+import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+import io.leangen.graphql.metadata.strategy.value.ValueMapperFactory;
+import io.leangen.graphql.module.common.LazyListModule;
+import io.leangen.graphql.util.Defaults;
 import org.junit.Test;
 
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests whether various argument injectors are doing their job
@@ -59,6 +76,52 @@ public class ArgumentInjectionTest {
         assertValueAtPathEquals(null, result, ECHO);
     }
 
+    @Test
+    public void testSimpleArgumentsSkipValueMapper() {
+        AtomicInteger conversions = new AtomicInteger();
+        ValueMapperFactory defaultFactory = Defaults.valueMapperFactory(new DefaultTypeInfoGenerator());
+        GraphQL exe = GraphQL.newGraphQL(
+                new TestSchemaGenerator()
+                        .withValueMapperFactory((subTypes, env) -> new CountingValueMapper(defaultFactory.getValueMapper(subTypes, env), conversions))
+                        .withOperationsFromSingleton(new ScalarService())
+                        .generate())
+                .build();
+
+        UUID id = UUID.randomUUID();
+        ExecutionResult result = exe.execute("{scalars(text: \"x\", number: 1, big: 2, amount: 3, fraction: 0.5, id: \"" + id + "\", color: RED)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("x1230.5" + id + "RED", result, "scalars");
+        assertEquals(0, conversions.get());
+
+        result = exe.execute("{joined(texts: [\"x\", \"y\"])}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("xy", result, "joined");
+        assertTrue(conversions.get() > 0);
+    }
+
+    @Test
+    public void testLazyListArguments() {
+        AtomicInteger conversions = new AtomicInteger();
+        ValueMapperFactory defaultFactory = Defaults.valueMapperFactory(new DefaultTypeInfoGenerator());
+        GraphQL exe = GraphQL.newGraphQL(
+                new TestSchemaGenerator()
+                        .withValueMapperFactory((subTypes, env) -> new CountingValueMapper(defaultFactory.getValueMapper(subTypes, env), conversions))
+                        .withModules(new LazyListModule())
+                        .withOperationsFromSingleton(new RecordService())
+                        .generate())
+                .build();
+
+        String records = "[{name: \"one\"}, {name: \"two\"}, {name: \"bad\"}, {name: \"four\"}]";
+        ExecutionResult result = exe.execute("{firstTwo(records: " + records + ")}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("onetwo", result, "firstTwo");
+        assertEquals(2, conversions.get());
+
+        result = exe.execute("{all(records: " + records + ")}");
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage(), result.getErrors().get(0).getMessage().contains("index 2"));
+    }
+
     private GraphQL getApi(Object service) {
         return GraphQL.newGraphQL(
                 new TestSchemaGenerator()
@@ -111,4 +174,76 @@ public class ArgumentInjectionTest {
             return TARGET_VALUE; //getter doesn't return field value
         }
     }
+
+    public static class ScalarService {
+        @GraphQLQuery
+        public String scalars(String text, int number, long big, BigInteger amount, double fraction, UUID id, Color color) {
+            return text + number + big + amount + fraction + id + color;
+        }
+
+        @GraphQLQuery
+        public String joined(List<String> texts) {
+            return String.join("", texts);
+        }
+    }
+
+    public static class RecordService {
+        @GraphQLQuery
+        public String firstTwo(Stream<Record> records) {
+            return records.limit(2).map(Record::getName).collect(Collectors.joining());
+        }
+
+        @GraphQLQuery
+        public String all(Iterator<Record> records) {
+            StringBuilder names = new StringBuilder();
+            records.forEachRemaining(record -> names.append(record.getName()));
+            return names.toString();
+        }
+    }
+
+    public static class Record {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            if (name.equals("bad")) {
+                throw new IllegalArgumentException("Bad name");
+            }
+            this.name = name;
+        }
+    }
+
+    public enum Color {
+        RED, GREEN
+    }
+
+    private static class CountingValueMapper implements ValueMapper {
+
+        private final ValueMapper delegate;
+        private final AtomicInteger conversions;
+
+        CountingValueMapper(ValueMapper delegate, AtomicInteger conversions) {
+            this.delegate = delegate;
+            this.conversions = conversions;
+        }
+
+        @Override
+        public <T> T fromInput(Object graphQLInput, Type sourceType, AnnotatedType outputType) throws InputParsingException {
+            conversions.incrementAndGet();
+            return delegate.fromInput(graphQLInput, sourceType, outputType);
+        }
+
+        @Override
+        public <T> T fromString(String json, AnnotatedType type) throws InputParsingException {
+            return delegate.fromString(json, type);
+        }
+
+        @Override
+        public String toString(Object output, AnnotatedType type) {
+            return delegate.toString(output, type);
+        }
+    }
 }
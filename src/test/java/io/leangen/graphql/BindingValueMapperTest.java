@@ -0,0 +1,448 @@
+package io.leangen.graphql;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.metadata.InputField;
+import io.leangen.graphql.metadata.TypeDiscriminatorField;
+import io.leangen.graphql.metadata.strategy.value.DeserializationInspector;
+import io.leangen.graphql.metadata.strategy.value.InputFieldBuilder;
+import io.leangen.graphql.metadata.strategy.value.InputFieldBuilderParams;
+import io.leangen.graphql.metadata.strategy.value.InputParsingException;
+import io.leangen.graphql.metadata.strategy.value.ScalarDeserializationStrategy;
+import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+import io.leangen.graphql.metadata.strategy.value.ValueMapperFactory;
+import io.leangen.graphql.metadata.strategy.value.binding.BindingValueMapperFactory;
+import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapperFactory;
+import io.leangen.graphql.metadata.strategy.value.jackson.JacksonValueMapperFactory;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests which inputs the binding value mapper binds itself, and which it leaves to its fallback
+ */
+public class BindingValueMapperTest {
+
+    @Test
+    public void testCreatorBinding() {
+        CountingValueMapperFactory fallback = new CountingValueMapperFactory(new JacksonValueMapperFactory());
+        ExecutionResult result = execute(fallback, "{person(in: {name: \"Ann\", age: 33}) {name age}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Ann", result, "person.name");
+        assertValueAtPathEquals(33, result, "person.age");
+        assertEquals(0, fallback.conversions.get());
+    }
+
+    @Test
+    public void testSetterBinding() {
+        CountingValueMapperFactory fallback = new CountingValueMapperFactory(new JacksonValueMapperFactory());
+        ExecutionResult result = execute(fallback, "{settings(in: {title: \"main\", color: BLUE, scores: [3, 1], tags: [\"a\", \"b\", \"a\"]," +
+                " item: {name: \"first\"}, items: [{name: \"second\"}, {name: \"third\"}]}) {title color scores tags item {name} items {name}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("main", result, "settings.title");
+        assertValueAtPathEquals("BLUE", result, "settings.color");
+        assertValueAtPathEquals(Arrays.asList(3, 1), result, "settings.scores");
+        assertValueAtPathEquals(Arrays.asList("a", "b"), result, "settings.tags");
+        assertValueAtPathEquals("first", result, "settings.item.name");
+        assertValueAtPathEquals("third", result, "settings.items.1.name");
+        assertEquals(0, fallback.conversions.get());
+    }
+
+    @Test
+    public void testFieldBinding() {
+        for (ValueMapperFactory factory : Arrays.asList(new JacksonValueMapperFactory(), new GsonValueMapperFactory())) {
+            CountingValueMapperFactory fallback = new CountingValueMapperFactory(factory);
+            ExecutionResult result = execute(fallback, "{point(in: {x: 3, y: 4}) {x y}}");
+            assertNoErrors(result);
+            assertValueAtPathEquals(3, result, "point.x");
+            assertValueAtPathEquals(4, result, "point.y");
+            assertEquals(0, fallback.conversions.get());
+        }
+    }
+
+    @Test
+    public void testRenamedSetterBinding() {
+        CountingValueMapperFactory fallback = new CountingValueMapperFactory(new JacksonValueMapperFactory());
+        ExecutionResult result = execute(fallback, "{renamed(in: {alias: \"value\", name: \"name\"})}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("value/name/null", result, "renamed");
+        assertEquals(0, fallback.conversions.get());
+    }
+
+    @Test
+    public void testFormattedPropertyFallback() {
+        CountingValueMapperFactory fallback = new CountingValueMapperFactory(new JacksonValueMapperFactory());
+        ExecutionResult result = execute(fallback, "{formatted(in: {values: [\"x\", \"y\"]})}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList("x", "y"), result, "formatted");
+        assertTrue(fallback.conversions.get() > 0);
+    }
+
+    @Test
+    public void testJacksonDeserializerFallback() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new SimpleModule().addDeserializer(Code.class, new CodeDeserializer()));
+        CountingValueMapperFactory fallback = new CountingValueMapperFactory(JacksonValueMapperFactory.builder()
+                .withPrototype(objectMapper)
+                .build());
+        ExecutionResult result = execute(fallback, "{coded(in: {label: \"tag\", code: {value: \"abc\"}}) {label code {value}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("tag", result, "coded.label");
+        assertValueAtPathEquals("ABC", result, "coded.code.value");
+        assertTrue(fallback.conversions.get() > 0);
+    }
+
+    @Test
+    public void testGsonTypeAdapterFallback() {
+        CountingValueMapperFactory fallback = new CountingValueMapperFactory(GsonValueMapperFactory.builder()
+                .withPrototype(new GsonBuilder().registerTypeAdapter(Code.class, new CodeAdapter()).create())
+                .build());
+        ExecutionResult result = execute(fallback, "{coded(in: {label: \"tag\", code: {value: \"abc\"}}) {label code {value}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("tag", result, "coded.label");
+        assertValueAtPathEquals("ABC", result, "coded.code.value");
+        assertTrue(fallback.conversions.get() > 0);
+    }
+
+    @Test
+    public void testNumberNarrowing() {
+        CountingValueMapperFactory fallback = new CountingValueMapperFactory(new JacksonValueMapperFactory());
+        ValueMapper jackson = new JacksonValueMapperFactory().getValueMapper(Collections.emptyMap(), new TestGlobalEnvironment());
+        ValueMapper binding = new BindingValueMapperFactory(fallback).getValueMapper(Collections.emptyMap(), new TestGlobalEnvironment());
+
+        assertEquals(42, (int) binding.fromInput(42L, GenericTypeReflector.annotate(Integer.class)));
+        assertEquals((short) 42, (short) binding.fromInput(new BigDecimal("42.0"), GenericTypeReflector.annotate(Short.class)));
+        assertEquals(BigInteger.TEN, binding.fromInput(10.0, GenericTypeReflector.annotate(BigInteger.class)));
+        assertEquals(0, fallback.conversions.get());
+
+        //Out of range values are rejected, as by the fallback, instead of silently wrapping around
+        assertRejected(binding, 3_000_000_000L, Integer.class);
+        assertRejected(binding, 40_000, Short.class);
+        assertRejected(binding, 300L, Byte.class);
+        assertRejected(binding, BigInteger.ONE.shiftLeft(64), Long.class);
+        assertRejected(binding, 1e20, Long.class);
+
+        //Fractional values are converted exactly as by the fallback
+        assertEquals(jackson.<Object>fromInput(1.5, GenericTypeReflector.annotate(Integer.class)),
+                binding.fromInput(1.5, GenericTypeReflector.annotate(Integer.class)));
+        assertEquals(jackson.<Object>fromInput(new BigDecimal("2.5"), GenericTypeReflector.annotate(BigInteger.class)),
+                binding.fromInput(new BigDecimal("2.5"), GenericTypeReflector.annotate(BigInteger.class)));
+        assertEquals(7, fallback.conversions.get());
+    }
+
+    private static void assertRejected(ValueMapper mapper, Number input, Class<?> type) {
+        try {
+            Object result = mapper.fromInput(input, GenericTypeReflector.annotate(type));
+            fail(input + " must not be converted to " + type.getSimpleName() + ", but got " + result);
+        } catch (InputParsingException e) {
+            assertTrue(e.getMessage().contains(type.getName()));
+        }
+    }
+
+    private static ExecutionResult execute(CountingValueMapperFactory fallback, String query) {
+        GraphQL graphQL = GraphQL.newGraphQL(new TestSchemaGenerator()
+                .withValueMapperFactory(new BindingValueMapperFactory(fallback))
+                .withOperationsFromSingleton(new BindingService())
+                .generate())
+                .build();
+        return graphQL.execute(query);
+    }
+
+    public static class BindingService {
+        @GraphQLQuery
+        public Person person(Person in) {
+            return in;
+        }
+
+        @GraphQLQuery
+        public Settings settings(Settings in) {
+            return in;
+        }
+
+        @GraphQLQuery
+        public Point point(Point in) {
+            return in;
+        }
+
+        @GraphQLQuery
+        public String renamed(Renamed in) {
+            return in.value + "/" + in.name + "/" + in.secret;
+        }
+
+        @GraphQLQuery
+        public List<String> formatted(Formatted in) {
+            return in.values;
+        }
+
+        @GraphQLQuery
+        public Coded coded(Coded in) {
+            return in;
+        }
+    }
+
+    public static class Person {
+        private final String name;
+        private final int age;
+
+        @JsonCreator
+        public Person(@JsonProperty("name") String name, @JsonProperty("age") int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+
+    public enum Color {
+        RED, BLUE
+    }
+
+    public static class Settings {
+        private String title;
+        private Color color;
+        private int[] scores;
+        private Set<String> tags;
+        private Item item;
+        private List<Item> items;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public Color getColor() {
+            return color;
+        }
+
+        public void setColor(Color color) {
+            this.color = color;
+        }
+
+        public int[] getScores() {
+            return scores;
+        }
+
+        public void setScores(int[] scores) {
+            this.scores = scores;
+        }
+
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<String> tags) {
+            this.tags = new LinkedHashSet<>(tags);
+        }
+
+        public Item getItem() {
+            return item;
+        }
+
+        public void setItem(Item item) {
+            this.item = item;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Item {
+        public String name;
+    }
+
+    public static class Point {
+        public int x;
+        public int y;
+    }
+
+    public static class Renamed {
+        private String value;
+        private String name;
+        private String secret;
+
+        @JsonProperty("alias")
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @JsonIgnore
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+
+    public static class Formatted {
+        private List<String> values;
+
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+        public void setValues(List<String> values) {
+            this.values = values;
+        }
+    }
+
+    public static class Coded {
+        public String label;
+        public Code code;
+    }
+
+    public static class Code {
+        public String value;
+
+        Code(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class CodeDeserializer extends JsonDeserializer<Code> {
+        @Override
+        public Code deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return new Code(parser.<JsonNode>readValueAsTree().get("value").asText().toUpperCase());
+        }
+    }
+
+    public static class CodeAdapter extends TypeAdapter<Code> {
+        @Override
+        public void write(JsonWriter out, Code code) throws IOException {
+            out.beginObject().name("value").value(code.value).endObject();
+        }
+
+        @Override
+        public Code read(JsonReader in) throws IOException {
+            in.beginObject();
+            in.nextName();
+            Code code = new Code(in.nextString().toUpperCase());
+            in.endObject();
+            return code;
+        }
+    }
+
+    private static class CountingValueMapperFactory implements ValueMapperFactory, ScalarDeserializationStrategy {
+
+        private final ValueMapperFactory delegate;
+        private final AtomicInteger conversions = new AtomicInteger();
+
+        CountingValueMapperFactory(ValueMapperFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public ValueMapper getValueMapper(Map<Class, List<Class<?>>> concreteSubTypes, GlobalEnvironment environment) {
+            return new CountingValueMapper(delegate.getValueMapper(concreteSubTypes, environment), conversions);
+        }
+
+        @Override
+        public boolean isDirectlyDeserializable(AnnotatedType type) {
+            return ((ScalarDeserializationStrategy) delegate).isDirectlyDeserializable(type);
+        }
+    }
+
+    private static class CountingValueMapper implements ValueMapper, InputFieldBuilder, DeserializationInspector {
+
+        private final ValueMapper delegate;
+        private final AtomicInteger conversions;
+
+        CountingValueMapper(ValueMapper delegate, AtomicInteger conversions) {
+            this.delegate = delegate;
+            this.conversions = conversions;
+        }
+
+        @Override
+        public <T> T fromInput(Object graphQLInput, Type sourceType, AnnotatedType outputType) {
+            conversions.incrementAndGet();
+            return delegate.fromInput(graphQLInput, sourceType, outputType);
+        }
+
+        @Override
+        public <T> T fromString(String json, AnnotatedType type) {
+            return delegate.fromString(json, type);
+        }
+
+        @Override
+        public String toString(Object output, AnnotatedType type) {
+            return delegate.toString(output, type);
+        }
+
+        @Override
+        public Set<InputField> getInputFields(InputFieldBuilderParams params) {
+            return ((InputFieldBuilder) delegate).getInputFields(params);
+        }
+
+        @Override
+        public TypeDiscriminatorField getTypeDiscriminatorField(InputFieldBuilderParams params) {
+            return ((InputFieldBuilder) delegate).getTypeDiscriminatorField(params);
+        }
+
+        @Override
+        public boolean supports(AnnotatedType type) {
+            return ((InputFieldBuilder) delegate).supports(type);
+        }
+
+        @Override
+        public boolean isDefaultDeserialized(Type type) {
+            return ((DeserializationInspector) delegate).isDefaultDeserialized(type);
+        }
+
+        @Override
+        public Map<String, AnnotatedElement> getDefaultMutators(AnnotatedType type) {
+            return ((DeserializationInspector) delegate).getDefaultMutators(type);
+        }
+    }
+}
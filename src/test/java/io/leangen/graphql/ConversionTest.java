@@ -1,11 +1,19 @@
 package io.leangen.graphql;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import graphql.ErrorType;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphqlErrorBuilder;
 import graphql.execution.DataFetcherResult;
 import graphql.schema.GraphQLSchema;
+import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import io.leangen.graphql.annotations.GraphQLArgument;
 import io.leangen.graphql.annotations.GraphQLId;
@@ -18,13 +26,17 @@ import io.leangen.graphql.generator.mapping.common.CollectionOutputConverter;
 import io.leangen.graphql.generator.mapping.common.MapToListTypeAdapter;
 import io.leangen.graphql.generator.mapping.common.OptionalAdapter;
 import io.leangen.graphql.metadata.TypedElement;
+import io.leangen.graphql.metadata.strategy.value.InputParsingException;
+import io.leangen.graphql.metadata.strategy.value.ValueMapper;
 import io.leangen.graphql.metadata.strategy.value.ValueMapperFactory;
+import io.leangen.graphql.metadata.strategy.value.binding.BindingValueMapperFactory;
 import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapperFactory;
 import io.leangen.graphql.metadata.strategy.value.jackson.JacksonValueMapperFactory;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.reflect.AnnotatedType;
 import java.util.ArrayList;
@@ -45,6 +57,8 @@ import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPath
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * Tests whether various input/output converters are doing their job
@@ -58,7 +72,7 @@ public class ConversionTest {
 
     @Parameterized.Parameters(name = "{index}: {0}")
     public static Object[] data() {
-        return new Object[] { new JacksonValueMapperFactory(), new GsonValueMapperFactory() };
+        return new Object[] { new JacksonValueMapperFactory(), new GsonValueMapperFactory(), new BindingValueMapperFactory() };
     }
 
     @Test
@@ -152,6 +166,107 @@ public class ConversionTest {
         assertNoErrors(result);
     }
 
+    @Test
+    public void testDirectInputConversion() {
+        ValueMapper valueMapper = valueMapperFactory.getValueMapper(Collections.emptyMap(), new TestGlobalEnvironment());
+        Map<String, Object> child = new LinkedHashMap<>();
+        child.put("name", "child");
+        child.put("size", 2.0);
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("name", "root");
+        input.put("size", 1);
+        input.put("children", Collections.singletonList(child));
+
+        Node node = valueMapper.fromInput(input, GenericTypeReflector.annotate(Node.class));
+        assertEquals("root", node.name);
+        assertEquals(1, node.size);
+        assertEquals("child", node.children.get(0).name);
+        assertEquals(2, node.children.get(0).size);
+
+        input.put("counts", Collections.singletonMap("x", 3));
+        for (int i = 0; i < 2; i++) {
+            CountingNode countingNode = valueMapper.fromInput(input, GenericTypeReflector.annotate(CountingNode.class));
+            assertEquals("root", countingNode.name);
+            assertEquals(Integer.valueOf(3), countingNode.counts.get("x"));
+            assertEquals("child", countingNode.children.get(0).name);
+        }
+    }
+
+    @Test
+    public void testMalformedNumericInput() {
+        ValueMapper valueMapper = valueMapperFactory.getValueMapper(Collections.emptyMap(), new TestGlobalEnvironment());
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("name", "root");
+        input.put("size", "huge");
+        try {
+            valueMapper.fromInput(input, GenericTypeReflector.annotate(Node.class));
+            fail("Malformed numeric input must be rejected");
+        } catch (InputParsingException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void testGsonMalformedNumericInputInCustomAdapter() {
+        assumeTrue(valueMapperFactory instanceof GsonValueMapperFactory);
+        Gson prototype = new GsonBuilder()
+                .registerTypeAdapter(Counter.class, new TypeAdapter<Counter>() {
+                    @Override
+                    public void write(JsonWriter out, Counter value) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public Counter read(JsonReader in) throws IOException {
+                        Counter counter = new Counter();
+                        counter.count = in.nextLong();
+                        return counter;
+                    }
+                })
+                .create();
+        ValueMapper valueMapper = GsonValueMapperFactory.builder()
+                .withPrototype(prototype)
+                .build()
+                .getValueMapper(Collections.emptyMap(), new TestGlobalEnvironment());
+        Map<String, Object> input = Collections.singletonMap("counters", Arrays.asList(7, "8"));
+
+        CounterHolder holder = valueMapper.fromInput(input, GenericTypeReflector.annotate(CounterHolder.class));
+        assertEquals(7, holder.counters.get(0).count);
+        assertEquals(8, holder.counters.get(1).count);
+        try {
+            valueMapper.fromInput(Collections.singletonMap("counters", Collections.singletonList("many")),
+                    GenericTypeReflector.annotate(CounterHolder.class));
+            fail("Malformed numeric input must be rejected");
+        } catch (InputParsingException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void testJacksonInputConversionWithRootUnwrapping() {
+        assumeTrue(valueMapperFactory instanceof JacksonValueMapperFactory);
+        ObjectMapper prototype = new ObjectMapper().enable(DeserializationFeature.UNWRAP_ROOT_VALUE);
+        ValueMapper valueMapper = JacksonValueMapperFactory.builder()
+                .withPrototype(prototype)
+                .build()
+                .getValueMapper(Collections.emptyMap(), new TestGlobalEnvironment());
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("name", "root");
+        input.put("size", 1);
+
+        //Conversions never unwrap the root value, no matter how many times the (cached) reader is used
+        for (int i = 0; i < 2; i++) {
+            Node node = valueMapper.fromInput(input, GenericTypeReflector.annotate(Node.class));
+            assertEquals("root", node.name);
+            assertEquals(1, node.size);
+        }
+        //While parsing still respects the configuration
+        Node parsed = valueMapper.fromString("{\"Node\": {\"name\": \"wrapped\", \"size\": 2}}", GenericTypeReflector.annotate(Node.class));
+        assertEquals("wrapped", parsed.name);
+        assertEquals(2, parsed.size);
+        assertEquals("root", valueMapper.<Node>fromInput(input, GenericTypeReflector.annotate(Node.class)).name);
+    }
+
     @Test
     public void testConverterOptimization() {
         OutputConverter collectionConverter = new CollectionOutputConverter();
@@ -185,6 +300,25 @@ public class ConversionTest {
         assertSame(registry, optimizedRegistry);
     }
 
+    @Test
+    public void testMapOutputConversion() {
+        GraphQL api = GraphQL.newGraphQL(
+                new TestSchemaGenerator()
+                        .withValueMapperFactory(valueMapperFactory)
+                        .withTypeAdapters(new MapToListTypeAdapter())
+                        .withOperationsFromSingleton(new MapService())
+                        .generate())
+                .build();
+
+        ExecutionResult result = api.execute("{optionals {key, value}, plain {key, value}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("one", result, "optionals.0.key");
+        assertValueAtPathEquals("1", result, "optionals.0.value");
+        assertValueAtPathEquals(null, result, "optionals.1.value");
+        assertValueAtPathEquals("two", result, "plain.1.key");
+        assertValueAtPathEquals(2, result, "plain.1.value");
+    }
+
     private GraphQL getApi() {
         return GraphQL.newGraphQL(
                 new TestSchemaGenerator()
@@ -195,6 +329,24 @@ public class ConversionTest {
                 .build();
     }
 
+    public static class MapService {
+        @GraphQLQuery
+        public Map<String, Optional<String>> optionals() {
+            Map<String, Optional<String>> map = new LinkedHashMap<>();
+            map.put("one", Optional.of("1"));
+            map.put("none", Optional.empty());
+            return map;
+        }
+
+        @GraphQLQuery
+        public Map<String, Integer> plain() {
+            Map<String, Integer> map = new LinkedHashMap<>();
+            map.put("one", 1);
+            map.put("two", 2);
+            return map;
+        }
+    }
+
     public static class ComplexService {
         @GraphQLQuery(name = "echo")
         public ComplexObject echoArgument(@GraphQLArgument(name = "in") ComplexObject in) {
@@ -266,6 +418,27 @@ public class ConversionTest {
         }
     }
 
+    public static class Node {
+        public String name;
+        public int size;
+        public List<Node> children;
+    }
+
+    public static class Counter {
+        public long count;
+    }
+
+    public static class CounterHolder {
+        public List<Counter> counters;
+    }
+
+    public static class CountingNode {
+        public String name;
+        public int size;
+        public Map<String, Integer> counts;
+        public List<Node> children;
+    }
+
     public static class IdService {
         @GraphQLQuery
         public NestedId echo(@GraphQLId(relayId = true) NestedId id) {
@@ -0,0 +1,37 @@
+package io.leangen.graphql;
+
+import io.leangen.graphql.generator.GenerationReport;
+import io.leangen.graphql.generator.GenerationResult;
+import io.leangen.graphql.services.AuthorService;
+import io.leangen.graphql.services.BookService;
+import io.leangen.graphql.services.ReviewService;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GenerationReportTest {
+
+    @Test
+    public void testGenerationReport() {
+        GenerationResult result = new TestSchemaGenerator()
+                .withOperationsFromSingletons(new BookService(), new AuthorService(), new ReviewService())
+                .withParallelism(2)
+                .generateWithReport();
+        GenerationReport report = result.getReport();
+
+        assertEquals(6, result.getSchema().getQueryType().getFieldDefinitions().size());
+        assertEquals(Arrays.asList("Initialization", "Resolver discovery", "Type mapping", "Schema assembly",
+                "Schema processors", "Post-build hooks", "Schema build"),
+                report.getPhases().stream().map(GenerationReport.Measurement::getName).collect(Collectors.toList()));
+        assertEquals(3, report.getHeaviest(GenerationReport.Category.OPERATION_SOURCE).size());
+        assertTrue(report.getHeaviest(GenerationReport.Category.OPERATION_SOURCE).stream()
+                .anyMatch(source -> source.getName().contains(BookService.class.getSimpleName())));
+        assertTrue(report.getTotal(GenerationReport.Category.TYPE).getCount() > 0);
+        assertTrue(report.getTotalWallNanos() > 0);
+        assertTrue(report.toString().startsWith("Schema generated in"));
+    }
+}
@@ -4,20 +4,47 @@ import graphql.schema.GraphQLSchema;
 import io.leangen.graphql.annotations.GraphQLArgument;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.types.GraphQLInterface;
+import io.leangen.graphql.domain.Pet;
 import io.leangen.graphql.generator.mapping.strategy.DefaultImplementationDiscoveryStrategy;
+import io.leangen.graphql.processor.ImplementationIndexProcessor;
+import io.leangen.graphql.support.TestCompiler;
+import io.leangen.graphql.support.TestLog;
+import io.leangen.graphql.util.ClassFinder;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
 
+import static io.leangen.graphql.support.LogAssertions.assertWarningsLogged;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Tests whether auto-discovered interface implementation types are correctly registered in the schema
  */
 public class ImplementationAutoDiscoveryTest {
 
+    @Rule
+    public TemporaryFolder classes = new TemporaryFolder();
+
     @Test
     public void hiddenTypesTest() {
         GraphQLSchema schema = schemaFor(new ManualService());
@@ -57,6 +84,176 @@ public class ImplementationAutoDiscoveryTest {
         assertNotNull(schema.getType("Two"));
     }
 
+    @Test
+    public void indexedImplementationsTest() throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("io.leangen.graphql.indexed.Shape", "package io.leangen.graphql.indexed; public interface Shape {}");
+        sources.put("io.leangen.graphql.indexed.Circle", "package io.leangen.graphql.indexed; public class Circle implements Shape {}");
+        sources.put("io.leangen.graphql.indexed.Polygon", "package io.leangen.graphql.indexed; public abstract class Polygon implements Shape {}");
+        sources.put("io.leangen.graphql.indexed.Square", "package io.leangen.graphql.indexed; public class Square extends Polygon {}");
+        TestCompiler.compile(classes.getRoot(), new ImplementationIndexProcessor(), sources);
+        assertTrue(new File(classes.getRoot(), ClassFinder.INDEX_LOCATION).exists());
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(loader);
+            Class<?> shape = loader.loadClass("io.leangen.graphql.indexed.Shape");
+            ClassFinder classFinder = new ClassFinder(ClassFinder.IndexUsage.EXCLUSIVE);
+            List<String> implementations = classFinder.findImplementations(shape, ClassFinder.CONCRETE).stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toList());
+            classFinder.close();
+            assertEquals(Arrays.asList("io.leangen.graphql.indexed.Circle", "io.leangen.graphql.indexed.Square"), implementations);
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void incrementalIndexTest() throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("io.leangen.graphql.incremental.Shape", "package io.leangen.graphql.incremental; public interface Shape {}");
+        sources.put("io.leangen.graphql.incremental.Circle", "package io.leangen.graphql.incremental; public class Circle implements Shape {}");
+        sources.put("io.leangen.graphql.incremental.Square", "package io.leangen.graphql.incremental; public class Square implements Shape {}");
+        TestCompiler.compile(classes.getRoot(), new ImplementationIndexProcessor(), sources);
+
+        //Only the changed classes are recompiled, the rest of the index is carried over
+        Map<String, String> changed = new LinkedHashMap<>();
+        changed.put("io.leangen.graphql.incremental.Circle", "package io.leangen.graphql.incremental; public class Circle {}");
+        changed.put("io.leangen.graphql.incremental.Triangle", "package io.leangen.graphql.incremental; public class Triangle implements Shape {}");
+        TestCompiler.compile(classes.getRoot(), new ImplementationIndexProcessor(), changed);
+
+        Properties index = new Properties();
+        try (InputStream in = new FileInputStream(new File(classes.getRoot(), ClassFinder.INDEX_LOCATION))) {
+            index.load(in);
+        }
+        assertEquals("io.leangen.graphql.incremental.Square,io.leangen.graphql.incremental.Triangle",
+                index.getProperty("io.leangen.graphql.incremental.Shape"));
+    }
+
+    @Test
+    public void outdatedIndexTest() throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("io.leangen.graphql.outdated.Shape", "package io.leangen.graphql.outdated; public interface Shape {}");
+        sources.put("io.leangen.graphql.outdated.Circle", "package io.leangen.graphql.outdated; public class Circle implements Shape {}");
+        sources.put("io.leangen.graphql.outdated.Square", "package io.leangen.graphql.outdated; public class Square implements Shape {}");
+        TestCompiler.compile(classes.getRoot(), new ImplementationIndexProcessor(), sources);
+        assertTrue(new File(classes.getRoot(), "io/leangen/graphql/outdated/Circle.class").delete());
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.getRoot().toURI().toURL()}, getClass().getClassLoader());
+             TestLog log = new TestLog(ClassFinder.class)) {
+            Thread.currentThread().setContextClassLoader(loader);
+            Class<?> shape = loader.loadClass("io.leangen.graphql.outdated.Shape");
+            ClassFinder classFinder = new ClassFinder(ClassFinder.IndexUsage.EXCLUSIVE);
+            List<Class<?>> implementations = classFinder.findImplementations(shape, ClassFinder.CONCRETE);
+            classFinder.close();
+            assertEquals(1, implementations.size());
+            assertEquals("io.leangen.graphql.outdated.Square", implementations.get(0).getName());
+            assertWarningsLogged(log.getEvents(), "[io.leangen.graphql.outdated.Circle]");
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void memberInfoFilterTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new AutoService())
+                .withImplementationDiscoveryStrategy(new DefaultImplementationDiscoveryStrategy()
+                        .withFilters(info -> info.hasDeclaredMethod("getOne")))
+                .withClasspathScanMemberInfo()
+                .generate();
+        assertNotNull(schema.getType("One"));
+        assertNull(schema.getType("Two"));
+    }
+
+    @Test
+    public void missingMemberInfoFilterTest() {
+        try {
+            new TestSchemaGenerator()
+                    .withOperationsFromSingleton(new AutoService())
+                    .withImplementationDiscoveryStrategy(new DefaultImplementationDiscoveryStrategy()
+                            .withFilters(info -> info.hasDeclaredMethod("getOne")))
+                    .generate();
+            fail("Filter inspecting the methods should have failed without member info");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("withClasspathScanMemberInfo"));
+        }
+    }
+
+    @Test
+    public void overlappingScansTest() {
+        ClassFinder fresh = new ClassFinder();
+        ClassFinder reusing = new ClassFinder();
+        try {
+            List<Class<?>> enclosed = reusing.findImplementations(Pet.class, ClassFinder.ALL, "io.leangen.graphql.domain");
+            assertFalse(enclosed.isEmpty());
+            List<Class<?>> enclosing = reusing.findImplementations(Pet.class, ClassFinder.ALL, "io.leangen.graphql");
+            assertTrue(enclosing.containsAll(enclosed));
+            assertEquals(new HashSet<>(fresh.findImplementations(Pet.class, ClassFinder.ALL, "io.leangen.graphql")), new HashSet<>(enclosing));
+            //Served from the scan of the enclosing packages
+            assertEquals(enclosed, reusing.findImplementations(Pet.class, ClassFinder.ALL, "io.leangen.graphql.domain"));
+        } finally {
+            fresh.close();
+            reusing.close();
+        }
+    }
+
+    @Test
+    public void nestedPackageScansTest() throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("io.leangen.graphql.nested.Shape", "package io.leangen.graphql.nested; public interface Shape {}");
+        sources.put("io.leangen.graphql.nested.sub.Polygon", "package io.leangen.graphql.nested.sub; public class Polygon implements io.leangen.graphql.nested.Shape {}");
+        sources.put("io.leangen.graphql.nested.Square", "package io.leangen.graphql.nested; public class Square extends io.leangen.graphql.nested.sub.Polygon {}");
+        TestCompiler.compile(classes.getRoot(), new ImplementationIndexProcessor(), sources);
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(loader);
+            Class<?> shape = loader.loadClass("io.leangen.graphql.nested.Shape");
+            ClassFinder classFinder = new ClassFinder();
+            try {
+                assertEquals(Collections.singletonList("io.leangen.graphql.nested.sub.Polygon"),
+                        names(classFinder.findImplementations(shape, ClassFinder.ALL, "io.leangen.graphql.nested.sub")));
+                //The inheritance is followed through the already scanned subpackage
+                assertEquals(Arrays.asList("io.leangen.graphql.nested.Square", "io.leangen.graphql.nested.sub.Polygon"),
+                        names(classFinder.findImplementations(shape, ClassFinder.ALL, "io.leangen.graphql.nested")));
+            } finally {
+                classFinder.close();
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void sharedIndexTest() {
+        ClassFinder.clearSharedIndex();
+        ClassFinder scanning = new ClassFinder();
+        ClassFinder indexing = new ClassFinder(ClassFinder.IndexUsage.IGNORED, true);
+        ClassFinder reusing = new ClassFinder(ClassFinder.IndexUsage.IGNORED, true);
+        try {
+            for (Class<?> superType : Arrays.asList(Auto.class, Container.class, ManualService.class, Serializable.class)) {
+                List<Class<?>> expected = scanning.findImplementations(superType, ClassFinder.ALL, "io.leangen");
+                assertFalse(expected.isEmpty());
+                assertEquals(expected, indexing.findImplementations(superType, ClassFinder.ALL, "io.leangen"));
+                //Served from the shared index of the enclosing package
+                assertEquals(scanning.findImplementations(superType, ClassFinder.ALL, "io.leangen.graphql.domain", "io.leangen.graphql.services"),
+                        reusing.findImplementations(superType, ClassFinder.ALL, "io.leangen.graphql.domain", "io.leangen.graphql.services"));
+            }
+        } finally {
+            scanning.close();
+            indexing.close();
+            reusing.close();
+            ClassFinder.clearSharedIndex();
+        }
+    }
+
+    private static List<String> names(List<Class<?>> classes) {
+        return classes.stream().map(Class::getName).sorted().collect(Collectors.toList());
+    }
+
     private GraphQLSchema schemaFor(Object service) {
         return new TestSchemaGenerator()
                 .withOperationsFromSingleton(service)
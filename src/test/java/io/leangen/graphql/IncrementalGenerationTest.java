@@ -0,0 +1,161 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.PropertyDataFetcher;
+import io.leangen.graphql.annotations.GraphQLContext;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.types.GraphQLInterface;
+import org.junit.Test;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalGenerationTest {
+
+    @Test
+    public void testAddedAndRemovedOperationSources() {
+        GraphQLSchemaGenerator generator = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService());
+        GraphQLSchema initial = generator.generate();
+
+        GraphQLSchema extended = generator
+                .withOperationsFromSingleton(new ReviewPlugin())
+                .regenerate();
+        assertNotNull(extended.getQueryType().getFieldDefinition("latestReview"));
+        assertNotNull(((GraphQLObjectType) extended.getType("Author")).getFieldDefinition("biography"));
+        //Untouched types are shared, while the ones referring to the extended type are re-mapped
+        assertSame(initial.getType("Publisher"), extended.getType("Publisher"));
+        assertNotSame(initial.getType("Book"), extended.getType("Book"));
+
+        ExecutionResult result = GraphQL.newGraphQL(extended).build()
+                .execute("{book {title author {biography} publisher {name}} latestReview {stars book {title}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Kaqqao wrote it", result, "book.author.biography");
+        assertValueAtPathEquals("SPQR", result, "latestReview.book.title");
+
+        GraphQLSchema reduced = generator
+                .withoutOperationsFrom(ReviewPlugin.class)
+                .regenerate();
+        assertNull(reduced.getQueryType().getFieldDefinition("latestReview"));
+        assertNull(reduced.getType("Review"));
+        assertNull(((GraphQLObjectType) reduced.getType("Author")).getFieldDefinition("biography"));
+        assertSame(initial.getType("Publisher"), reduced.getType("Publisher"));
+        //The data fetchers of the removed operations are gone, leaving only the default one
+        GraphQLFieldDefinition removed = extended.getQueryType().getFieldDefinition("latestReview");
+        assertTrue(reduced.getCodeRegistry().getDataFetcher(FieldCoordinates.coordinates(reduced.getQueryType().getName(), removed.getName()), removed)
+                instanceof PropertyDataFetcher);
+
+        result = GraphQL.newGraphQL(reduced).build().execute("{book {title author {name} publisher {name}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Leangen", result, "book.publisher.name");
+    }
+
+    @Test
+    public void testReusedInterfaceResolvesRemappedImplementation() {
+        GraphQLSchemaGenerator generator = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new PetService());
+        GraphQLSchema initial = generator.generate();
+        ExecutionResult result = GraphQL.newGraphQL(initial).build().execute("{pet {name}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Rex", result, "pet.name");
+
+        GraphQLSchema extended = generator
+                .withOperationsFromSingleton(new BarkPlugin())
+                .regenerate();
+        assertSame(initial.getType("Animal"), extended.getType("Animal"));
+        result = GraphQL.newGraphQL(extended).build().execute("{pet {... on Dog {bark}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("woof", result, "pet.bark");
+    }
+
+    public static class CatalogService {
+        @GraphQLQuery
+        public Book book() {
+            return new Book();
+        }
+    }
+
+    public static class ReviewPlugin {
+        @GraphQLQuery
+        public Review latestReview() {
+            return new Review();
+        }
+
+        @GraphQLQuery
+        public String biography(@GraphQLContext Author author) {
+            return author.getName() + " wrote it";
+        }
+    }
+
+    public static class Book {
+        public String getTitle() {
+            return "SPQR";
+        }
+
+        public Author getAuthor() {
+            return new Author();
+        }
+
+        public Publisher getPublisher() {
+            return new Publisher();
+        }
+    }
+
+    public static class Author {
+        public String getName() {
+            return "Kaqqao";
+        }
+    }
+
+    public static class Publisher {
+        public String getName() {
+            return "Leangen";
+        }
+    }
+
+    public static class Review {
+        public int getStars() {
+            return 5;
+        }
+
+        public Book getBook() {
+            return new Book();
+        }
+    }
+
+    public static class PetService {
+        @GraphQLQuery
+        public Animal pet() {
+            return new Dog();
+        }
+    }
+
+    public static class BarkPlugin {
+        @GraphQLQuery
+        public String bark(@GraphQLContext Dog dog) {
+            return "woof";
+        }
+    }
+
+    @GraphQLInterface(name = "Animal", implementationAutoDiscovery = true)
+    public interface Animal {
+        String getName();
+    }
+
+    public static class Dog implements Animal {
+        @Override
+        public String getName() {
+            return "Rex";
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.schema.GraphQLSchema;
@@ -22,10 +23,16 @@ import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapperFactory;
 import org.junit.Test;
 
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertTypeAtPathIs;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
 
 public class JsonTypeMappingTest {
 
@@ -62,6 +69,30 @@ public class JsonTypeMappingTest {
         assertTypeAtPathIs(ObjectNode.class, result, "item.array.1");
     }
 
+    @Test
+    public void testJacksonNodeVariables() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new JacksonNodeService())
+                .generate();
+
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema).build();
+        Map<String, Object> blob = new LinkedHashMap<>();
+        blob.put("name", "blob");
+        blob.put("sizes", Arrays.asList(1, 2.5, null));
+        blob.put("nested", Collections.singletonMap("flag", true));
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("obj", blob);
+        variables.put("any", Arrays.asList("x", 7L));
+        ExecutionResult result = exe.execute(ExecutionInput.newExecutionInput()
+                .query("query ($obj: JsonObject, $any: Json) {obj(in: $obj), any(in: $any), literal(in: {wrapped: $obj})}")
+                .variables(variables)
+                .build());
+        assertNoErrors(result);
+        assertValueAtPathEquals("ObjectNode:{\"name\":\"blob\",\"sizes\":[1,2.5,null],\"nested\":{\"flag\":true}}", result, "obj");
+        assertValueAtPathEquals("ArrayNode:[\"x\",7]", result, "any");
+        assertValueAtPathEquals("ObjectNode:{\"wrapped\":{\"name\":\"blob\",\"sizes\":[1,2.5,null],\"nested\":{\"flag\":true}}}", result, "literal");
+    }
+
     @Test
     public void testGsonTypeMapping() {
         GraphQLSchemaGenerator gen = new TestSchemaGenerator()
@@ -155,6 +186,24 @@ public class JsonTypeMappingTest {
         }
     }
 
+    public static class JacksonNodeService {
+
+        @GraphQLQuery
+        public String obj(ObjectNode in) {
+            return in.getClass().getSimpleName() + ":" + in;
+        }
+
+        @GraphQLQuery
+        public String any(JsonNode in) {
+            return in.getClass().getSimpleName() + ":" + in;
+        }
+
+        @GraphQLQuery
+        public String literal(ObjectNode in) {
+            return in.getClass().getSimpleName() + ":" + in;
+        }
+    }
+
     public static class GsonService {
 
         @GraphQLQuery
@@ -0,0 +1,80 @@
+package io.leangen.graphql;
+
+import graphql.schema.GraphQLSchema;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeFactory;
+import io.leangen.graphql.generator.MetadataFootprint;
+import io.leangen.graphql.metadata.Operation;
+import io.leangen.graphql.services.AuthorService;
+import io.leangen.graphql.services.BookService;
+import io.leangen.graphql.services.ReviewService;
+import io.leangen.graphql.util.AnnotatedTypeInterner;
+import io.leangen.graphql.util.Directives;
+import org.junit.Test;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetadataInterningTest {
+
+    @Test
+    public void testMetadataTypesInterned() throws NoSuchMethodException {
+        //Map<Local, Local> is not used anywhere else, so no canonical instance can exist beforehand
+        AnnotatedType first = Local.class.getMethod("mapped").getAnnotatedReturnType();
+        AnnotatedType second = GenericTypeReflector.annotate(TypeFactory.parameterizedClass(Map.class, Local.class, Local.class));
+        assertNotSame(first, second);
+
+        AnnotatedType canonical = AnnotatedTypeInterner.intern(first);
+        assertSame(first, canonical);
+        assertSame(canonical, AnnotatedTypeInterner.intern(second));
+        assertSame(canonical, AnnotatedTypeInterner.intern(first));
+        assertNotSame(canonical, AnnotatedTypeInterner.intern(
+                GenericTypeReflector.annotate(TypeFactory.parameterizedClass(Map.class, Local.class, String.class))));
+    }
+
+    @Test
+    public void testOperationTypesShared() throws NoSuchMethodException {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingletons(new BookService(), new AuthorService(), new ReviewService())
+                .generate();
+        Operation book = operation(schema, "book");
+        Operation author = operation(schema, "author");
+        Operation review = operation(schema, "review");
+
+        //Equal types of distinct methods and parameters are represented by a single instance
+        assertNotSame(BookService.class.getMethod("book", String.class).getAnnotatedReturnType(),
+                AuthorService.class.getMethod("author", String.class).getAnnotatedReturnType());
+        assertSame(book.getJavaType(), author.getJavaType());
+        assertSame(book.getJavaType(), review.getJavaType());
+        assertSame(book.getTypedElement().getJavaType(), author.getTypedElement().getJavaType());
+        assertSame(book.getArguments().get(0).getJavaType(), author.getArguments().get(0).getJavaType());
+        assertSame(operation(schema, "books").getJavaType(), operation(schema, "authors").getJavaType());
+        assertNotSame(book.getArguments().get(0).getJavaType(), review.getArguments().get(0).getJavaType());
+    }
+
+    @Test
+    public void testMetadataFootprint() {
+        MetadataFootprint footprint = new TestSchemaGenerator()
+                .withOperationsFromSingletons(new BookService(), new AuthorService(), new ReviewService())
+                .generateWithReport()
+                .getMetadataFootprint();
+        assertEquals(9, footprint.getOperationCount());
+        assertTrue(footprint.getTypeReferenceCount() > footprint.getDistinctTypeCount());
+        assertEquals(0, footprint.getRedundantTypeInstanceCount());
+        assertTrue(footprint.toString().startsWith("Schema metadata"));
+    }
+
+    private static Operation operation(GraphQLSchema schema, String name) {
+        return Directives.getMappedOperation(schema.getQueryType().getFieldDefinition(name)).orElseThrow(AssertionError::new);
+    }
+
+    public static class Local {
+        public Map<Local, Local> mapped() { return Collections.emptyMap(); }
+    }
+}
@@ -0,0 +1,47 @@
+package io.leangen.graphql;
+
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.services.AuthorService;
+import io.leangen.graphql.services.BookService;
+import io.leangen.graphql.services.ReviewService;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelResolverDiscoveryTest {
+
+    @Test
+    public void testParallelResolverDiscovery() {
+        GraphQLSchema sequential = new TestSchemaGenerator()
+                .withOperationsFromSingletons(new Dummy(), new BookService(), new AuthorService(), new ReviewService())
+                .generate();
+        GraphQLSchema parallel = new TestSchemaGenerator()
+                .withOperationsFromSingletons(new Dummy(), new BookService(), new AuthorService(), new ReviewService())
+                .withParallelism(4)
+                .generate();
+
+        assertEquals(fieldNames(sequential.getQueryType()), fieldNames(parallel.getQueryType()));
+        assertEquals(fieldNames(sequential.getMutationType()), fieldNames(parallel.getMutationType()));
+        assertEquals(7, parallel.getQueryType().getFieldDefinitions().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new TestSchemaGenerator().withParallelism(0);
+    }
+
+    private static List<String> fieldNames(GraphQLObjectType type) {
+        return type.getFieldDefinitions().stream().map(GraphQLFieldDefinition::getName).collect(Collectors.toList());
+    }
+
+    private static class Dummy {
+        @GraphQLQuery
+        public byte[] bytes;
+    }
+}
@@ -15,8 +15,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -49,6 +52,27 @@ public class PolymorphicJsonTest {
         assertValueAtPathEquals("yayChild", result, "test.item");
     }
 
+    @Test
+    public void testValueMapperSharing() {
+        AtomicInteger created = new AtomicInteger();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withValueMapperFactory((subTypes, env) -> {
+                    created.incrementAndGet();
+                    return valueMapperFactory.getValueMapper(subTypes, env);
+                })
+                .withAbstractInputTypeResolution()
+                .withOperationsFromSingleton(new Operations())
+                .withOperationsFromSingleton(new MoreOperations())
+                .generate();
+
+        //One default mapper, and one shared by all operations accepting Parent
+        assertEquals(2, created.get());
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{testAgain (container: {item: \"yay\", _type_: ChildTwo}) {item}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("yayChildTwo", result, "testAgain.item");
+    }
+
     @Test
     public void testExplicitDeserializableType() {
         //Only test with Jackson as the feature is Jackson specific
@@ -148,6 +172,19 @@ public class PolymorphicJsonTest {
         }
     }
 
+    public static class MoreOperations {
+
+        @GraphQLQuery
+        public Parent<String> testAgain(@GraphQLArgument(name = "container") Parent<String> container) {
+            return container;
+        }
+
+        @GraphQLQuery
+        public String testItem(@GraphQLArgument(name = "container") Parent<String> container) {
+            return container.getItem();
+        }
+    }
+
     public static class Service {
         @GraphQLQuery
         public String item(Wrapper in) {
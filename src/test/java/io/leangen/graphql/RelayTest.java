@@ -18,6 +18,7 @@ import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
 import io.leangen.geantyref.TypeToken;
 import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLEnvironment;
 import io.leangen.graphql.annotations.GraphQLId;
 import io.leangen.graphql.annotations.GraphQLNonNull;
 import io.leangen.graphql.annotations.GraphQLQuery;
@@ -31,7 +32,15 @@ import io.leangen.graphql.domain.Pet;
 import io.leangen.graphql.domain.Robot;
 import io.leangen.graphql.domain.Street;
 import io.leangen.graphql.domain.User;
+import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.execution.relay.Connection;
+import io.leangen.graphql.execution.relay.ConnectionSelection;
+import io.leangen.graphql.execution.relay.CursorProvider;
+import io.leangen.graphql.execution.relay.DecodedGlobalId;
+import io.leangen.graphql.execution.relay.DefaultGlobalIdCodec;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
+import io.leangen.graphql.execution.relay.Keyset;
+import io.leangen.graphql.execution.relay.KeysetCursorProvider;
 import io.leangen.graphql.execution.relay.Page;
 import io.leangen.graphql.execution.relay.generic.PageFactory;
 import io.leangen.graphql.generator.OperationMapper;
@@ -44,21 +53,35 @@ import io.leangen.graphql.util.GraphQLUtils;
 import io.leangen.graphql.util.Urls;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.leangen.graphql.support.GraphQLTypeAssertions.assertNonNull;
 import static io.leangen.graphql.support.LogAssertions.assertWarningsLogged;
+import static io.leangen.graphql.support.QueryResultAssertions.assertErrorsEqual;
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Tests concerning Relay support
@@ -347,6 +370,326 @@ public class RelayTest {
         assertValueAtPathEquals("Correct", result, "node.name");
     }
 
+    @Test
+    public void testDefaultGlobalIdCodecCompatibility() {
+        Relay relay = new Relay();
+        GlobalIdCodec codec = new DefaultGlobalIdCodec();
+        for (String type : Arrays.asList("A", "Ab", "Abc", "Book", "Ω", "Descriptor")) {
+            for (String id : Arrays.asList("", "x", "x1", "x123", "ключ:ц", "a:b:c")) {
+                String globalId = codec.encode(type, id);
+                assertEquals(relay.toGlobalId(type, id), globalId);
+                assertEquals(type, codec.decode(globalId).getType());
+                assertEquals(id, codec.decode(globalId).getId());
+            }
+            for (long id : new long[] {0, 7, -7, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+                assertEquals(relay.toGlobalId(type, Long.toString(id)), codec.encode(type, id));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidGlobalId() {
+        new DefaultGlobalIdCodec().decode("Qm9vaw"); //"Book" with no separator
+    }
+
+    @Test
+    public void testGlobalIdValidation() {
+        GlobalIdCodec codec = new DefaultGlobalIdCodec();
+        for (String invalid : Arrays.asList("", "Qm9vaw", "x123", "Qm9vazp4MTIz!", "Qm9vazp4MTIz=", "Q", "====")) {
+            assertFalse(invalid, codec.tryDecode(invalid).isValid());
+        }
+        DecodedGlobalId decoded = codec.tryDecode(new Relay().toGlobalId("Book", "x123"));
+        assertTrue(decoded.isValid());
+        assertEquals("Book", decoded.getTypeName());
+        assertEquals("x123", decoded.getId());
+        assertEquals("Cat", codec.tryDecode("Q2F0Ojg=").getTypeName());
+    }
+
+    @Test
+    public void testRawIdWithUnknownTypePrefix() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingletons(new BookService())
+                .generate();
+
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        //Valid Base64 of "Unknown:x1", but Unknown is not a type in the schema, so the ID is taken as is
+        String rawId = Base64.getUrlEncoder().withoutPadding().encodeToString("Unknown:x1".getBytes(StandardCharsets.UTF_8));
+        ExecutionResult result = exe.execute("{book(id: \"" + rawId + "\") {id}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(new Relay().toGlobalId("Book", rawId), result, "book.id");
+        result = exe.execute("{book(id: \"" + new Relay().toGlobalId("Book", "x1") + "\") {id}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(new Relay().toGlobalId("Book", "x1"), result, "book.id");
+    }
+
+    @Test
+    public void testCustomGlobalIdCodec() {
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withOperationsFromSingletons(new BookService())
+                .withGlobalIdCodec(new GlobalIdCodec() {
+                    @Override
+                    public String encode(String typeName, String id) {
+                        return typeName + "/" + id;
+                    }
+
+                    @Override
+                    public Relay.ResolvedGlobalId decode(String globalId) {
+                        String[] parts = globalId.split("/", 2);
+                        return new Relay.ResolvedGlobalId(parts[0], parts[1]);
+                    }
+                })
+                .generate();
+
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{node(id: \"Book/x123\") {id ... on Book {title}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Book/x123", result, "node.id");
+        assertValueAtPathEquals("Node Book", result, "node.title");
+    }
+
+    @Test
+    public void testNodesQuery() {
+        BatchBookService bookService = new BatchBookService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingletons(bookService, new DescriptorService())
+                .generate();
+
+        assertNotNull(schema.getQueryType().getFieldDefinition("nodes"));
+
+        Relay relay = new Relay();
+        String book1 = relay.toGlobalId("Book", "x1");
+        String book2 = relay.toGlobalId("Book", "x2");
+        String descriptor = relay.toGlobalId("Descriptor", "{\"title\":\"The key book\",\"id\":\"777\"}");
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{nodes(ids: [\"" + book1 + "\", \"" + descriptor + "\", \"" + book2 + "\"]) {" +
+                "id ... on Book {title} ... on Descriptor {text}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(book1, result, "nodes.0.id");
+        assertValueAtPathEquals("Batched x1", result, "nodes.0.title");
+        assertValueAtPathEquals(descriptor, result, "nodes.1.id");
+        assertValueAtPathEquals(book2, result, "nodes.2.id");
+        assertValueAtPathEquals("Batched x2", result, "nodes.2.title");
+        assertEquals(Collections.singletonList(Arrays.asList("x1", "x2")), bookService.batches);
+    }
+
+    @Test
+    public void testNodesQueryWithInvalidIds() {
+        BatchBookService bookService = new BatchBookService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingletons(bookService, new DescriptorService())
+                .generate();
+
+        Relay relay = new Relay();
+        String book1 = relay.toGlobalId("Book", "x1");
+        String book2 = relay.toGlobalId("Book", "x2");
+        String unknown = relay.toGlobalId("Unknown", "x3");
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{nodes(ids: [\"" + book1 + "\", \"invalid\", \"" + unknown + "\", \"" + book2 + "\"]) {" +
+                "id ... on Book {title}}}");
+        assertErrorsEqual(result, "invalid is not a valid Relay node ID",
+                "Unknown is not a Relay node type or no registered query can fetch it by ID");
+        assertEquals(Arrays.asList("nodes", 1), result.getErrors().get(0).getPath());
+        assertEquals(Arrays.asList("nodes", 2), result.getErrors().get(1).getPath());
+        assertValueAtPathEquals("Batched x1", result, "nodes.0.title");
+        assertValueAtPathEquals(null, result, "nodes.1");
+        assertValueAtPathEquals(null, result, "nodes.2");
+        assertValueAtPathEquals("Batched x2", result, "nodes.3.title");
+        assertEquals(Collections.singletonList(Arrays.asList("x1", "x2")), bookService.batches);
+    }
+
+    @Test
+    public void testNodesQueryWithFailingQueries() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingletons(new FailingBookService(), new DescriptorService())
+                .generate();
+
+        Relay relay = new Relay();
+        String descriptor = relay.toGlobalId("Descriptor", "{\"title\":\"The key book\",\"id\":\"777\"}");
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{nodes(ids: [\"" + relay.toGlobalId("Book", "x1") + "\", \"" + relay.toGlobalId("Book", "broken") + "\", \""
+                + descriptor + "\", \"" + relay.toGlobalId("Book", "x2") + "\"]) {id ... on Book {title}}}");
+        //Only the failed node is missing, as if it was fetched by a separate node query
+        assertEquals(1, result.getErrors().size());
+        assertEquals(Arrays.asList("nodes", 1), result.getErrors().get(0).getPath());
+        assertTrue(result.getErrors().get(0).getMessage().contains("No book broken"));
+        assertValueAtPathEquals("Single x1", result, "nodes.0.title");
+        assertValueAtPathEquals(null, result, "nodes.1");
+        assertValueAtPathEquals(descriptor, result, "nodes.2.id");
+        assertValueAtPathEquals("Single x2", result, "nodes.3.title");
+
+        schema = new TestSchemaGenerator()
+                .withOperationsFromSingletons(new FailingBatchBookService(), new DescriptorService())
+                .generate();
+        exe = GraphQL.newGraphQL(schema).build();
+        result = exe.execute("{nodes(ids: [\"" + relay.toGlobalId("Book", "x1") + "\", \"" + descriptor + "\", \""
+                + relay.toGlobalId("Book", "x2") + "\"]) {id}}");
+        //Each node of the failed batch is reported separately
+        assertEquals(2, result.getErrors().size());
+        assertEquals(Arrays.asList("nodes", 0), result.getErrors().get(0).getPath());
+        assertEquals(Arrays.asList("nodes", 2), result.getErrors().get(1).getPath());
+        assertValueAtPathEquals(null, result, "nodes.0");
+        assertValueAtPathEquals(descriptor, result, "nodes.1.id");
+        assertValueAtPathEquals(null, result, "nodes.2");
+    }
+
+    @Test
+    public void testIdCollectionInjection() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new IdCollectionService())
+                .generate();
+
+        Relay relay = new Relay();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{relayIdSet(ids: [\"" + relay.toGlobalId("Book", "x1") + "\", \""
+                + relay.toGlobalId("Book", "x1") + "\", \"x2\"]) plainIdList(ids: [\"1\", \"2\"])}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("[x1, x2]", result, "relayIdSet");
+        assertValueAtPathEquals("[1, 2]", result, "plainIdList");
+    }
+
+    @Test
+    public void testLazyPage() {
+        LazyBookService bookService = new LazyBookService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(bookService)
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+
+        ExecutionResult result = exe.execute("{books(first:10, after:\"20\") {edges {node {title}}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Tesseract", result, "books.edges.0.node.title");
+        assertTrue(bookService.selection.isNodeSelected());
+        assertFalse(bookService.selection.isCursorSelected());
+        assertFalse(bookService.selection.isPageInfoSelected());
+        assertEquals(0, bookService.cursors.get());
+        assertEquals(0, bookService.counts.get());
+
+        result = exe.execute("{books(first:10, after:\"20\") {pageInfo {hasNextPage hasPreviousPage endCursor}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(true, result, "books.pageInfo.hasNextPage");
+        assertValueAtPathEquals(true, result, "books.pageInfo.hasPreviousPage");
+        assertValueAtPathEquals("22", result, "books.pageInfo.endCursor");
+        assertFalse(bookService.selection.isEdgesSelected());
+        assertTrue(bookService.selection.isCursorSelected());
+        assertTrue(bookService.selection.isHasNextPageSelected());
+        assertEquals(1, bookService.cursors.get());
+        assertEquals(1, bookService.counts.get());
+    }
+
+    @Test
+    public void testLazyPageCursorsWithoutEdges() {
+        AtomicInteger reads = new AtomicInteger();
+        List<Book> books = new AbstractList<Book>() {
+            private final List<Book> delegate = Arrays.asList(new Book("Tesseract", "x123"), new Book("Cosmos", "x456"), new Book("Dune", "x789"));
+
+            @Override
+            public Book get(int index) {
+                reads.incrementAndGet();
+                return delegate.get(index);
+            }
+
+            @Override
+            public int size() {
+                return delegate.size();
+            }
+        };
+        Page<Book> page = PageFactory.createLazyPage(books, PageFactory.offsetBasedCursorProvider(10), () -> false, () -> true);
+
+        //Only the last node is read to get the end cursor, no edges are created
+        assertEquals("13", page.getPageInfo().getEndCursor().getValue());
+        assertEquals(1, reads.get());
+        assertEquals("11", page.getPageInfo().getStartCursor().getValue());
+        assertEquals(2, reads.get());
+        assertEquals("13", page.getEdges().get(2).getCursor().getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testKeysetPagination() {
+        Keyset keyset = new Keyset("x", 42L, 7, null, UUID.randomUUID(), BigDecimal.valueOf(314, 2), Instant.now());
+        assertEquals(keyset, Keyset.decode(keyset.encode()));
+
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new KeysetBookService())
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+
+        ExecutionResult result = exe.execute("{books(first:2) {pageInfo {hasNextPage hasPreviousPage endCursor} edges {node {title}}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Cosmos", result, "books.edges.0.node.title");
+        assertValueAtPathEquals("Dune", result, "books.edges.1.node.title");
+        assertValueAtPathEquals(true, result, "books.pageInfo.hasNextPage");
+        assertValueAtPathEquals(false, result, "books.pageInfo.hasPreviousPage");
+        String endCursor = ((Map<String, Map<String, Map<String, String>>>) result.getData()).get("books").get("pageInfo").get("endCursor");
+
+        result = exe.execute("{books(first:2, after:\"" + endCursor + "\") {pageInfo {hasNextPage hasPreviousPage} edges {node {title}}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Dune", result, "books.edges.0.node.title");
+        assertValueAtPathEquals("Tesseract", result, "books.edges.1.node.title");
+        assertValueAtPathEquals(false, result, "books.pageInfo.hasNextPage");
+        assertValueAtPathEquals(true, result, "books.pageInfo.hasPreviousPage");
+    }
+
+    @Test
+    public void testKeysetEnumOrder() {
+        //Declared in an order different from the alphabetical one
+        KeysetCursorProvider<Priority> cursors = new KeysetCursorProvider<>(priority -> priority);
+        Keyset low = cursors.decode(cursors.createCursor(Priority.LOW, 0).getValue());
+        assertEquals(Arrays.asList(Priority.HIGH, Priority.URGENT),
+                Arrays.stream(Priority.values()).filter(cursors.after(low)).collect(Collectors.toList()));
+        Keyset high = cursors.decode(cursors.createCursor(Priority.HIGH, 0).getValue());
+        assertEquals(Collections.singletonList(Priority.URGENT),
+                Arrays.stream(Priority.values()).filter(cursors.after(high)).collect(Collectors.toList()));
+
+        Keyset unknown = cursors.decode(new Keyset("NONE").encode());
+        try {
+            cursors.after(unknown).test(Priority.LOW);
+            fail("Unknown enum constants must be rejected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("not comparable"));
+        }
+    }
+
+    @Test
+    public void testInvalidKeysets() {
+        char[] chars = new char[70000];
+        Arrays.fill(chars, 'é');
+        Keyset large = new Keyset(new String(chars), new BigInteger(new byte[70000]).add(BigInteger.ONE), 1);
+        assertEquals(large, Keyset.decode(large.encode()));
+
+        //A LocalDate value out of range
+        byte[] outOfRange = ByteBuffer.allocate(9).put((byte) 13).putLong(Long.MAX_VALUE).array();
+        assertInvalidCursor(Base64.getUrlEncoder().withoutPadding().encodeToString(outOfRange));
+        //A String value longer than the cursor
+        assertInvalidCursor(Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] {1, 100, 'x'}));
+
+        //A cursor with a value of a different type than the sort key
+        KeysetCursorProvider<Book> cursors = new KeysetCursorProvider<>(Book::getTitle);
+        Keyset tampered = cursors.decode(new Keyset(42).encode());
+        try {
+            cursors.after(tampered).test(new Book("Dune", "x789"));
+            fail("Incomparable keyset values must be rejected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("not comparable"));
+        }
+
+        try {
+            PageFactory.createKeysetPage(Collections.emptyList(), -1, cursors, false);
+            fail("Negative page size must be rejected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("-1"));
+        }
+    }
+
+    private void assertInvalidCursor(String cursor) {
+        try {
+            Keyset.decode(cursor);
+            fail(cursor + " must not be decodable");
+        } catch (IllegalArgumentException e) {
+            assertEquals(cursor + " is not a valid keyset cursor", e.getMessage());
+        }
+    }
+
     private void testPagedQuery(String query) {
         GraphQLSchema schema = new TestSchemaGenerator()
                 .withOperationsFromSingleton(new BookService())
@@ -419,6 +762,68 @@ public class RelayTest {
         }
     }
 
+    public static class BatchBookService {
+
+        private final List<List<String>> batches = new ArrayList<>();
+
+        @GraphQLQuery
+        public Book book(@GraphQLId(relayId = true) String isbn) {
+            return new Book("Single " + isbn, isbn);
+        }
+
+        @GraphQLQuery
+        public List<Book> booksById(@GraphQLArgument(name = "ids") List<@GraphQLId(relayId = true) String> isbns) {
+            batches.add(isbns);
+            List<Book> books = new ArrayList<>();
+            isbns.forEach(isbn -> books.add(new Book("Batched " + isbn, isbn)));
+            return books;
+        }
+    }
+
+    public static class FailingBookService {
+
+        @GraphQLQuery
+        public Book book(@GraphQLId(relayId = true) String isbn) {
+            if (isbn.equals("broken")) {
+                throw new IllegalStateException("No book " + isbn);
+            }
+            return new Book("Single " + isbn, isbn);
+        }
+    }
+
+    public static class FailingBatchBookService {
+
+        @GraphQLQuery
+        public Book book(@GraphQLId(relayId = true) String isbn) {
+            return new Book("Single " + isbn, isbn);
+        }
+
+        @GraphQLQuery
+        public CompletableFuture<List<Book>> booksById(@GraphQLArgument(name = "ids") List<@GraphQLId(relayId = true) String> isbns) {
+            CompletableFuture<List<Book>> books = new CompletableFuture<>();
+            books.completeExceptionally(new IllegalStateException("Book store unavailable"));
+            return books;
+        }
+    }
+
+    public static class IdCollectionService {
+
+        @GraphQLQuery
+        public Book book(@GraphQLId(relayId = true) String isbn) {
+            return new Book("Node Book", isbn);
+        }
+
+        @GraphQLQuery
+        public String relayIdSet(@GraphQLArgument(name = "ids") Set<@GraphQLId(relayId = true) String> ids) {
+            return ids.toString();
+        }
+
+        @GraphQLQuery
+        public String plainIdList(@GraphQLArgument(name = "ids") List<@GraphQLId Long> ids) {
+            return ids.toString();
+        }
+    }
+
     public static class DescriptorService {
 
         @GraphQLQuery
@@ -516,6 +921,50 @@ public class RelayTest {
         }
     }
 
+    public static class LazyBookService {
+
+        private final AtomicInteger cursors = new AtomicInteger();
+        private final AtomicInteger counts = new AtomicInteger();
+        private ConnectionSelection selection;
+
+        @GraphQLQuery
+        public Page<Book> books(@GraphQLArgument(name = "first") int first, @GraphQLArgument(name = "after") String after,
+                                @GraphQLEnvironment ResolutionEnvironment env) {
+            selection = env.getConnectionSelection();
+            counts.set(0);
+            cursors.set(0);
+            List<Book> books = Arrays.asList(new Book("Tesseract", "x123"), new Book("Cosmos", "x456"));
+            long offset = Long.parseLong(after);
+            Page<Book> offsetPage = PageFactory.createLazyOffsetBasedPage(books, () -> counts.incrementAndGet() * 100L, offset);
+            CursorProvider<Book> cursorProvider = (node, index) -> {
+                cursors.incrementAndGet();
+                return PageFactory.<Book>offsetBasedCursorProvider(offset).createCursor(node, index);
+            };
+            return PageFactory.createLazyPage(books, cursorProvider,
+                    () -> offsetPage.getPageInfo().isHasNextPage(), () -> offsetPage.getPageInfo().isHasPreviousPage());
+        }
+    }
+
+    public static class KeysetBookService {
+
+        private static final KeysetCursorProvider<Book> CURSORS = new KeysetCursorProvider<>(Book::getTitle, Book::getIsbn);
+        private final List<Book> books = Arrays.asList(
+                new Book("Cosmos", "x456"), new Book("Dune", "x789"), new Book("Dune", "x790"), new Book("Tesseract", "x123"));
+
+        @GraphQLQuery
+        public Page<Book> books(@GraphQLArgument(name = "first") int first, @GraphQLArgument(name = "after") String after) {
+            List<Book> nodes = books.stream()
+                    .filter(CURSORS.after(CURSORS.decode(after)))
+                    .limit(first + 1)
+                    .collect(Collectors.toList());
+            return PageFactory.createKeysetPage(nodes, first, CURSORS, after != null);
+        }
+    }
+
+    public enum Priority {
+        LOW, HIGH, URGENT
+    }
+
     public static class ConflictingBookService {
         @GraphQLQuery(name = "empty")
         public Page<Book> getEmpty(@GraphQLArgument(name = "first") int first, @GraphQLArgument(name = "after") String after) {
@@ -10,10 +10,12 @@ import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.domain.Person;
 import io.leangen.graphql.execution.GlobalEnvironment;
 import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.metadata.execution.GeneratedMethodInvoker;
 import io.leangen.graphql.metadata.strategy.DefaultInclusionStrategy;
 import io.leangen.graphql.metadata.strategy.InclusionStrategy;
 import io.leangen.graphql.metadata.strategy.query.AnnotatedResolverBuilder;
 import io.leangen.graphql.metadata.strategy.query.BeanResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.GeneratedMethodInvokerFactory;
 import io.leangen.graphql.metadata.strategy.query.OperationInfoGenerator;
 import io.leangen.graphql.metadata.strategy.query.OperationInfoGeneratorParams;
 import io.leangen.graphql.metadata.strategy.query.PublicResolverBuilder;
@@ -21,26 +23,39 @@ import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilderParams;
 import io.leangen.graphql.metadata.strategy.type.DefaultTypeTransformer;
 import io.leangen.graphql.metadata.strategy.type.TypeTransformer;
+import io.leangen.graphql.processor.OperationInvokerProcessor;
+import io.leangen.graphql.support.TestCompiler;
 import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.Utils;
 import lombok.Getter;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.Serializable;
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.leangen.graphql.support.GraphQLTypeAssertions.assertFieldNamesEqual;
 import static io.leangen.graphql.util.GraphQLUtils.name;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class ResolverBuilderTest {
 
@@ -49,6 +64,9 @@ public class ResolverBuilderTest {
     private static final TypeTransformer TYPE_TRANSFORMER = new DefaultTypeTransformer(false, false);
     private static final GlobalEnvironment ENVIRONMENT = new TestGlobalEnvironment();
 
+    @Rule
+    public TemporaryFolder classes = new TemporaryFolder();
+
     @Test
     public void bridgeMethodTest() {
         Collection<Resolver> resolvers = new PublicResolverBuilder(BASE_PACKAGES).buildQueryResolvers(new ResolverBuilderParams(
@@ -172,6 +190,67 @@ public class ResolverBuilderTest {
         assertTrue(resolvers.stream().anyMatch(resolver -> resolver.getOperationName().equals("userHandle")));
     }
 
+    @Test
+    public void generatedInvokerTest() throws Exception {
+        String source = "package io.leangen.graphql.generated;\n" +
+                "import io.leangen.graphql.annotations.GraphQLQuery;\n" +
+                "public class GreetingService {\n" +
+                "    @GraphQLQuery public String greeting(String name) { return \"Hello, \" + name; }\n" +
+                "    @GraphQLQuery public static int sum(int[] numbers) { return java.util.Arrays.stream(numbers).sum(); }\n" +
+                "    @GraphQLQuery public long twice(long number) { return number * 2; }\n" +
+                "    @GraphQLQuery public String fail() throws java.io.IOException { throw new java.io.IOException(\"Boom\"); }\n" +
+                "    @GraphQLQuery public String crash() { throw new AssertionError(\"Crash\"); }\n" +
+                "}\n";
+        TestCompiler.compile(classes.getRoot(), new OperationInvokerProcessor(),
+                Collections.singletonMap("io.leangen.graphql.generated.GreetingService", source));
+        assertTrue(new File(classes.getRoot(), "io/leangen/graphql/generated/GreetingService_SpqrInvokers.class").exists());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            Object service = loader.loadClass("io.leangen.graphql.generated.GreetingService").getDeclaredConstructor().newInstance();
+            Map<String, Resolver> resolvers = resolvers(service, new AnnotatedResolverBuilder().withMethodInvokerFactory(new GeneratedMethodInvokerFactory()))
+                    .iterator().next().stream()
+                    .collect(Collectors.toMap(Resolver::getOperationName, Function.identity()));
+            assertEquals(5, resolvers.size());
+            resolvers.values().forEach(resolver -> assertTrue(resolver.getExecutable() instanceof GeneratedMethodInvoker));
+
+            assertEquals("Hello, World", resolvers.get("greeting").resolve(null, new Object[] {"World"}));
+            assertEquals(6, resolvers.get("sum").resolve(null, new Object[] {new int[] {1, 2, 3}}));
+            assertEquals(42L, resolvers.get("twice").resolve(null, new Object[] {21L}));
+            try {
+                resolvers.get("twice").resolve(null, new Object[] {null});
+                fail("Null argument for a primitive parameter should have been rejected");
+            } catch (IllegalArgumentException e) {
+                //Rejected before invocation, same as by reflection
+            }
+            //Widened, same as by reflection
+            assertEquals(42L, resolvers.get("twice").resolve(null, new Object[] {21}));
+            try {
+                resolvers.get("twice").resolve(null, new Object[] {21.0});
+                fail("Argument not convertible to the primitive parameter should have been rejected");
+            } catch (IllegalArgumentException e) {
+                //Rejected before invocation, same as by reflection
+            }
+            try {
+                resolvers.get("greeting").resolve(null, new Object[] {42});
+                fail("Argument of a wrong type should have been rejected");
+            } catch (IllegalArgumentException e) {
+                //Rejected before invocation, same as by reflection
+            }
+            try {
+                resolvers.get("crash").resolve(null, new Object[0]);
+                fail("Error thrown by the method should have been propagated");
+            } catch (InvocationTargetException e) {
+                assertEquals("Crash", e.getCause().getMessage());
+            }
+            try {
+                resolvers.get("fail").resolve(null, new Object[0]);
+                fail("Exception thrown by the method should have been propagated");
+            } catch (InvocationTargetException e) {
+                assertEquals("Boom", e.getCause().getMessage());
+            }
+        }
+    }
+
     private Collection<Collection<Resolver>> resolvers(Object bean, ResolverBuilder... builders) {
         Collection<Collection<Resolver>> resolvers = new ArrayList<>(builders.length);
         for (ResolverBuilder builder : builders) {
@@ -120,7 +120,7 @@ public class SchemaTest {
                 .generate();
 
         schema.getQueryType().getFieldDefinitions().forEach(fieldDef -> {
-            if (!GraphQLUtils.isRelayNodeInterface(fieldDef.getType())) {
+            if (!GraphQLUtils.isRelayNodeInterface(GraphQLUtils.unwrap(fieldDef.getType()))) {
                 //All operations must have the underlying Java element mapped
                 assertTrue(Directives.getMappedOperation(fieldDef).isPresent());
             }
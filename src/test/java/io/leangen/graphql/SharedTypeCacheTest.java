@@ -0,0 +1,220 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLContext;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.types.GraphQLInterface;
+import io.leangen.graphql.execution.InvocationContext;
+import io.leangen.graphql.execution.ResolverInterceptor;
+import io.leangen.graphql.generator.SharedTypeCache;
+import io.leangen.graphql.metadata.strategy.type.DefaultTypeInfoGenerator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SharedTypeCacheTest {
+
+    @Test
+    public void testTypesSharedBetweenGenerators() {
+        SharedTypeCache cache = new SharedTypeCache();
+        GraphQLSchema extending = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withOperationsFromSingleton(new BiographyService())
+                .withSharedTypeCache(cache, "catalog")
+                .generate();
+        GraphQLSchema plain = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withSharedTypeCache(cache, "catalog")
+                .generate();
+        GraphQLSchema other = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withOperationsFromSingleton(new PublisherService())
+                .withSharedTypeCache(cache, "catalog")
+                .generate();
+
+        //The types untouched by the context operations are shared
+        assertSame(extending.getType("Publisher"), plain.getType("Publisher"));
+        assertSame(extending.getType("Publisher"), other.getType("Publisher"));
+        //The extended types, and the ones referring to them, are only shared by the generators not extending them
+        assertNotNull(((GraphQLObjectType) extending.getType("Author")).getFieldDefinition("biography"));
+        assertNull(((GraphQLObjectType) plain.getType("Author")).getFieldDefinition("biography"));
+        assertNotSame(extending.getType("Book"), plain.getType("Book"));
+        assertSame(plain.getType("Book"), other.getType("Book"));
+        assertSame(plain.getType("Item"), other.getType("Item"));
+        //Discovered implementations come along with their interface
+        assertSame(plain.getType("Magazine"), other.getType("Magazine"));
+
+        String query = "{items {title ... on Book {author {name}} ... on Magazine {issue}} book {publisher {name}}}";
+        for (GraphQLSchema schema : Arrays.asList(extending, plain, other)) {
+            ExecutionResult result = GraphQL.newGraphQL(schema).build().execute(query);
+            assertNoErrors(result);
+            assertValueAtPathEquals("Kaqqao", result, "items.0.author.name");
+            assertValueAtPathEquals(7, result, "items.1.issue");
+            assertValueAtPathEquals("Leangen", result, "book.publisher.name");
+        }
+        ExecutionResult result = GraphQL.newGraphQL(other).build().execute("{publisher {name}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Leangen", result, "publisher.name");
+    }
+
+    @Test
+    public void testDifferentConfigurationsNotShared() {
+        SharedTypeCache cache = new SharedTypeCache();
+        GraphQLSchema first = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withSharedTypeCache(cache, "catalog")
+                .generate();
+        int cached = cache.size();
+        assertTrue(cached > 0);
+        GraphQLSchema second = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withTypeInfoGenerator(new CustomTypeInfoGenerator())
+                .withSharedTypeCache(cache, "catalog")
+                .generate();
+
+        assertNotSame(first.getType("Publisher"), second.getType("Publisher"));
+        assertTrue(cache.size() > cached);
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDifferentKeysNotShared() {
+        SharedTypeCache cache = new SharedTypeCache();
+        GraphQLSchema english = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withStringInterpolation(key -> "Publisher")
+                .withSharedTypeCache(cache, "en")
+                .generate();
+        GraphQLSchema german = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withStringInterpolation(key -> "Verlag")
+                .withSharedTypeCache(cache, "de")
+                .generate();
+
+        //The message bundles are of the same class, so only the keys tell the configurations apart
+        assertNotSame(english.getType("Publisher"), german.getType("Publisher"));
+    }
+
+    @Test
+    public void testDataFetchersCreatedPerGenerator() {
+        SharedTypeCache cache = new SharedTypeCache();
+        CountingInterceptor first = new CountingInterceptor();
+        CountingInterceptor second = new CountingInterceptor();
+        GraphQLSchema firstSchema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withResolverInterceptors(first)
+                .withSharedTypeCache(cache, "catalog")
+                .generate();
+        GraphQLSchema secondSchema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CatalogService())
+                .withResolverInterceptors(second)
+                .withSharedTypeCache(cache, "catalog")
+                .generate();
+        assertSame(firstSchema.getType("Publisher"), secondSchema.getType("Publisher"));
+
+        ExecutionResult result = GraphQL.newGraphQL(secondSchema).build().execute("{book {publisher {name}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Leangen", result, "book.publisher.name");
+        //Even the fields of the shared types are resolved through the interceptors of the executing generator
+        assertEquals(0, first.invocations.get());
+        assertEquals(3, second.invocations.get());
+    }
+
+    public static class CatalogService {
+        @GraphQLQuery
+        public Book book() {
+            return new Book();
+        }
+
+        @GraphQLQuery
+        public List<Item> items() {
+            return Arrays.asList(new Book(), new Magazine());
+        }
+    }
+
+    public static class BiographyService {
+        @GraphQLQuery
+        public String biography(@GraphQLContext Author author) {
+            return author.getName() + " wrote it";
+        }
+    }
+
+    public static class PublisherService {
+        @GraphQLQuery
+        public Publisher publisher() {
+            return new Publisher();
+        }
+    }
+
+    @GraphQLInterface(name = "Item", implementationAutoDiscovery = true)
+    public interface Item {
+        String getTitle();
+    }
+
+    public static class Book implements Item {
+        @Override
+        public String getTitle() {
+            return "SPQR";
+        }
+
+        public Author getAuthor() {
+            return new Author();
+        }
+
+        public Publisher getPublisher() {
+            return new Publisher();
+        }
+    }
+
+    public static class Magazine implements Item {
+        @Override
+        public String getTitle() {
+            return "Monthly";
+        }
+
+        public int getIssue() {
+            return 7;
+        }
+    }
+
+    public static class Author {
+        public String getName() {
+            return "Kaqqao";
+        }
+    }
+
+    public static class Publisher {
+        public String getName() {
+            return "Leangen";
+        }
+    }
+
+    public static class CustomTypeInfoGenerator extends DefaultTypeInfoGenerator {
+    }
+
+    public static class CountingInterceptor implements ResolverInterceptor {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public Object aroundInvoke(InvocationContext context, Continuation continuation) throws Exception {
+            invocations.incrementAndGet();
+            return continuation.proceed(context);
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package io.leangen.graphql;
 
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.language.BooleanValue;
 import graphql.language.IntValue;
 import graphql.language.StringValue;
 import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
 import io.leangen.geantyref.TypeFactory;
 import io.leangen.graphql.annotations.GraphQLArgument;
 import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.generator.mapping.common.EpochTemporalScalarMapper;
 import io.leangen.graphql.util.Scalars;
 import org.junit.Test;
 
@@ -22,11 +28,16 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Map;
 
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TemporalScalarsTest {
 
@@ -104,6 +115,56 @@ public class TemporalScalarsTest {
         testTemporal(OffsetDateTime.class, "2017-06-24T23:15:44.510Z", "2017-06-24T22:15:44.510-01:00", 1498346144510L);
     }
 
+    @Test
+    public void testEpochTemporals() {
+        Map<Class<?>, GraphQLScalarType> millis = Scalars.epochTemporalScalars(Scalars.EpochUnit.MILLIS);
+        Map<Class<?>, GraphQLScalarType> micros = Scalars.epochTemporalScalars(Scalars.EpochUnit.MICROS);
+        Instant instant = Instant.parse("2017-06-24T23:22:34.120456Z");
+
+        Coercing instantCoercing = millis.get(Instant.class).getCoercing();
+        assertEquals(1498346554120L, instantCoercing.serialize(instant));
+        assertEquals(instant.truncatedTo(ChronoUnit.MILLIS), instantCoercing.parseValue(1498346554120L));
+        assertEquals(instant, instantCoercing.parseValue("2017-06-24T23:22:34.120456Z"));
+        assertEquals(instant, instantCoercing.parseLiteral(new StringValue("2017-06-24T23:22:34.120456Z")));
+
+        Coercing microsCoercing = micros.get(Instant.class).getCoercing();
+        assertEquals(1498346554120456L, microsCoercing.serialize(instant));
+        assertEquals(instant, microsCoercing.parseLiteral(new IntValue(BigInteger.valueOf(1498346554120456L))));
+        assertEquals(Instant.parse("1969-12-31T23:59:59.999999Z"), microsCoercing.parseValue(-1L));
+
+        //Values without a timezone are taken as UTC, times of day are anchored to the epoch day
+        assertEquals(1498346554120L, millis.get(LocalDateTime.class).getCoercing().serialize(LocalDateTime.parse("2017-06-24T23:22:34.120")));
+        assertEquals(1498262400000L, millis.get(LocalDate.class).getCoercing().serialize(LocalDate.parse("2017-06-24")));
+        assertEquals(33330000L, millis.get(LocalTime.class).getCoercing().serialize(LocalTime.parse("09:15:30")));
+        assertEquals(1498346554120L, millis.get(OffsetDateTime.class).getCoercing().serialize(OffsetDateTime.parse("2017-06-24T22:22:34.120-01:00")));
+        assertEquals(1498346554120L, millis.get(Date.class).getCoercing().serialize(new Date(1498346554120L)));
+        assertEquals(LocalDate.parse("2017-06-24"), millis.get(LocalDate.class).getCoercing().parseValue(1498262400000L));
+
+        //Unsupported inputs are reported as such
+        try {
+            instantCoercing.parseValue(true);
+            fail("Boolean input must be rejected");
+        } catch (CoercingParseValueException e) {
+            assertEquals(Scalars.errorMessage(true, Long.class, String.class), e.getMessage());
+        }
+        try {
+            instantCoercing.parseLiteral(new BooleanValue(true));
+            fail("Boolean literal must be rejected");
+        } catch (CoercingParseLiteralException e) {
+            assertEquals(Scalars.errorMessage(new BooleanValue(true), IntValue.class, StringValue.class), e.getMessage());
+        }
+
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withTypeMappers(new EpochTemporalScalarMapper())
+                .withOperationsFromSingleton(new ScalarService(), TypeFactory.parameterizedClass(ScalarService.class, Instant.class))
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{identity(input: \"2017-06-24T23:22:34.120Z\") epoch: identity(input: 1498346554120)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(1498346554120L, result, "identity");
+        assertValueAtPathEquals(1498346554120L, result, "epoch");
+    }
+
     private void testTemporal(Class type, String expected, long literal) {
         testTemporal(type, expected, expected, literal);
     }
@@ -0,0 +1,118 @@
+package io.leangen.graphql;
+
+import graphql.schema.GraphQLSchema;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.generator.mapping.TypeMapper;
+import io.leangen.graphql.generator.mapping.TypeMapperRegistry;
+import io.leangen.graphql.generator.mapping.common.ScalarMapper;
+import org.junit.Test;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TypeMapperSelectionTest {
+
+    @Test
+    public void testTypeMapperSelectionMemoized() {
+        AtomicInteger checks = new AtomicInteger();
+        ScalarMapper counting = new ScalarMapper() {
+            @Override
+            public boolean supports(AnnotatedElement element, AnnotatedType type) {
+                checks.incrementAndGet();
+                return super.supports(element, type);
+            }
+        };
+        ScalarMapper fallback = new ScalarMapper();
+        TypeMapperRegistry registry = new TypeMapperRegistry(Arrays.asList(counting, fallback));
+
+        //Structurally equal, but distinct, instances
+        assertSame(counting, registry.getTypeMapper(null, GenericTypeReflector.annotate(String.class), new HashSet<>()));
+        assertSame(counting, registry.getTypeMapper(null, GenericTypeReflector.annotate(String.class), new HashSet<>()));
+        assertEquals(1, checks.get());
+
+        Set<Class<? extends TypeMapper>> skip = new HashSet<>(Collections.singleton(counting.getClass()));
+        assertSame(fallback, registry.getTypeMapper(null, GenericTypeReflector.annotate(String.class), skip));
+        skip.clear(); //Modifying the skip set later must not affect the memoized selection
+        assertSame(counting, registry.getTypeMapper(null, GenericTypeReflector.annotate(String.class), skip));
+
+        assertEquals(String.class, registry.getMappableType(null, GenericTypeReflector.annotate(String.class)).getType());
+        assertEquals(String.class, registry.getMappableType(null, GenericTypeReflector.annotate(String.class)).getType());
+        assertEquals(2, checks.get());
+    }
+
+    @Test
+    public void testTypeMapperSelectionSharedAcrossFields() {
+        CountingScalarMapper counting = new CountingScalarMapper(false);
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new TextService())
+                .withTypeMappers(counting)
+                .generate();
+        assertEquals(3, schema.getQueryType().getFieldDefinitions().size());
+        //String is used by every operation, argument and field, but the mapper is only consulted for it once
+        //for the mapping, and once for resolving its mappable type
+        assertEquals(2, counting.stringChecks.get());
+    }
+
+    @Test
+    public void testElementInspectingTypeMapper() {
+        CountingScalarMapper counting = new CountingScalarMapper(true);
+        new TestSchemaGenerator()
+                .withOperationsFromSingleton(new TextService())
+                .withTypeMappers(counting)
+                .generate();
+        //The mapper is consulted for each element separately
+        assertTrue(counting.stringChecks.get() >= 5);
+    }
+
+    private static class CountingScalarMapper extends ScalarMapper {
+
+        private final boolean inspectsElement;
+        private final AtomicInteger stringChecks = new AtomicInteger();
+
+        CountingScalarMapper(boolean inspectsElement) {
+            this.inspectsElement = inspectsElement;
+        }
+
+        @Override
+        public boolean supports(AnnotatedElement element, AnnotatedType type) {
+            if (type.getType() == String.class) {
+                stringChecks.incrementAndGet();
+            }
+            return super.supports(element, type);
+        }
+
+        @Override
+        public boolean inspectsElement() {
+            return inspectsElement;
+        }
+    }
+
+    public static class TextService {
+        @GraphQLQuery
+        public String title(String id) { return id; }
+
+        @GraphQLQuery
+        public String summary(String id, String language) { return id; }
+
+        @GraphQLQuery
+        public Text text(String id) { return new Text(); }
+    }
+
+    public static class Text {
+        @GraphQLQuery
+        public String content;
+
+        @GraphQLQuery
+        public String author;
+    }
+}
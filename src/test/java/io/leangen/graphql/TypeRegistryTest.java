@@ -19,13 +19,16 @@ import io.leangen.graphql.domain.Education;
 import io.leangen.graphql.domain.Street;
 import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.generator.OperationMapper;
+import io.leangen.graphql.generator.TypeRegistry;
 import io.leangen.graphql.generator.union.Union2;
 import io.leangen.graphql.support.TestLog;
 import io.leangen.graphql.util.GraphQLUtils;
 import io.leangen.graphql.util.Urls;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 
 import static graphql.schema.GraphQLObjectType.newObject;
 import static io.leangen.graphql.support.LogAssertions.assertWarningsLogged;
@@ -111,6 +114,18 @@ public class TypeRegistryTest {
         }
     }
 
+    @Test
+    public void schemaTypesReplacedTest() {
+        TypeRegistry typeRegistry = new TypeRegistry(Collections.emptyList());
+        assertTrue(typeRegistry.getObjectTypeNames().isEmpty());
+
+        typeRegistry.registerSchemaTypes(Arrays.asList(newObject().name("Kept").build(), newObject().name("Removed").build()));
+        assertEquals(new HashSet<>(Arrays.asList("Kept", "Removed")), typeRegistry.getObjectTypeNames());
+
+        typeRegistry.registerSchemaTypes(Collections.singletonList(newObject().name("Kept").build()));
+        assertEquals(Collections.singleton("Kept"), typeRegistry.getObjectTypeNames());
+    }
+
     private void assertSameType(GraphQLType t1, GraphQLType t2, GraphQLCodeRegistry code1, GraphQLCodeRegistry code2) {
         assertSame(t1, t2);
         if (t1 instanceof GraphQLInterfaceType) {
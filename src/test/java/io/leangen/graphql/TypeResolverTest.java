@@ -2,8 +2,16 @@ package io.leangen.graphql;
 
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.Scalars;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLSchemaElement;
+import graphql.schema.GraphQLTypeVisitorStub;
+import graphql.schema.SchemaTransformer;
+import graphql.util.TraversalControl;
+import graphql.util.TraverserContext;
 import io.leangen.graphql.annotations.GraphQLArgument;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.GraphQLTypeResolver;
@@ -17,10 +25,14 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
+import static graphql.util.TreeTransformerUtil.changeNode;
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Bojan Tomic (kaqqao)
@@ -29,6 +41,7 @@ public class TypeResolverTest {
 
     @Test
     public void testTypeResolver() {
+        RepoTypeResolver.instances.set(0);
         GraphQLSchema schema = new TestSchemaGenerator()
                 .withOperationsFromSingleton(new RepoService())
                 .generate();
@@ -46,6 +59,7 @@ public class TypeResolverTest {
         result = exe.execute(String.format(queryTemplate, 3));
         assertNoErrors(result);
         assertValueAtPathEquals("Alma Mater", result, "repo.0.0.school.schoolName");
+        assertEquals(1, RepoTypeResolver.instances.get());
     }
 
     @Test
@@ -70,6 +84,35 @@ public class TypeResolverTest {
         assertNoErrors(res);
     }
 
+    @Test
+    public void testCachedResolutionUsesExecutingSchema() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new RootQuery2())
+                .generate();
+        //Warm up the resolution cache with the original schema
+        assertNoErrors(GraphQL.newGraphQL(schema).build().execute("{contents {id}}"));
+
+        //The same resolver, now in a schema where Movie2 is a different (extended) instance
+        GraphQLSchema extended = SchemaTransformer.transformSchema(schema, new GraphQLTypeVisitorStub() {
+            @Override
+            public TraversalControl visitGraphQLObjectType(GraphQLObjectType node, TraverserContext<GraphQLSchemaElement> context) {
+                if (node.getName().equals("Movie2")) {
+                    return changeNode(context, node.transform(builder -> builder.field(newFieldDefinition()
+                            .name("tag")
+                            .type(Scalars.GraphQLString))));
+                }
+                return super.visitGraphQLObjectType(node, context);
+            }
+        });
+        extended = extended.transform(builder -> builder.codeRegistry(schema.getCodeRegistry().transform(
+                registry -> registry.dataFetcher(FieldCoordinates.coordinates("Movie2", "tag"), (DataFetcher<?>) env -> "tagged"))));
+
+        ExecutionResult result = GraphQL.newGraphQL(extended).build().execute("{contents {id ... on Movie2 {tag}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("tagged", result, "contents.2.tag");
+        assertValueAtPathEquals("tagged", result, "contents.3.tag");
+    }
+
     public static class RootQuery {
         @GraphQLQuery
         public List<Content> contents() {
@@ -268,6 +311,12 @@ public class TypeResolverTest {
 
     public static class RepoTypeResolver implements TypeResolver {
 
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public RepoTypeResolver() {
+            instances.incrementAndGet();
+        }
+
         @Override
         public GraphQLObjectType resolveType(TypeResolutionEnvironment env) {
             String typeName = "SessionRepo_" + ((SessionRepo) env.getObject()).getStoredItem().getClass().getSimpleName();
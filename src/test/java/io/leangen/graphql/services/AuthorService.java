@@ -0,0 +1,25 @@
+package io.leangen.graphql.services;
+
+import io.leangen.graphql.annotations.GraphQLMutation;
+import io.leangen.graphql.annotations.GraphQLQuery;
+
+import java.util.Collections;
+import java.util.List;
+
+public class AuthorService {
+
+    @GraphQLQuery
+    public String author(String name) {
+        return name;
+    }
+
+    @GraphQLQuery
+    public List<String> authors() {
+        return Collections.emptyList();
+    }
+
+    @GraphQLMutation
+    public String saveAuthor(String name) {
+        return name;
+    }
+}
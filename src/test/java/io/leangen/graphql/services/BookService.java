@@ -0,0 +1,25 @@
+package io.leangen.graphql.services;
+
+import io.leangen.graphql.annotations.GraphQLMutation;
+import io.leangen.graphql.annotations.GraphQLQuery;
+
+import java.util.Collections;
+import java.util.List;
+
+public class BookService {
+
+    @GraphQLQuery
+    public String book(String isbn) {
+        return isbn;
+    }
+
+    @GraphQLQuery
+    public List<String> books() {
+        return Collections.emptyList();
+    }
+
+    @GraphQLMutation
+    public String saveBook(String isbn) {
+        return isbn;
+    }
+}
@@ -0,0 +1,25 @@
+package io.leangen.graphql.services;
+
+import io.leangen.graphql.annotations.GraphQLMutation;
+import io.leangen.graphql.annotations.GraphQLQuery;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ReviewService {
+
+    @GraphQLQuery
+    public String review(int id) {
+        return null;
+    }
+
+    @GraphQLQuery
+    public List<String> reviews() {
+        return Collections.emptyList();
+    }
+
+    @GraphQLMutation
+    public String deleteReview(int id) {
+        return null;
+    }
+}
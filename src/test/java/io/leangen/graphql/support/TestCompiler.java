@@ -0,0 +1,56 @@
+package io.leangen.graphql.support;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+/**
+ * Compiles sources in-memory (with the given annotation processor), skipping the test if no compiler is available
+ */
+public class TestCompiler {
+
+    public static void compile(File outputDirectory, Processor processor, Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+        List<JavaFileObject> files = sources.entrySet().stream()
+                .map(source -> new SourceFile(source.getKey(), source.getValue()))
+                .collect(Collectors.toList());
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<String> options = Arrays.asList("-d", outputDirectory.getPath(),
+                    //Previously compiled classes are visible, as on an incremental build
+                    "-classpath", System.getProperty("java.class.path") + File.pathSeparator + outputDirectory.getPath());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, files);
+            task.setProcessors(Collections.singletonList(processor));
+            assertTrue("Compilation failed", task.call());
+        }
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}